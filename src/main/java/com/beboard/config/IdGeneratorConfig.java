@@ -0,0 +1,20 @@
+package com.beboard.config;
+
+import com.beboard.util.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ID 생성기 설정
+ * 엔티티(@SnowflakeId)와 네이티브 INSERT / 대량 적재가 같은 생성기를 사용하도록 공유 인스턴스를 빈으로 노출합니다.
+ * 노드 ID 가 설정되지 않으면 시작을 중단합니다. (SnowflakeIdGenerator.parseNodeId)
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${id.node-id:}") String nodeId) {
+        return SnowflakeIdGenerator.initialize(SnowflakeIdGenerator.parseNodeId(nodeId));
+    }
+}
@@ -0,0 +1,39 @@
+package com.beboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알림 다이제스트(묶음 전송) 설정
+ *
+ * notification.digest.windows 에 알림 타입별 전송 창 길이를 지정합니다.
+ * 창 길이가 0 이면 묶지 않고 즉시 전송합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.digest")
+public class NotificationDigestProperties {
+
+    // 창 안에 쌓을 수 있는 최대 알림 수 (도달 시 즉시 다이제스트 전송)
+    private int sizeCap = 20;
+
+    // 타입별 설정이 없을 때 사용할 기본 창 길이
+    private Duration defaultWindow = Duration.ZERO;
+
+    // 알림 타입 -> 창 길이
+    private Map<String, Duration> windows = new HashMap<>();
+
+    public Duration windowFor(String type) {
+        if (type == null) {
+            return defaultWindow;
+        }
+        return windows.getOrDefault(type, defaultWindow);
+    }
+}
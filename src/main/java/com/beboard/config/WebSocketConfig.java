@@ -1,16 +1,23 @@
 package com.beboard.config;
 
+import com.beboard.util.NotificationSessionRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker // STOMP 사용을 위한 어노테이션 선언
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final NotificationSessionRegistry notificationSessionRegistry;
+
     @Value("${notification.websocket.endpoint}")
     private String wsEndpoint;
 
@@ -45,4 +52,18 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // ex) /user/1/notifications -> 사용자 1에게만 전송
         registry.setUserDestinationPrefix(userDestinationPrefix);
     }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+
+        // 세션별 송신 버퍼를 추적하고, 전체 공지 브로드캐스트 대상 세션을 등록
+        registration.addDecoratorFactory(notificationSessionRegistry);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+
+        // 브로드캐스트 토픽 구독(SUBSCRIBE/UNSUBSCRIBE) 추적
+        registration.interceptors(notificationSessionRegistry);
+    }
 }
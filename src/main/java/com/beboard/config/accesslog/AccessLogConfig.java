@@ -0,0 +1,40 @@
+package com.beboard.config.accesslog;
+
+import com.beboard.config.metrics.RequestMetricsProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청 접근 로그 설정
+ *
+ * 요청마다 컨트롤러에서 INFO 로그를 문자열로 만들어 동기 출력하던 비용을 없애기 위해
+ * 요청당 한 줄만, 경로별 샘플링 후, 별도 스레드에서 기록합니다.
+ * 출력은 com.beboard.access 로거로 나가므로 로그 레벨 / 어펜더는 기존 logging 설정을 따릅니다.
+ */
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+@ConditionalOnProperty(prefix = "access-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogConfig {
+
+    @Bean
+    public AccessLogWriter accessLogWriter(AccessLogProperties properties) {
+        return new AccessLogWriter(properties.getBufferSize());
+    }
+
+    // RequestMetricsFilter(HIGHEST_PRECEDENCE) 안쪽에서 실행하여 측정값을 읽음
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogProperties properties,
+                                                                   AccessLogWriter accessLogWriter,
+                                                                   ObjectProvider<RequestMetricsProperties> requestMetricsProperties) {
+        RequestMetricsProperties metricsProperties = requestMetricsProperties.getIfAvailable(RequestMetricsProperties::new);
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(
+                new AccessLogFilter(properties, accessLogWriter, metricsProperties.getQueryThreshold()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
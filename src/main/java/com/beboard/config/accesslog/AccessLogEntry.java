@@ -0,0 +1,22 @@
+package com.beboard.config.accesslog;
+
+/**
+ * 접근 로그 한 줄에 필요한 값 (요청 스레드는 값만 담고, 문자열 변환은 기록 스레드에서 수행)
+ *
+ * @param sqlCount 측정하지 않은 요청이면 -1
+ * @param userId   비로그인 요청이면 null
+ */
+record AccessLogEntry(
+        long timestamp,
+        String method,
+        String route,
+        int status,
+        long latencyMicros,
+        long sqlCount,
+        double sqlMillis,
+        long redisCount,
+        double redisMillis,
+        double serializationMillis,
+        Long userId,
+        double sampleRate) {
+}
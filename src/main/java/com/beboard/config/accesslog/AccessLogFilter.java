@@ -0,0 +1,99 @@
+package com.beboard.config.accesslog;
+
+import com.beboard.config.metrics.RequestMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청당 한 줄 접근 로그
+ *
+ * 컨트롤러 / 인증 필터에서 요청마다 INFO 로그를 남기던 것을 대신합니다.
+ * 1. 요청이 끝나면 경로 패턴, 상태, 지연, SQL / Redis / 직렬화 측정값(RequestMetrics), 사용자 ID 를 모음
+ * 2. 경로별 샘플링 비율로 기록 여부 결정 (오류 응답, 느린 요청, SQL 기준 초과 요청은 항상 기록)
+ * 3. 값만 담아 AccessLogWriter 링 버퍼에 넣고, 문자열 변환과 출력은 기록 스레드에서 수행
+ * RequestMetricsFilter 안쪽에서 실행되어야 측정값을 읽을 수 있습니다.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    /**
+     * 인증된 사용자 ID 요청 속성 (JwtAuthenticationFilter 가 설정)
+     */
+    public static final String USER_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".userId";
+
+    private static final String UNMATCHED_ROUTE = "-";
+
+    private final AccessLogProperties properties;
+    private final AccessLogWriter writer;
+    private final int queryThreshold;
+    private final Map<String, Double> sampleRateCache = new ConcurrentHashMap<>();
+
+    public AccessLogFilter(AccessLogProperties properties, AccessLogWriter writer, int queryThreshold) {
+        this.properties = properties;
+        this.writer = writer;
+        this.queryThreshold = queryThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        boolean failed = false;
+
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            long latencyMicros = (System.nanoTime() - startNanos) / 1000;
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            record(request, status, latencyMicros);
+        }
+    }
+
+    private void record(HttpServletRequest request, int status, long latencyMicros) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+        RequestMetrics metrics = RequestMetrics.current();
+
+        double sampleRate = sampleRate(request.getMethod(), route);
+        boolean always = status >= 500
+                || latencyMicros >= properties.getSlowThresholdMs() * 1000
+                || (metrics != null && metrics.getStatements() > queryThreshold);
+        if (!always && (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate))) {
+            return;
+        }
+
+        Object userId = request.getAttribute(USER_ID_ATTRIBUTE);
+        writer.submit(new AccessLogEntry(
+                System.currentTimeMillis(),
+                request.getMethod(),
+                route,
+                status,
+                latencyMicros,
+                metrics != null ? metrics.getStatements() : -1,
+                metrics != null ? metrics.getDbMillis() : 0,
+                metrics != null ? metrics.getRedisCommands() : 0,
+                metrics != null ? metrics.getRedisMillis() : 0,
+                metrics != null ? metrics.getSerializationMillis() : 0,
+                userId instanceof Long id ? id : null,
+                always ? 1.0 : sampleRate));
+    }
+
+    private double sampleRate(String method, String route) {
+        if (properties.getSampleRates().isEmpty()) {
+            return properties.getDefaultSampleRate();
+        }
+        return sampleRateCache.computeIfAbsent(method + " " + route,
+                key -> properties.getSampleRates().getOrDefault(key, properties.getDefaultSampleRate()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.beboard.config.accesslog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 접근 로그 설정 (access-log.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+
+    // 접근 로그 사용 여부
+    private boolean enabled = true;
+
+    // 링 버퍼 크기 (2의 거듭제곱으로 올림), 가득 차면 요청 스레드를 막지 않고 버림
+    private int bufferSize = 8192;
+
+    // 샘플링 비율이 없는 경로의 기본값 (0.0 ~ 1.0)
+    private double defaultSampleRate = 1.0;
+
+    // "{메서드} {경로 패턴}" 별 샘플링 비율 (예: "[GET /api/posts/{id}]": 0.1)
+    private Map<String, Double> sampleRates = new LinkedHashMap<>();
+
+    // 이보다 오래 걸린 요청은 샘플링과 관계없이 기록
+    private long slowThresholdMs = 500;
+}
@@ -0,0 +1,65 @@
+package com.beboard.config.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 생산자 / 단일 소비자용 고정 크기 링 버퍼 (락 없음)
+ *
+ * 1. 생산자는 tail 을 CAS 로 하나 차지한 뒤 해당 칸에 값을 씀
+ * 2. 소비자만 head 를 옮기며, 칸을 비운 다음 head 를 공개하므로 생산자는 빈 칸에만 씀
+ * 3. 남은 칸이 없으면 기다리지 않고 false 를 반환 (요청 스레드를 막지 않음)
+ * 칸을 차지했지만 아직 값을 쓰지 않은 순간에는 소비자가 해당 칸이 채워질 때까지 다음 poll 에서 다시 확인합니다.
+ */
+class AccessLogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    AccessLogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 값 추가 (생산자, 여러 스레드)
+     *
+     * @return 버퍼가 가득 차서 버렸으면 false
+     */
+    boolean offer(E element) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        slots.lazySet((int) sequence & mask, element);
+        return true;
+    }
+
+    /**
+     * 가장 오래된 값 꺼내기 (소비자, 단일 스레드)
+     *
+     * @return 비어 있거나 다음 칸이 아직 쓰이는 중이면 null
+     */
+    E poll() {
+        long sequence = head.get();
+        int index = (int) sequence & mask;
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head.set(sequence + 1);
+        return element;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,110 @@
+package com.beboard.config.accesslog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그 비동기 기록기
+ *
+ * 요청 스레드는 링 버퍼에 값을 넣기만 하고, 전용 스레드 하나가 꺼내서 한 줄(logfmt)로 만든 뒤
+ * com.beboard.access 로거에 기록합니다. 버퍼가 가득 차면 버린 건수만 세고 주기적으로 경고합니다.
+ */
+@Slf4j
+public class AccessLogWriter implements AutoCloseable {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("com.beboard.access");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DROP_REPORT_INTERVAL_MILLIS = 10_000;
+
+    private final AccessLogRingBuffer<AccessLogEntry> buffer;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long reportedDrops;
+    private long lastDropReport;
+
+    public AccessLogWriter(int bufferSize) {
+        this.buffer = new AccessLogRingBuffer<>(bufferSize);
+        this.worker = new Thread(this::drainLoop, "access-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 접근 로그 추가 (요청 스레드, 기다리지 않음)
+     */
+    void submit(AccessLogEntry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (!drain()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            reportDrops();
+        }
+        drain();
+        reportDrops();
+    }
+
+    private boolean drain() {
+        boolean drained = false;
+        AccessLogEntry entry;
+        while ((entry = buffer.poll()) != null) {
+            drained = true;
+            try {
+                ACCESS_LOG.info(format(entry));
+            } catch (Exception e) {
+                // 기록 스레드는 계속 살아 있어야 함
+                log.warn("접근 로그 기록 실패: {}", e.getMessage());
+            }
+        }
+        return drained;
+    }
+
+    private void reportDrops() {
+        long total = dropped.sum();
+        long now = System.currentTimeMillis();
+        if (total > reportedDrops && now - lastDropReport >= DROP_REPORT_INTERVAL_MILLIS) {
+            log.warn("접근 로그 버퍼(크기 {})가 가득 차 {}건을 기록하지 못했습니다.", buffer.capacity(), total - reportedDrops);
+            reportedDrops = total;
+            lastDropReport = now;
+        }
+    }
+
+    static String format(AccessLogEntry entry) {
+        StringBuilder line = new StringBuilder(192)
+                .append("ts=").append(Instant.ofEpochMilli(entry.timestamp()))
+                .append(" method=").append(entry.method())
+                .append(" route=").append(entry.route())
+                .append(" status=").append(entry.status())
+                .append(" latencyMs=").append(String.format(Locale.ROOT, "%.2f", entry.latencyMicros() / 1000.0));
+        if (entry.sqlCount() >= 0) {
+            line.append(" sql=").append(entry.sqlCount())
+                    .append(" sqlMs=").append(String.format(Locale.ROOT, "%.2f", entry.sqlMillis()))
+                    .append(" redis=").append(entry.redisCount())
+                    .append(" redisMs=").append(String.format(Locale.ROOT, "%.2f", entry.redisMillis()))
+                    .append(" serMs=").append(String.format(Locale.ROOT, "%.2f", entry.serializationMillis()));
+        }
+        line.append(" user=").append(entry.userId() != null ? entry.userId() : "-")
+                .append(" sample=").append(entry.sampleRate());
+        return line.toString();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
@@ -0,0 +1,97 @@
+package com.beboard.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 데이터소스 설정
+ *
+ * datasource.routing.enabled=true 인 경우에만 활성화됩니다.
+ * - primary: 기존 spring.datasource.* 설정
+ * - replicas: datasource.routing.replicas[*] 설정
+ * 모든 서비스가 클래스 레벨 @Transactional(readOnly = true) 이므로
+ * 조회 메서드는 별도 수정 없이 레플리카로 라우팅됩니다.
+ */
+@Configuration
+@Slf4j
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaHealthChecker replicaHealthChecker(DataSourceRoutingProperties properties,
+                                                     DataSourceProperties dataSourceProperties,
+                                                     ReadYourWritesTracker readYourWritesTracker) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + i;
+            replicas.put(name, createReplicaDataSource(name, replica, dataSourceProperties.getDriverClassName()));
+        }
+        log.info("읽기/쓰기 분리 라우팅 활성화: 레플리카 {}개", replicas.size());
+        return new ReplicaHealthChecker(replicas, properties.getMaxLagSeconds(), readYourWritesTracker);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      ReplicaHealthChecker replicaHealthChecker,
+                                                      ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targets = new HashMap<>(replicaHealthChecker.getReplicas());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(replicaHealthChecker, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    // 트랜잭션의 readOnly 여부가 결정된 뒤 실제 커넥션을 얻도록 지연 프록시로 감쌈
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createReplicaDataSource(String name,
+                                                     DataSourceRoutingProperties.Replica replica,
+                                                     String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setDriverClassName(driverClassName);
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        // 레플리카가 내려가 있어도 애플리케이션 기동은 가능하도록 초기 접속 실패 허용
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
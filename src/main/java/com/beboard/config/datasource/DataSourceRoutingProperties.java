@@ -0,0 +1,42 @@
+package com.beboard.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 라우팅 설정 (datasource.routing.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    // 라우팅 사용 여부 (false 면 기존 단일 데이터소스 그대로 사용)
+    private boolean enabled = false;
+
+    // 복제 지연 허용치, 초과한 레플리카는 읽기 대상에서 제외
+    private long maxLagSeconds = 5;
+
+    // 레플리카 상태 점검 주기(ms)
+    private long healthCheckIntervalMs = 5000;
+
+    // 사용자가 직접 쓴 직후 이 시간 동안은 해당 사용자의 읽기를 primary 로 보냄
+    private Duration readYourWritesWindow = Duration.ofSeconds(3);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
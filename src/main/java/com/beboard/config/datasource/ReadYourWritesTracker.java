@@ -0,0 +1,46 @@
+package com.beboard.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최근 쓰기 시점 추적
+ *
+ * 쓰기 트랜잭션 커밋 직후에는 레플리카에 아직 반영되지 않았을 수 있으므로,
+ * 창(window) 안에서는 같은 사용자의 읽기 전용 트랜잭션도 primary 로 보냅니다.
+ * 노드 로컬 상태이므로 같은 노드로 연속 요청이 들어오는 경우에 보장됩니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+
+    // 사용자 ID -> primary 고정 만료 시각(nanoTime)
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void markWrite(Long userId) {
+        pinnedUntil.put(userId, System.nanoTime() + windowNanos);
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(userId, until);
+        return false;
+    }
+
+    // 만료된 항목 정리 (상태 점검 주기마다 호출)
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.beboard.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.*;
+
+/**
+ * 레플리카 상태 점검
+ *
+ * 주기적으로 각 레플리카에 접속하여 복제 지연(Seconds_Behind_Master)을 확인합니다.
+ * - 접속 실패, 복제 중단(NULL), 지연 허용치 초과 -> 읽기 대상에서 제외
+ * - 복제 상태가 없는 단독 인스턴스(로컬 테스트용 대체 인스턴스)는 지연 0 으로 간주
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // 읽기 가능한 레플리카 키 목록 (스냅샷 교체 방식)
+    private volatile List<String> healthyReplicas;
+
+    public ReplicaHealthChecker(Map<String, DataSource> replicas,
+                                long maxLagSeconds,
+                                ReadYourWritesTracker readYourWritesTracker) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.healthyReplicas = List.copyOf(replicas.keySet());
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 접속 실패한 레플리카를 다음 점검 전까지 즉시 제외
+     */
+    public void markDown(String replicaKey) {
+        List<String> updated = new ArrayList<>(healthyReplicas);
+        if (updated.remove(replicaKey)) {
+            healthyReplicas = List.copyOf(updated);
+            log.warn("레플리카 접속 실패로 읽기 대상에서 제외: {}", replicaKey);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void check() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((key, dataSource) -> {
+            OptionalLong lag = measureLag(key, dataSource);
+            if (lag.isPresent() && lag.getAsLong() <= maxLagSeconds) {
+                healthy.add(key);
+            } else {
+                log.warn("레플리카 읽기 제외: {} (지연: {})", key,
+                        lag.isPresent() ? lag.getAsLong() + "s" : "확인 불가");
+            }
+        });
+        healthyReplicas = List.copyOf(healthy);
+        readYourWritesTracker.purgeExpired();
+    }
+
+    private OptionalLong measureLag(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                // 복제 설정이 없는 단독 인스턴스
+                return OptionalLong.of(0);
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Master");
+            return resultSet.wasNull() ? OptionalLong.empty() : OptionalLong.of(lag);
+        } catch (Exception e) {
+            log.debug("레플리카 상태 점검 실패: {} - {}", key, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    // 레플리카 커넥션 풀 종료
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.debug("레플리카 커넥션 풀 종료 실패: {}", e.getMessage());
+                }
+            }
+        });
+    }
+}
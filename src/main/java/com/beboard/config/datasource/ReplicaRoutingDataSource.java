@@ -0,0 +1,97 @@
+package com.beboard.config.datasource;
+
+import com.beboard.entity.User;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 라우팅 데이터소스
+ *
+ * 라우팅 규칙:
+ * 1. 쓰기 트랜잭션(readOnly = false) 또는 트랜잭션 밖 -> primary
+ * 2. 읽기 전용 트랜잭션이지만 현재 사용자가 방금 쓰기를 한 경우 -> primary (read-your-writes)
+ * 3. 읽기 전용 트랜잭션 -> 정상 레플리카 중 라운드로빈
+ * 4. 정상 레플리카가 없거나 레플리카 접속 실패 -> primary
+ *
+ * 트랜잭션 시작 후 readOnly 플래그가 설정된 뒤에 커넥션을 가져와야 하므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaHealthChecker healthChecker;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaHealthChecker healthChecker, ReadYourWritesTracker readYourWritesTracker) {
+        this.healthChecker = healthChecker;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteMarker(userId);
+            return PRIMARY;
+        }
+        if (userId != null && readYourWritesTracker.isWithinWindow(userId)) {
+            return PRIMARY;
+        }
+
+        List<String> healthy = healthChecker.getHealthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(roundRobin.getAndIncrement(), healthy.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        DataSource target = getResolvedDataSources().get(key);
+        if (PRIMARY.equals(key)) {
+            return target.getConnection();
+        }
+
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            // 레플리카 장애 시 다음 상태 점검까지 제외하고 primary 로 fallback
+            healthChecker.markDown((String) key);
+            return getResolvedDataSources().get(PRIMARY).getConnection();
+        }
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 해당 사용자를 일정 시간 primary 에 고정
+    private void registerWriteMarker(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(userId);
+            }
+        });
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
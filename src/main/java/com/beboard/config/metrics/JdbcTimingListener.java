@@ -0,0 +1,41 @@
+package com.beboard.config.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 실행 시간 누적 (hibernate.session.events.auto)
+ * 세션마다 새 인스턴스가 만들어지고 한 스레드에서만 쓰이므로 시작 시각은 필드로 유지합니다.
+ * JdbcTemplate 으로 직접 실행하는 SQL(내보내기 / 가져오기)은 포함되지 않습니다.
+ */
+public class JdbcTimingListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            metrics.recordDb(System.nanoTime() - start);
+        }
+    }
+}
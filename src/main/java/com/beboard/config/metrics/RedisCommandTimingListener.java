@@ -0,0 +1,46 @@
+package com.beboard.config.metrics;
+
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+
+import java.util.Map;
+
+/**
+ * Lettuce 명령 실행 시간 누적
+ *
+ * 시작 이벤트는 명령을 보내는 요청 스레드에서, 완료 이벤트는 Netty I/O 스레드에서 호출되므로
+ * 시작 시점의 요청 측정값을 이벤트 컨텍스트에 담아 완료 시점에 더합니다.
+ */
+public class RedisCommandTimingListener implements CommandListener {
+
+    private static final String METRICS_KEY = "beboard.request-metrics";
+    private static final String START_KEY = "beboard.request-metrics.start";
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            event.getContext().put(METRICS_KEY, metrics);
+            event.getContext().put(START_KEY, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event.getContext());
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event.getContext());
+    }
+
+    private void record(Map<String, Object> context) {
+        if (context.get(METRICS_KEY) instanceof RequestMetrics metrics
+                && context.get(START_KEY) instanceof Long start) {
+            metrics.recordRedis(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.beboard.config.metrics;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 단위 측정값 (SQL 실행 수 / DB 시간 / Redis 명령 수 / Redis 시간 / 직렬화 시간)
+ *
+ * RequestMetricsFilter 가 요청 스레드에 바인딩하고, Hibernate / Lettuce / Jackson 훅이 누적합니다.
+ * Redis 명령 완료는 Netty I/O 스레드에서 호출되므로 값은 원자적으로 더합니다.
+ * 요청 밖(스케줄러, 배치)에서는 바인딩된 값이 없으므로 측정하지 않습니다.
+ *
+ * SQL / 직렬화 기록은 요청 스레드에서 호출되므로 그때마다 누적값을 MDC 에 반영하여
+ * 요청 처리 중 남기는 로그에도 그 시점까지의 값이 찍히게 합니다.
+ * Redis 값은 I/O 스레드에서 기록되므로 다음 SQL / 직렬화 기록이나 요청 종료 때 MDC 에 반영됩니다.
+ */
+public class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong dbNanos = new AtomicLong();
+    private final AtomicLong redisCommands = new AtomicLong();
+    private final AtomicLong redisNanos = new AtomicLong();
+    private final AtomicLong serializationNanos = new AtomicLong();
+
+    static RequestMetrics begin() {
+        RequestMetrics metrics = new RequestMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청의 측정값 (요청 밖이면 null)
+     */
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement() {
+        statements.incrementAndGet();
+        updateMdc();
+    }
+
+    void recordDb(long nanos) {
+        dbNanos.addAndGet(nanos);
+        updateMdc();
+    }
+
+    void recordRedis(long nanos) {
+        redisCommands.incrementAndGet();
+        redisNanos.addAndGet(nanos);
+    }
+
+    void recordSerialization(long nanos) {
+        serializationNanos.addAndGet(nanos);
+        updateMdc();
+    }
+
+    /**
+     * 현재 누적값을 MDC 에 반영 (요청 스레드에서만 호출)
+     */
+    void updateMdc() {
+        MDC.put(RequestMetricsFilter.MDC_SQL_COUNT, String.valueOf(getStatements()));
+        MDC.put(RequestMetricsFilter.MDC_SQL_MILLIS, formatMillis(getDbMillis()));
+        MDC.put(RequestMetricsFilter.MDC_REDIS_COUNT, String.valueOf(getRedisCommands()));
+        MDC.put(RequestMetricsFilter.MDC_REDIS_MILLIS, formatMillis(getRedisMillis()));
+        MDC.put(RequestMetricsFilter.MDC_SERIALIZATION_MILLIS, formatMillis(getSerializationMillis()));
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public double getDbMillis() {
+        return toMillis(dbNanos.get());
+    }
+
+    public long getRedisCommands() {
+        return redisCommands.get();
+    }
+
+    public double getRedisMillis() {
+        return toMillis(redisNanos.get());
+    }
+
+    public double getSerializationMillis() {
+        return toMillis(serializationNanos.get());
+    }
+
+    public double getElapsedMillis() {
+        return toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Server-Timing 헤더 값
+     * 예) db;dur=12.40;desc="SQL 3", redis;dur=0.82;desc="Redis 2", ser;dur=1.05, total;dur=18.31
+     */
+    String toServerTiming() {
+        return String.format("db;dur=%.2f;desc=\"SQL %d\", redis;dur=%.2f;desc=\"Redis %d\", ser;dur=%.2f, total;dur=%.2f",
+                getDbMillis(), getStatements(), getRedisMillis(), getRedisCommands(),
+                getSerializationMillis(), getElapsedMillis());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    static String formatMillis(double millis) {
+        return String.format("%.2f", millis);
+    }
+}
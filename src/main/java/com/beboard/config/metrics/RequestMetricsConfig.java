@@ -0,0 +1,62 @@
+package com.beboard.config.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * 요청 단위 SQL / Redis / 직렬화 측정 설정
+ *
+ * 목록 API 가 느려졌을 때 @Formula 서브쿼리, DTO 변환 중 지연 로딩, Redis 중 어느 쪽인지 구분하기 위해
+ * 요청마다 실행 수와 시간을 Server-Timing 헤더와 MDC 로 남깁니다.
+ * - SQL 수: SqlStatementCounter (StatementInspector)
+ * - DB 시간: JdbcTimingListener (SessionEventListener)
+ * - Redis: RedisCommandTimingListener (Lettuce CommandListener)
+ * - 직렬화: TimedJackson2HttpMessageConverter
+ * Hibernate 훅은 spring.jpa.properties 에 등록되어 있고, 요청 밖에서는 아무것도 기록하지 않습니다.
+ */
+@Configuration
+@Slf4j
+@EnableConfigurationProperties(RequestMetricsProperties.class)
+@ConditionalOnProperty(prefix = "request-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestMetricsConfig {
+
+    // Spring Security 필터 체인보다 먼저 실행하여 인증 과정의 조회도 포함
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(RequestMetricsProperties properties) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // 기본 Jackson 컨버터 대신 등록 (@ConditionalOnMissingBean)
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJackson2HttpMessageConverter(objectMapper);
+    }
+
+    // Lettuce 클라이언트는 연결 팩토리 초기화 시 만들어지고 공유 연결은 첫 명령 때 열리므로, 그 사이에 리스너 등록
+    @Bean
+    public static BeanPostProcessor redisCommandTimingRegistrar() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof LettuceConnectionFactory connectionFactory
+                        && connectionFactory.getNativeClient() != null) {
+                    connectionFactory.getNativeClient().addListener(new RedisCommandTimingListener());
+                    log.debug("Redis 명령 시간 측정 리스너 등록: {}", beanName);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.beboard.config.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * 요청 단위 SQL / Redis / 직렬화 측정
+ *
+ * 1. 요청 스레드에 RequestMetrics 바인딩 (Hibernate / Lettuce / Jackson 훅이 누적)
+ * 2. 본문을 쓰기 직전(헤더 확정 전)에 Server-Timing 헤더 기록
+ * 3. 요청 시작 시 MDC 에 측정값을 넣고 누적될 때마다 갱신 (요청 처리 중 로그에도 포함, RequestMetrics.updateMdc)
+ * 4. 요청이 끝나면 최종값과 기준 초과 여부를 MDC 에 넣고, SQL 수가 기준을 넘으면 경고 로그 후 MDC 정리
+ */
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public static final String MDC_SQL_COUNT = "sqlCount";
+    public static final String MDC_SQL_MILLIS = "sqlMillis";
+    public static final String MDC_REDIS_COUNT = "redisCount";
+    public static final String MDC_REDIS_MILLIS = "redisMillis";
+    public static final String MDC_SERIALIZATION_MILLIS = "serializationMillis";
+    public static final String MDC_QUERY_FLAGGED = "queryFlagged";
+
+    private static final List<String> MDC_KEYS = List.of(MDC_SQL_COUNT, MDC_SQL_MILLIS, MDC_REDIS_COUNT,
+            MDC_REDIS_MILLIS, MDC_SERIALIZATION_MILLIS, MDC_QUERY_FLAGGED);
+
+    private final RequestMetricsProperties properties;
+
+    public RequestMetricsFilter(RequestMetricsProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.begin();
+        ServerTimingResponse timingResponse = new ServerTimingResponse(response, metrics);
+
+        try {
+            metrics.updateMdc();
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            // 본문 없는 응답(204 등)은 여기서 기록
+            timingResponse.writeServerTiming();
+            RequestMetrics.end();
+
+            boolean flagged = metrics.getStatements() > properties.getQueryThreshold();
+            metrics.updateMdc();
+            MDC.put(MDC_QUERY_FLAGGED, String.valueOf(flagged));
+            try {
+                if (flagged) {
+                    log.warn("SQL 실행 수 기준 초과 - {} {}: SQL {}건 (기준 {}건), DB {}ms, 전체 {}ms",
+                            request.getMethod(), request.getRequestURI(), metrics.getStatements(),
+                            properties.getQueryThreshold(), RequestMetrics.formatMillis(metrics.getDbMillis()),
+                            RequestMetrics.formatMillis(metrics.getElapsedMillis()));
+                }
+            } finally {
+                MDC_KEYS.forEach(MDC::remove);
+            }
+        }
+    }
+
+    /**
+     * 본문 출력을 시작하거나 응답을 확정하기 직전에 Server-Timing 헤더를 한 번만 기록
+     */
+    private class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestMetrics metrics;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestMetrics metrics) {
+            super(response);
+            this.metrics = metrics;
+        }
+
+        void writeServerTiming() {
+            if (written) {
+                return;
+            }
+            written = true;
+            if (properties.isServerTiming() && !isCommitted()) {
+                addHeader("Server-Timing", metrics.toServerTiming());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
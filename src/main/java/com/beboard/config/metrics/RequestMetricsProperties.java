@@ -0,0 +1,23 @@
+package com.beboard.config.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 단위 SQL / Redis / 직렬화 측정 설정 (request-metrics.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "request-metrics")
+public class RequestMetricsProperties {
+
+    // 측정 사용 여부
+    private boolean enabled = true;
+
+    // 응답에 Server-Timing 헤더 포함 여부 (외부 공개 환경에서는 끌 수 있음)
+    private boolean serverTiming = true;
+
+    // 이보다 많은 SQL 을 실행한 요청은 경고 로그로 표시
+    private int queryThreshold = 20;
+}
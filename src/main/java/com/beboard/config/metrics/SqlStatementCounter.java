@@ -0,0 +1,19 @@
+package com.beboard.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 수 집계 (hibernate.session_factory.statement_inspector)
+ * 2차 캐시 / 쿼리 캐시에서 응답한 조회는 SQL 이 만들어지지 않으므로 세지 않습니다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            metrics.recordStatement();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,53 @@
+package com.beboard.config.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 응답 직렬화 시간 측정
+ *
+ * 응답 스트림에 바로 쓰면 본문을 쓰기 시작하는 순간 헤더가 확정되어 Server-Timing 에 직렬화 시간을 담을 수 없으므로,
+ * 요청 측정 중에는 버퍼에 직렬화한 뒤 시간을 기록하고 나서 응답에 복사합니다.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        metrics.recordSerialization(System.nanoTime() - startTime);
+
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,100 @@
+package com.beboard.config.profiling;
+
+import com.beboard.util.PerformanceMetrics;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 조회 결과가 없을 때 PerformanceMetrics.recordCacheMiss 를 호출하고 나머지는 그대로 위임
+ */
+class CacheMissRecordingCache implements Cache {
+
+    private final Cache delegate;
+
+    CacheMissRecordingCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            PerformanceMetrics.recordCacheMiss(getName(), key);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        if (value == null) {
+            PerformanceMetrics.recordCacheMiss(getName(), key);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 원본 조회가 호출되었다면 미스
+        return delegate.get(key, () -> {
+            PerformanceMetrics.recordCacheMiss(getName(), key);
+            return valueLoader.call();
+        });
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, () -> {
+            PerformanceMetrics.recordCacheMiss(getName(), key);
+            return valueLoader.get();
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,39 @@
+package com.beboard.config.profiling;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 캐시 미스를 JFR 이벤트로 남기는 CacheManager 래퍼
+ */
+class CacheMissRecordingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    CacheMissRecordingCacheManager(CacheManager delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new CacheMissRecordingCache(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,32 @@
+package com.beboard.config.profiling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JFR 프로파일링 설정
+ *
+ * 서비스 메서드 이벤트는 PerformanceMetrics 가 기록하고, 여기서는 Spring 캐시 미스를 이벤트로 남기도록
+ * CacheManager 를 감쌉니다. 이벤트는 FlightRecorderService 로 녹화 중일 때만 저장됩니다.
+ */
+@Configuration
+@Slf4j
+public class FlightRecorderConfig {
+
+    @Bean
+    public static BeanPostProcessor cacheMissRecordingRegistrar() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof CacheMissRecordingCacheManager)) {
+                    log.debug("캐시 미스 JFR 이벤트 기록 등록: {}", beanName);
+                    return new CacheMissRecordingCacheManager(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,10 +1,15 @@
 package com.beboard.config.redis;
 
+import com.beboard.service.EntityCacheService;
 import com.beboard.service.NotificationSubscriber;
+import com.beboard.service.PostListingCache;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -40,6 +45,15 @@ public class RedisConfig {
     @Value("${notification.redis.channel}")
     private String notificationChannel;
 
+    @Value("${notification.redis.broadcast-channel}")
+    private String broadcastChannel;
+
+    @Value("${post.listing-cache.channel}")
+    private String postListingCacheChannel;
+
+    @Value("${entity-cache.channel}")
+    private String entityCacheChannel;
+
 /*    @Value("${spring.data.redis.password}")
     private String redisPassword;*/
 
@@ -80,14 +94,40 @@ public class RedisConfig {
     public RedisMessageListenerContainer redisMessageListener(
             RedisConnectionFactory connectionFactory,
             MessageListenerAdapter listenerAdapter,
-            ChannelTopic channelTopic
+            ChannelTopic channelTopic,
+            NotificationSubscriber subscriber,
+            PostListingCache postListingCache,
+            EntityCacheService entityCacheService,
+            Environment environment
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
+        // 가상 스레드 모드에서는 알림 리스너도 가상 스레드에서 실행
+        // (사용자 정의 컨테이너라 spring.threads.virtual.enabled 자동 설정이 적용되지 않음)
+        // 설정만 켜지고 Java 21 미만에서 실행되면 자동 설정처럼 플랫폼 스레드를 그대로 사용
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            container.setTaskExecutor(listenerExecutor);
+        }
+
         // 특정 토픽(채널)에 대한 리스너 추가
         container.addMessageListener(listenerAdapter, channelTopic);
 
+        // 전체 공지는 전용 채널로만 수신 (관리자 API 만 발행)
+        MessageListenerAdapter broadcastListener = new MessageListenerAdapter(subscriber, "onBroadcastMessage");
+        broadcastListener.afterPropertiesSet(); // 빈이 아니므로 직접 초기화
+        container.addMessageListener(broadcastListener, new ChannelTopic(broadcastChannel));
+
+        // 다른 노드에서 발행한 게시글 목록 캐시 무효화 메시지 수신
+        container.addMessageListener((message, pattern) -> postListingCache.onInvalidationMessage(message.getBody()),
+                new ChannelTopic(postListingCacheChannel));
+
+        // 다른 노드에서 발행한 2차 캐시 무효화 메시지 수신
+        container.addMessageListener((message, pattern) -> entityCacheService.onInvalidationMessage(message.getBody()),
+                new ChannelTopic(entityCacheChannel));
+
         return container;
     }
 
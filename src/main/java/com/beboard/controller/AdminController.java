@@ -0,0 +1,195 @@
+package com.beboard.controller;
+
+import com.beboard.dto.DormantUserBatchResult;
+import com.beboard.dto.PostArchiveResult;
+import com.beboard.dto.PostImportResult;
+import com.beboard.entity.User;
+import com.beboard.service.AdminExportService;
+import com.beboard.service.DormantUserBatchService;
+import com.beboard.service.EntityCacheService;
+import com.beboard.service.FlightRecorderService;
+import com.beboard.service.PostArchiveService;
+import com.beboard.service.PostImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminController {
+
+    private final AdminExportService adminExportService;
+    private final DormantUserBatchService dormantUserBatchService;
+    private final PostArchiveService postArchiveService;
+    private final PostImportService postImportService;
+    private final EntityCacheService entityCacheService;
+    private final FlightRecorderService flightRecorderService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 / 게시글 / 댓글 내보내기
+     * 결과를 메모리에 모으지 않고 조회하는 즉시 응답 스트림에 기록합니다.
+     *
+     * @param target 내보내기 대상 (users, posts, comments)
+     * @param format 출력 형식 (csv, ndjson)
+     */
+    @GetMapping("/exports/{target}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void export(
+            @PathVariable String target,
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletResponse response) throws IOException {
+
+        AdminExportService.Target exportTarget;
+        AdminExportService.Format exportFormat;
+        try {
+            exportTarget = AdminExportService.Target.valueOf(target.toUpperCase(Locale.ROOT));
+            exportFormat = AdminExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "지원하지 않는 내보내기 대상 또는 형식입니다.");
+            return;
+        }
+
+        log.info("관리자 내보내기 요청 - 대상: {}, 형식: {}, 관리자: {}", exportTarget, exportFormat, currentUser.getNickname());
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"%s-%s.%s\"",
+                target.toLowerCase(Locale.ROOT), LocalDate.now(), exportFormat.getExtension()));
+
+        adminExportService.export(exportTarget, exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * 휴면 전환 배치 수동 실행 (청크 크기별 처리량 확인용)
+     *
+     * @param chunkSize 청크 크기 (없으면 설정값)
+     */
+    @PostMapping("/batch/dormant-users")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DormantUserBatchResult> runDormantUserBatch(
+            @RequestParam(required = false) Integer chunkSize,
+            @AuthenticationPrincipal User currentUser) {
+
+        log.info("휴면 전환 배치 수동 실행 요청 - 청크 크기: {}, 관리자: {}", chunkSize, currentUser.getNickname());
+        DormantUserBatchResult result = dormantUserBatchService.run(chunkSize);
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 게시글 보관 배치 수동 실행
+     *
+     * @param batchSize 배치 크기 (없으면 설정값)
+     */
+    @PostMapping("/batch/post-archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PostArchiveResult> runPostArchive(
+            @RequestParam(required = false) Integer batchSize,
+            @AuthenticationPrincipal User currentUser) {
+
+        log.info("게시글 보관 배치 수동 실행 요청 - 배치 크기: {}, 관리자: {}", batchSize, currentUser.getNickname());
+        PostArchiveResult result = postArchiveService.run(batchSize);
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 게시글 / 댓글 대량 가져오기 (NDJSON 본문)
+     * 청크를 커밋할 때마다 진행 상황을 한 줄씩 응답하고, 마지막 줄에 최종 결과를 기록합니다.
+     *
+     * @param chunkSize 청크 크기 (없으면 설정값)
+     */
+    @PostMapping("/imports/posts")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importPosts(
+            @RequestParam(required = false) Integer chunkSize,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        log.info("게시글 가져오기 요청 - 청크 크기: {}, 관리자: {}", chunkSize, currentUser.getNickname());
+        response.setContentType(AdminExportService.Format.NDJSON.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out = response.getOutputStream();
+
+        PostImportResult result = postImportService.run(request.getInputStream(), chunkSize, progress -> {
+            try {
+                writeLine(out, progress);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writeLine(out, result);
+    }
+
+    /**
+     * 2차 캐시(카테고리 / 사용자) 적중률 조회
+     */
+    @GetMapping("/cache/entity-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getEntityCacheStatistics() {
+        return ResponseEntity.ok(entityCacheService.getStatistics());
+    }
+
+    /**
+     * JFR 프로파일링 (지정한 시간 동안 녹화 후 .jfr 파일 다운로드)
+     * 요청한 노드에서만 녹화되며, 노드당 한 번에 하나만 실행할 수 있습니다.
+     *
+     * @param preset  녹화 프리셋 (cpu, allocation, locks)
+     * @param seconds 녹화 시간 (최대 profiling.jfr.max-seconds)
+     */
+    @PostMapping("/profiling/jfr")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void recordFlight(
+            @RequestParam(required = false, defaultValue = "cpu") String preset,
+            @RequestParam(required = false, defaultValue = "30") int seconds,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletResponse response) throws IOException {
+
+        FlightRecorderService.Preset recordingPreset;
+        try {
+            recordingPreset = FlightRecorderService.Preset.valueOf(preset.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "지원하지 않는 프로파일링 프리셋입니다.");
+            return;
+        }
+
+        log.info("JFR 프로파일링 요청 - 프리셋: {}, 시간: {}초, 관리자: {}", recordingPreset, seconds, currentUser.getNickname());
+        response.setContentType("application/octet-stream");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"%s-%s.jfr\"",
+                recordingPreset.name().toLowerCase(Locale.ROOT),
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+
+        try {
+            flightRecorderService.record(recordingPreset, seconds, response.getOutputStream());
+        } catch (IllegalStateException e) {
+            response.sendError(HttpStatus.CONFLICT.value(), e.getMessage());
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+        out.flush();
+    }
+}
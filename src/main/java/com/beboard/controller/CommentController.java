@@ -5,7 +5,6 @@ import com.beboard.entity.User;
 import com.beboard.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -17,7 +16,6 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 @RequestMapping("/api/comments")
 @RequiredArgsConstructor
-@Slf4j
 public class CommentController {
 
     private final CommentService commentService;
@@ -27,9 +25,6 @@ public class CommentController {
             @Valid @RequestBody CommentDto.CreateRequest request,
             @AuthenticationPrincipal User currentUser) {
 
-        log.info("댓글 작성 요청 - 게시글 ID: {}, 부모 댓글 ID: {}, 작성자: {}",
-                request.getPostId(), request.getParentId(), currentUser.getNickname());
-
         CommentDto.Response comment = commentService.createComment(request, currentUser);
 
         return ResponseEntity.ok(comment);
@@ -39,7 +34,6 @@ public class CommentController {
     public ResponseEntity<Page<CommentDto.Response>> getMyComments(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @AuthenticationPrincipal User currentUser) {
-        log.info("내 댓글 목록 조회 요청 - 사용자: {}", currentUser.getNickname());
         Page<CommentDto.Response> myComments = commentService.getMyComments(pageable, currentUser.getId());
 
         return ResponseEntity.ok(myComments);
@@ -50,7 +44,6 @@ public class CommentController {
             @PathVariable Long commentId,
             @Valid @RequestBody CommentDto.UpdateRequest request,
             @AuthenticationPrincipal User currentUser) {
-        log.info("댓글 수정 요청 - 댓글 ID: {}, 작성자: {}", commentId, currentUser.getNickname());
         CommentDto.Response response = commentService.updateComment(commentId, request, currentUser);
 
         return ResponseEntity.ok(response);
@@ -60,7 +53,6 @@ public class CommentController {
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long commentId,
             @AuthenticationPrincipal User currentUser) {
-        log.info("댓글 삭제 요청 - 댓글 ID: {}, 작성자: {}", commentId, currentUser.getNickname());
         commentService.deleteComment(commentId, currentUser);
 
         return ResponseEntity.noContent().build();
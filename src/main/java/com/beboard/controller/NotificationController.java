@@ -3,6 +3,7 @@ package com.beboard.controller;
 import com.beboard.dto.NotificationMessage;
 import com.beboard.service.NotificationPublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,4 +25,12 @@ public class NotificationController {
             return "알림 전송에 실패했습니다: " + e.getMessage();
         }
     }
+
+    // 시스템 공지: 모든 노드의 브로드캐스트 토픽 구독자에게 전송 (관리자 전용)
+    @PostMapping("/api/notifications/broadcast")
+    @PreAuthorize("hasRole('ADMIN')")
+    public String broadcastNotification(@RequestBody NotificationMessage message) {
+        notificationPublisher.broadcastNotification(message);
+        return "전체 공지가 발행되었습니다.";
+    }
 }
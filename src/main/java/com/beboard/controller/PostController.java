@@ -4,38 +4,70 @@ import com.beboard.dto.CommentDto;
 import com.beboard.dto.PostDto;
 import com.beboard.entity.User;
 import com.beboard.service.CommentService;
+import com.beboard.service.PostListingCache;
 import com.beboard.service.PostService;
+import com.beboard.service.ResourceVersionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
-@Slf4j
 public class PostController {
 
     private final PostService postService;
     private final CommentService commentService;
+    private final ResourceVersionService resourceVersionService;
+    private final PostListingCache postListingCache;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<Page<PostDto.ListResponse>> getPosts(
+    public ResponseEntity<?> getPosts(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false, defaultValue = "newest") String sort,
-            @RequestParam(required = false) String search){
+            @RequestParam(required = false) String search,
+            @AuthenticationPrincipal User currentUser) throws JsonProcessingException {
+
+        Long userId = currentUser != null ? currentUser.getId() : null;
+
+        // 비로그인 첫 페이지: 직렬화된 응답을 메모리에서 바로 반환
+        if (postListingCache.isCacheable(userId == null, search, sort, pageable.getPageNumber(), pageable.getPageSize())) {
+            byte[] cached = postListingCache.get(categoryId, sort, pageable.getPageNumber(), pageable.getPageSize());
+            if (cached == null) {
+                long generation = postListingCache.currentGeneration();
+                cached = objectMapper.writeValueAsBytes(postService.getPosts(pageable, categoryId, sort, search, null));
+                postListingCache.put(categoryId, sort, pageable.getPageNumber(), pageable.getPageSize(), cached, generation);
+            }
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cached);
+        }
+
+        Page<PostDto.ListResponse> posts = postService.getPosts(pageable, categoryId, sort, search, userId);
+
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/most-bookmarked")
+    public ResponseEntity<List<PostDto.ListResponse>> getMostBookmarkedPosts(
+            @RequestParam(required = false, defaultValue = "10") int limit,
+            @AuthenticationPrincipal User currentUser) {
 
-        log.info("게시글 목록 조회 요청 - 페이지: {}, 크기: {}, 카테고리: {}, 정렬: {}, 검색: {}",
-                pageable.getPageNumber(), pageable.getPageSize(), categoryId, sort, search);
-        Page<PostDto.ListResponse> posts = postService.getPosts(pageable, categoryId, sort, search);
+        Long userId = currentUser != null ? currentUser.getId() : null;
+        List<PostDto.ListResponse> posts = postService.getMostBookmarkedPosts(Math.min(Math.max(limit, 1), 50), userId);
 
         return ResponseEntity.ok(posts);
     }
@@ -43,13 +75,19 @@ public class PostController {
     @GetMapping("/{id}")
     public ResponseEntity<PostDto.DetailResponse> getPost(
             @PathVariable Long id,
-            @AuthenticationPrincipal User currentUser) {
+            @AuthenticationPrincipal User currentUser,
+            WebRequest webRequest) {
 
-        log.info("게시글 상세 조회 요청 - ID: {}, 사용자: {}", id, currentUser != null ? currentUser.getNickname() : "anonymous");
         Long userId = currentUser != null ? currentUser.getId() : null;
+
+        // 변경이 없으면 서비스 호출 없이 304 반환
+        String eTag = resourceVersionService.postETag(id, userId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         PostDto.DetailResponse post = postService.getPost(id, userId);
 
-        return ResponseEntity.ok(post);
+        return eTag != null ? ResponseEntity.ok().eTag(eTag).body(post) : ResponseEntity.ok(post);
     }
 
     @PostMapping
@@ -58,8 +96,6 @@ public class PostController {
             @Valid @RequestBody PostDto.Request request,
             @AuthenticationPrincipal User currentUser) {
 
-        log.info("게시글 작성 요청 - 사용자: {}, 제목: {}",
-                currentUser.getNickname(), request.getTitle());
         PostDto.DetailResponse post = postService.createPost(request, currentUser.getId());
 
         return ResponseEntity.ok(post);
@@ -72,7 +108,6 @@ public class PostController {
         @Valid @RequestBody PostDto.Request request,
         @AuthenticationPrincipal User currentUser) {
 
-        log.info("게시글 수정 요청 - ID: {}, 사용자: {}", id, currentUser.getNickname());
         PostDto.DetailResponse post = postService.updatePost(id, request, currentUser.getId());
 
         return ResponseEntity.ok(post);
@@ -83,12 +118,21 @@ public class PostController {
     public ResponseEntity<Void> deletePost(
             @PathVariable Long id,
             @AuthenticationPrincipal User currentUser) {
-        log.info("게시글 삭제 요청 - ID: {}, 사용자: {}", id, currentUser.getNickname());
         postService.deletePost(id, currentUser.getId());
 
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/restore")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PostDto.DetailResponse> restorePost(
+            @PathVariable Long id,
+            @AuthenticationPrincipal User currentUser) {
+        PostDto.DetailResponse post = postService.restorePost(id, currentUser.getId());
+
+        return ResponseEntity.ok(post);
+    }
+
     @PostMapping("/{id}/views")
     public ResponseEntity<Void> incrementViews(@PathVariable Long id) {
         postService.incrementViews(id);
@@ -102,7 +146,6 @@ public class PostController {
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(required = false, defaultValue = "newest") String sort,
             @AuthenticationPrincipal User currentUser) {
-        log.info("내 게시글 목록 조회 요청 - 사용자: {}", currentUser.getNickname());
         Page<PostDto.ListResponse> posts = postService.getPostsByAuthor(currentUser.getId(), sort, pageable);
 
         return ResponseEntity.ok(posts);
@@ -113,8 +156,6 @@ public class PostController {
     public ResponseEntity<Boolean> addBookmark(
             @PathVariable Long postId,
             @AuthenticationPrincipal User currentUser) {
-        log.info("게시글 북마크 추가 요청 - 게시글ID: {}, 사용자: {}", postId, currentUser.getNickname());
-
         return ResponseEntity.ok(postService.addBookmark(postId, currentUser.getId()));
     }
 
@@ -123,8 +164,6 @@ public class PostController {
     public ResponseEntity<Boolean> removeBookmark(
             @PathVariable Long postId,
             @AuthenticationPrincipal User currentUser) {
-        log.info("게시글 북마크 제거 요청 - 게시글ID: {}, 사용자: {}", postId, currentUser.getNickname());
-
         return ResponseEntity.ok(postService.removeBookmark(postId, currentUser.getId()));
     }
 
@@ -134,7 +173,6 @@ public class PostController {
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(required = false, defaultValue = "newest") String sort,
             @AuthenticationPrincipal User currentUser) {
-        log.info("북마크 게시글 목록 조회 요청 - 사용자: {}", currentUser.getNickname());
         Page<PostDto.ListResponse> bookmarkedPosts = postService.getBookmarkedPosts(currentUser.getId(), sort, pageable);
 
         return ResponseEntity.ok(bookmarkedPosts);
@@ -143,11 +181,16 @@ public class PostController {
     @GetMapping("/{postId}/comments")
     public ResponseEntity<Page<CommentDto.Response>> getCommentsByPostId(
             @PathVariable Long postId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
 
-        log.info("게시글 댓글 목록 조회 요청 - 게시글 ID: {}, 페이지: {}", postId, pageable.getPageNumber());
+        // 변경이 없으면 서비스 호출 없이 304 반환
+        String eTag = resourceVersionService.commentsETag(postId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         Page<CommentDto.Response> comments = commentService.getCommentsByPostId(postId, pageable);
 
-        return ResponseEntity.ok(comments);
+        return eTag != null ? ResponseEntity.ok().eTag(eTag).body(comments) : ResponseEntity.ok(comments);
     }
 }
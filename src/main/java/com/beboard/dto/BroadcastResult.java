@@ -0,0 +1,19 @@
+package com.beboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 브로드캐스트 전송 결과
+ * 전체 세션 대상 공지 전송 후 완료 시간과 전달 현황을 보고할 때 사용
+ */
+@Getter
+@Builder
+public class BroadcastResult {
+    private int recipients;       // 전송 대상 구독 수
+    private int delivered;        // 전송 성공 수
+    private int disconnected;     // 버퍼 초과로 연결 종료된 느린 소비자 수
+    private int failed;           // 기타 전송 실패 수
+    private int payloadBytes;     // 1회 직렬화된 페이로드 크기
+    private long elapsedMillis;   // 브로드캐스트 완료까지 걸린 시간
+}
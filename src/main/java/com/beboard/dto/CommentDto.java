@@ -1,5 +1,6 @@
 package com.beboard.dto;
 
+import com.beboard.entity.ArchivedComment;
 import com.beboard.entity.Comment;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -44,6 +45,21 @@ public class CommentDto {
                     .updatedAt(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(comment.getUpdatedAt()))
                     .build();
         }
+
+        public static Response from(ArchivedComment comment, List<Response> children) {
+            return Response.builder()
+                    .id(comment.getId())
+                    .parentId(comment.getParentId())
+                    .postId(comment.getPostId())
+                    .authorId(comment.getCommenter().getId())
+                    .content(comment.isDeleted() ? "삭제된 댓글입니다." : comment.getContent())
+                    .deleted(comment.isDeleted())
+                    .author(UserDto.Response.from(comment.getCommenter()))
+                    .children(children)
+                    .createdAt(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(comment.getCreatedAt()))
+                    .updatedAt(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(comment.getUpdatedAt()))
+                    .build();
+        }
     }
 
     @Data
@@ -0,0 +1,20 @@
+package com.beboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 휴면 전환 배치 실행 결과
+ */
+@Getter
+@Builder
+public class DormantUserBatchResult {
+    private boolean executed;      // 다른 노드가 실행 중이면 false
+    private boolean resumed;       // 체크포인트에서 이어서 실행했는지 여부
+    private String threshold;      // 휴면 기준 시각 (이 시각 이전 마지막 로그인)
+    private long scanned;          // 조회한 후보 수
+    private long transitioned;     // 휴면 전환된 사용자 수 (재활성화 안내 발송 수와 동일)
+    private int chunks;            // 처리한 청크 수
+    private long elapsedMillis;    // 소요 시간
+    private double rowsPerSecond;  // 처리량 (조회 행 기준)
+}
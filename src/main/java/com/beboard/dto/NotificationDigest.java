@@ -0,0 +1,22 @@
+package com.beboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 다이제스트 알림
+ * 전송 창 안에 쌓인 같은 타입의 알림들을 하나의 STOMP 프레임으로 묶어 전달
+ */
+@Getter
+@Builder
+public class NotificationDigest {
+    private final String type = "DIGEST";
+    private Long recipientId;
+    private String notificationType;    // 묶인 알림의 원래 타입
+    private int count;                  // 묶인 알림 수
+    private String content;             // 요약 문구
+    private String url;                 // 가장 최근 알림의 이동 URL
+    private List<NotificationMessage> notifications;
+}
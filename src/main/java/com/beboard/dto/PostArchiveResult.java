@@ -0,0 +1,19 @@
+package com.beboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시글 보관 배치 실행 결과
+ */
+@Getter
+@Builder
+public class PostArchiveResult {
+    private boolean executed;      // 다른 노드가 실행 중이면 false
+    private String cutoff;         // 보관 기준 시각 (이 시각 이전 작성 또는 삭제된 게시글)
+    private long archivedPosts;    // 보관된 게시글 수
+    private long archivedComments; // 함께 보관된 댓글 수
+    private long archivedBookmarks;// 함께 보관된 북마크 수
+    private int batches;           // 처리한 배치 수
+    private long elapsedMillis;    // 소요 시간
+}
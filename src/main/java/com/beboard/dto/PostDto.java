@@ -1,8 +1,10 @@
 package com.beboard.dto;
 
+import com.beboard.entity.ArchivedPost;
 import com.beboard.entity.Category;
 import com.beboard.entity.Post;
 import com.beboard.entity.User;
+import com.beboard.util.TextExcerpt;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -21,21 +23,48 @@ public class PostDto {
         private Long id;
         private Long authorId;
         private String title;
+        private String excerpt;
         private int viewCount;
         private int commentCount;
+        private int bookmarkCount;
+        private boolean bookmarked;
         private UserDto.Response author;
         private CategoryDto.Response category;
         private String createdAt;
 
         public static ListResponse from(Post post) {
+            return from(post, false);
+        }
+
+        public static ListResponse from(Post post, boolean bookmarked) {
+            User author = post.getAuthor();
+            Category category = post.getCategory();
+            return ListResponse.builder()
+                    .id(post.getId())
+                    .authorId(author.getId())
+                    .title(post.getTitle())
+                    .excerpt(post.getExcerpt())
+                    .viewCount(post.getViewCount())
+                    .commentCount(post.getCommentCount())
+                    .bookmarkCount(post.getBookmarkCount())
+                    .bookmarked(bookmarked)
+                    .author(UserDto.Response.from(author))
+                    .category(CategoryDto.Response.from(category))
+                    .createdAt(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(post.getCreatedAt()))
+                    .build();
+        }
+
+        public static ListResponse from(ArchivedPost post) {
             User author = post.getAuthor();
             Category category = post.getCategory();
             return ListResponse.builder()
                     .id(post.getId())
                     .authorId(author.getId())
                     .title(post.getTitle())
+                    .excerpt(TextExcerpt.of(post.getContent()))
                     .viewCount(post.getViewCount())
                     .commentCount(post.getCommentCount())
+                    .bookmarkCount(post.getBookmarkCount())
                     .author(UserDto.Response.from(author))
                     .category(CategoryDto.Response.from(category))
                     .createdAt(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(post.getCreatedAt()))
@@ -53,6 +82,7 @@ public class PostDto {
         private String content;
         private int viewCount;
         private int commentCount;
+        private int bookmarkCount;
         private boolean bookmarked;
         private CategoryDto.Response category;
         private UserDto.Response author;
@@ -60,7 +90,28 @@ public class PostDto {
         private String createdAt;
         private String updatedAt;
 
-        public static DetailResponse from(Post post, boolean bookmarked) {
+        public static DetailResponse from(Post post, String content, boolean bookmarked) {
+            Category category = post.getCategory();
+            User author = post.getAuthor();
+
+            return DetailResponse.builder()
+                    .id(post.getId())
+                    .categoryId(category.getId())
+                    .authorId(author.getId())
+                    .title(post.getTitle())
+                    .content(content)
+                    .viewCount(post.getViewCount())
+                    .commentCount(post.getCommentCount())
+                    .bookmarkCount(post.getBookmarkCount())
+                    .bookmarked(bookmarked)
+                    .category(CategoryDto.Response.from(category))
+                    .author(UserDto.Response.from(author))
+                    .createdAt(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(post.getCreatedAt()))
+                    .updatedAt(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(post.getUpdatedAt()))
+                    .build();
+        }
+
+        public static DetailResponse from(ArchivedPost post, boolean bookmarked) {
             Category category = post.getCategory();
             User author = post.getAuthor();
 
@@ -72,6 +123,7 @@ public class PostDto {
                     .content(post.getContent())
                     .viewCount(post.getViewCount())
                     .commentCount(post.getCommentCount())
+                    .bookmarkCount(post.getBookmarkCount())
                     .bookmarked(bookmarked)
                     .category(CategoryDto.Response.from(category))
                     .author(UserDto.Response.from(author))
@@ -0,0 +1,24 @@
+package com.beboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 / 댓글 대량 가져오기 진행 상황 및 결과
+ */
+@Getter
+@Builder
+public class PostImportResult {
+    private boolean executed;          // 다른 가져오기가 실행 중이면 false
+    private boolean completed;         // 마지막 줄까지 처리하고 카운터 재계산까지 끝났는지 여부
+    private long lines;                // 읽은 줄 수 (빈 줄 제외)
+    private long importedPosts;        // 저장한 게시글 수
+    private long importedComments;     // 저장한 댓글 수
+    private long skipped;              // 형식 오류 / 참조 실패로 건너뛴 줄 수
+    private int chunks;                // 커밋한 청크 수
+    private List<String> errors;       // 건너뛴 줄의 사유 (앞쪽 일부만)
+    private long elapsedMillis;        // 소요 시간
+    private double rowsPerSecond;      // 처리량 (저장한 행 기준)
+}
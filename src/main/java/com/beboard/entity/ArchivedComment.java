@@ -0,0 +1,50 @@
+package com.beboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 댓글 (comments_archive, 읽기 전용)
+ * 답글 구조는 parentId 로만 보관하고 조회 시 메모리에서 구성합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "comments_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = {"commenter"})
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "commenter_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User commenter;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
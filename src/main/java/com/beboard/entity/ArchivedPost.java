@@ -0,0 +1,61 @@
+package com.beboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글 (posts_archive, 읽기 전용)
+ * PostArchiveService 가 네이티브 쿼리로만 적재하며, 직접 링크 조회 시에만 사용합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "posts_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = {"author", "category"})
+public class ArchivedPost {
+
+    @Id
+    private Long id;
+
+    @Column(columnDefinition = "VARCHAR(200)", nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private int viewCount;
+
+    @Column(nullable = false)
+    private int bookmarkCount;
+
+    // 보관 시점의 댓글 수 (보관 이후 댓글은 변경되지 않음)
+    @Column(nullable = false)
+    private int commentCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Category category;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User author;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,6 +1,7 @@
 package com.beboard.entity;
 
 import com.beboard.util.BaseTimeEntity;
+import com.beboard.util.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,7 @@ import lombok.*;
 public class Bookmark extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,17 +1,23 @@
 package com.beboard.entity;
 
 import com.beboard.util.BaseTimeEntity;
+import com.beboard.util.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 2차 캐시 (노드 간 무효화는 EntityCacheService)
 public class Category extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, length = 50, unique = true)
@@ -26,6 +32,24 @@ public class Category extends BaseTimeEntity {
     @Column(nullable = false)
     private int displayOrder;
 
+    // 게시글 수 (게시글 변경 시 단일 UPDATE 로만 갱신, 엔티티 저장 시 덮어쓰지 않도록 읽기 전용 매핑)
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long postCount = 0;
+
+    // 통계용 누적 카운터 (활동 롤업 반영 시 단일 UPDATE 로만 갱신)
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount = 0;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long viewCount = 0;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long bookmarkCount = 0;
+
     @Builder
     public Category(String name, String description, Integer displayOrder) {
         this.name = name;
@@ -1,6 +1,7 @@
 package com.beboard.entity;
 
 import com.beboard.util.BaseTimeEntity;
+import com.beboard.util.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,7 +16,7 @@ import java.util.List;
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -1,6 +1,8 @@
 package com.beboard.entity;
 
 import com.beboard.util.BaseTimeEntity;
+import com.beboard.util.SnowflakeId;
+import com.beboard.util.TextExcerpt;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Formula;
@@ -16,18 +18,23 @@ import java.util.List;
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(columnDefinition = "VARCHAR(200)", nullable = false)
     private String title;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
-    private String content;
+    // 목록용 본문 요약 (본문은 post_contents 에 분리, PostContent 참고)
+    @Column(length = 300, nullable = false)
+    private String excerpt = "";
 
     @Column(nullable = false)
     private int viewCount = 0;
 
+    // 북마크 수 (북마크 추가/제거 시 단일 UPDATE 로만 갱신, 엔티티 저장 시 덮어쓰지 않도록 읽기 전용 매핑)
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int bookmarkCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
@@ -51,11 +58,11 @@ public class Post extends BaseTimeEntity {
         this.author = author;
         this.category = category;
         this.title = title;
-        this.content = content;
+        this.excerpt = TextExcerpt.of(content);
     }
 
     /**
-     * 게시글 정보 업데이트
+     * 게시글 정보 업데이트 (본문은 PostContent 에서 수정, 여기서는 요약만 갱신)
      * @param title 업데이트할 제목
      * @param content 업데이트할 내용
      * @param category 업데이트할 카테고리
@@ -65,7 +72,7 @@ public class Post extends BaseTimeEntity {
             this.title = title;
         }
         if (content != null && !content.isBlank()) {
-            this.content = content;
+            this.excerpt = TextExcerpt.of(content);
         }
         if (category != null) {
             this.category = category;
@@ -0,0 +1,48 @@
+package com.beboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 본문 (posts 에서 분리)
+ *
+ * 목록 / 정렬 / 조회수·북마크 갱신 쿼리가 본문 페이지를 버퍼 풀로 끌어오지 않도록 별도 테이블에 두고
+ * 상세 조회에서만 읽습니다. 게시글 쪽에는 연관관계를 두지 않아 Post 로딩 시 함께 조회되지 않습니다.
+ * 일정 크기 이상의 본문은 MariaDB 컬럼 압축(COMPRESSED)으로 저장되며 조회 / 검색 시 자동으로 풀립니다.
+ */
+@Entity
+@Table(name = "post_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = "post")
+public class PostContent {
+
+    @Id
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @Column(columnDefinition = "MEDIUMTEXT COMPRESSED", nullable = false)
+    private String content;
+
+    public PostContent(Post post, String content) {
+        this.post = post;
+        this.content = content;
+    }
+
+    /**
+     * 본문 수정
+     * @param content 수정할 본문
+     */
+    public void update(String content) {
+        if (content != null && !content.isBlank()) {
+            this.content = content;
+        }
+    }
+}
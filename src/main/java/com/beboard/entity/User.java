@@ -1,8 +1,11 @@
 package com.beboard.entity;
 
 import com.beboard.util.BaseTimeEntity;
+import com.beboard.util.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.cglib.core.Local;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,15 +23,18 @@ import java.util.List;
         @Index(name = "idx_user_status", columnList = "status"),
         @Index(name = "idx_user_last_login", columnList = "lastLoginAt"),
         @Index(name = "idx_user_created", columnList = "createdAt"),
-        @Index(name = "idx_user_active_status", columnList = "deleted, status, lastLoginAt")
+        @Index(name = "idx_user_active_status", columnList = "deleted, status, lastLoginAt"),
+        @Index(name = "idx_user_dormancy", columnList = "deleted, status, inactiveSince")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(exclude = {"password"})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 작성자 / 댓글 작성자 조회용 2차 캐시 (변경은 로그인 시각 등 드묾)
 public class User extends BaseTimeEntity implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -80,6 +86,14 @@ public class User extends BaseTimeEntity implements UserDetails {
      */
     private LocalDateTime lastLoginAt;
 
+    /**
+     * 휴면 판정 기준 시각 (마지막 로그인, 로그인한 적이 없으면 가입 시각)
+     * DB 가 계산하는 컬럼이므로 읽기 전용입니다.
+     */
+    @Column(insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) AS (COALESCE(last_login_at, created_at)) PERSISTENT")
+    private LocalDateTime inactiveSince;
+
     /**
      * 마지막 활동 시간 - 더 세밀한 참여도 추적
      * 로그인과 실제 활동은 다릅니다. 로그인 후 즉시 떠나는 사용자와
@@ -96,15 +110,6 @@ public class User extends BaseTimeEntity implements UserDetails {
      */
     private LocalDateTime accountLockedUntil;
 
-    /**
-     * 사용자 프로필 - 확장된 정보
-     * 핵심 인증 정보와 부가적인 프로필 정보를 분리하여
-     * 성능과 유지보수성을 높입니다. 프로필 정보는 선택적으로
-     * 로딩할 수 있어 메모리 효율성도 개선됩니다.
-     */
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private UserProfile userProfile;
-
     // 생성자: 사용자 생성 시 필수 정보 초기화
     @Builder
     public User(String email, String nickname, String password, Role role) {
@@ -144,7 +149,8 @@ public class User extends BaseTimeEntity implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return !deleted && status == UserStatus.ACTIVE;
+        // 휴면 사용자는 로그인으로 다시 활성화되므로 인증을 허용
+        return !deleted && (status == UserStatus.ACTIVE || status == UserStatus.DORMANT);
     }
 
     // =========================== 비즈니스 로직 메서드 ===========================
@@ -191,9 +197,12 @@ public class User extends BaseTimeEntity implements UserDetails {
     /**
      * 로그인 성공 처리
      * 단순히 시간만 업데이트하는 것이 아니라, 관련된
-     * 보안 정보도 함께 리셋합니다.
+     * 보안 정보도 함께 리셋합니다. 휴면 사용자는 다시 활성 상태로 전환합니다.
      */
     public void markLoginSuccess() {
+        if (this.status == UserStatus.DORMANT) {
+            this.status = UserStatus.ACTIVE;
+        }
         this.lastLoginAt = LocalDateTime.now();
         this.lastActivityAt = LocalDateTime.now();
         this.failedLoginAttempts = 0;
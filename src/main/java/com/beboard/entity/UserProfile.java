@@ -6,6 +6,14 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 사용자 프로필 - 확장된 정보
+ *
+ * 핵심 인증 정보와 부가적인 프로필 정보를 분리합니다.
+ * User 쪽에 mappedBy 역방향 일대일을 두면 Hibernate 가 프로필 존재 여부를 알기 위해
+ * 사용자를 읽을 때마다 프로필을 조회하므로(지연 로딩 불가) 이 엔티티에서만 연관관계를 관리하고,
+ * 필요할 때 사용자 ID(같은 PK)로 조회합니다.
+ */
 @Entity
 @Table(name = "user_profiles")
 @Getter
@@ -0,0 +1,63 @@
+package com.beboard.repository;
+
+import com.beboard.entity.ArchivedComment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    /**
+     * 보관된 게시글의 전체 댓글 조회 (작성자 함께 조회, 작성순)
+     * @param postId 게시글 ID
+     * @return 댓글 목록
+     */
+    @Query("SELECT c FROM ArchivedComment c JOIN FETCH c.commenter WHERE c.postId = :postId ORDER BY c.createdAt ASC")
+    List<ArchivedComment> findByPostIdWithCommenter(@Param("postId") Long postId);
+
+    /**
+     * 게시글들의 댓글을 보관 테이블로 복사
+     * @param postIds 게시글 ID 목록
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments_archive"))
+    @Query(value = "INSERT INTO comments_archive " +
+            "(id, content, post_id, commenter_id, parent_id, deleted, created_at, updated_at, archived_at) " +
+            "SELECT c.id, c.content, c.post_id, c.commenter_id, c.parent_id, c.deleted, c.created_at, c.updated_at, NOW(6) " +
+            "FROM comments c WHERE c.post_id IN (:postIds)",
+            nativeQuery = true)
+    int copyComments(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 보관된 댓글을 comments 로 되돌림 (부모 댓글이 먼저 들어가도록 ID 순)
+     * @param postId 게시글 ID
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+    @Query(value = "INSERT INTO comments (id, content, post_id, commenter_id, parent_id, deleted, created_at, updated_at) " +
+            "SELECT c.id, c.content, c.post_id, c.commenter_id, c.parent_id, c.deleted, c.created_at, c.updated_at " +
+            "FROM comments_archive c WHERE c.post_id = :postId ORDER BY c.id",
+            nativeQuery = true)
+    int restoreComments(@Param("postId") Long postId);
+
+    /**
+     * 되돌린 게시글의 보관 댓글 삭제
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments_archive"))
+    @Query(value = "DELETE FROM comments_archive WHERE post_id = :postId", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,163 @@
+package com.beboard.repository;
+
+import com.beboard.entity.ArchivedPost;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedPostRepository extends JpaRepository<ArchivedPost, Long> {
+
+    /**
+     * 보관된 게시글 상세 조회 (삭제되지 않은 게시글만, 작성자/카테고리 함께 조회)
+     * @param id 게시글 ID
+     * @return 보관된 게시글
+     */
+    @Query("SELECT p FROM ArchivedPost p JOIN FETCH p.author JOIN FETCH p.category WHERE p.id = :id AND p.deleted = false")
+    Optional<ArchivedPost> findByIdAndNotDeleted(@Param("id") Long id);
+
+    /**
+     * 되돌릴 보관 게시글 조회 (행 잠금, 같은 게시글을 동시에 되돌리지 않도록)
+     * @param id 게시글 ID
+     * @return 보관된 게시글
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ArchivedPost p WHERE p.id = :id AND p.deleted = false")
+    Optional<ArchivedPost> findForRestore(@Param("id") Long id);
+
+    /**
+     * 작성자의 보관된 게시글 수 (삭제되지 않은 게시글만)
+     * @param authorId 작성자 ID
+     * @return 게시글 수
+     */
+    long countByAuthorIdAndDeletedFalse(Long authorId);
+
+    /**
+     * 작성자의 보관된 게시글 목록 (작성일 내림차순, 활성 게시글 뒤에 이어 붙이므로 offset 으로 조회)
+     * @param authorId 작성자 ID
+     * @param limit    조회할 수
+     * @param offset   건너뛸 수
+     * @return 보관된 게시글 목록
+     */
+    @Query(value = "SELECT * FROM posts_archive WHERE author_id = :authorId AND deleted = false " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<ArchivedPost> findByAuthorIdNewest(@Param("authorId") Long authorId,
+                                            @Param("limit") int limit,
+                                            @Param("offset") long offset);
+
+    /**
+     * 보관된 게시글 존재 여부 (삭제되지 않은 게시글만)
+     * @param id 게시글 ID
+     * @return 존재 여부
+     */
+    boolean existsByIdAndDeletedFalse(Long id);
+
+    /**
+     * 보관된 게시글에 대한 사용자의 북마크 여부
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 북마크 수 (0 또는 1)
+     */
+    @Query(value = "SELECT COUNT(*) FROM bookmarks_archive WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    long countBookmark(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 게시글을 보관 테이블로 복사 (post_contents 의 본문, 보관 시점의 댓글 수 포함)
+     * @param postIds 게시글 ID 목록
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts_archive"))
+    @Query(value = "INSERT INTO posts_archive " +
+            "(id, title, content, view_count, bookmark_count, comment_count, category_id, author_id, deleted, created_at, updated_at, archived_at) " +
+            "SELECT p.id, p.title, COALESCE(pc.content, p.excerpt), p.view_count, p.bookmark_count, " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.deleted = false), " +
+            "p.category_id, p.author_id, p.deleted, p.created_at, p.updated_at, NOW(6) " +
+            "FROM posts p LEFT JOIN post_contents pc ON pc.post_id = p.id WHERE p.id IN (:postIds)",
+            nativeQuery = true)
+    int copyPosts(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글들의 북마크를 보관 테이블로 복사
+     * @param postIds 게시글 ID 목록
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookmarks_archive"))
+    @Query(value = "INSERT INTO bookmarks_archive (id, user_id, post_id, created_at, archived_at) " +
+            "SELECT b.id, b.user_id, b.post_id, b.created_at, NOW(6) FROM bookmarks b WHERE b.post_id IN (:postIds)",
+            nativeQuery = true)
+    int copyBookmarks(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 보관된 게시글을 posts / post_contents 로 되돌림
+     * 수정 시각을 현재로 두어 되돌린 직후 다시 보관되지 않도록 합니다.
+     * @param postId  게시글 ID
+     * @param excerpt 목록용 본문 요약
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "INSERT INTO posts " +
+            "(id, title, excerpt, view_count, bookmark_count, category_id, author_id, deleted, created_at, updated_at) " +
+            "SELECT a.id, a.title, :excerpt, a.view_count, a.bookmark_count, a.category_id, a.author_id, a.deleted, a.created_at, NOW(6) " +
+            "FROM posts_archive a WHERE a.id = :postId",
+            nativeQuery = true)
+    int restorePost(@Param("postId") Long postId, @Param("excerpt") String excerpt);
+
+    /**
+     * 보관된 게시글 본문을 post_contents 로 되돌림
+     * @param postId 게시글 ID
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_contents"))
+    @Query(value = "INSERT INTO post_contents (post_id, content) SELECT a.id, a.content FROM posts_archive a WHERE a.id = :postId",
+            nativeQuery = true)
+    int restoreContent(@Param("postId") Long postId);
+
+    /**
+     * 보관된 북마크를 bookmarks 로 되돌림
+     * @param postId 게시글 ID
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookmarks"))
+    @Query(value = "INSERT INTO bookmarks (id, user_id, post_id, created_at) " +
+            "SELECT b.id, b.user_id, b.post_id, b.created_at FROM bookmarks_archive b WHERE b.post_id = :postId",
+            nativeQuery = true)
+    int restoreBookmarks(@Param("postId") Long postId);
+
+    /**
+     * 되돌린 게시글의 보관 북마크 삭제
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookmarks_archive"))
+    @Query(value = "DELETE FROM bookmarks_archive WHERE post_id = :postId", nativeQuery = true)
+    int deleteBookmarksByPostId(@Param("postId") Long postId);
+
+    /**
+     * 되돌린 보관 게시글 삭제
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts_archive"))
+    @Query(value = "DELETE FROM posts_archive WHERE id = :postId", nativeQuery = true)
+    int deleteArchivedPost(@Param("postId") Long postId);
+}
@@ -1,9 +1,17 @@
 package com.beboard.repository;
 
 import com.beboard.entity.Bookmark;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -40,12 +48,30 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     long countByPostId(Long postId);
 
     /**
-     * 사용자의 북마크 삭제
+     * 북마크 추가 (중복이면 무시)
+     * (user_id, post_id) 유니크 제약에 맡겨 존재 확인 없이 단일 INSERT 로 처리합니다.
+     * 삭제된 게시글이거나 이미 북마크한 경우 0을 반환합니다.
+     * @param id     새 북마크 ID (SnowflakeIdGenerator 발급)
+     * @param userId 사용자 ID
+     * @param postId 게시글 ID
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookmarks"))
+    @Query(value = "INSERT IGNORE INTO bookmarks (id, user_id, post_id, created_at, updated_at) " +
+            "SELECT :id, :userId, p.id, NOW(6), NOW(6) FROM posts p WHERE p.id = :postId AND p.deleted = false",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id, @Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 사용자의 북마크 삭제 (엔티티 로딩 없이 단일 DELETE)
      * @param userId 사용자 ID
      * @param postId 게시글 ID
      * @return 삭제된 행 수
      */
-    long deleteByUserIdAndPostId(Long userId, Long postId);
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.user.id = :userId AND b.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 
     /**
      * 게시글에 대한 모든 북마크 삭제
@@ -53,4 +79,31 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
      * @return 삭제된 행 수
      */
     long deleteByPostId(Long postId);
+
+    /**
+     * 사용자가 북마크한 게시글 ID 전체 조회 (북마크 상태 캐시 적재용)
+     * @param userId 사용자 ID
+     * @return 게시글 ID 목록
+     */
+    @Query("SELECT b.post.id FROM Bookmark b WHERE b.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 게시글 중 사용자가 북마크한 게시글 ID 조회
+     * @param userId  사용자 ID
+     * @param postIds 게시글 ID 목록
+     * @return 북마크된 게시글 ID 목록
+     */
+    @Query("SELECT b.post.id FROM Bookmark b WHERE b.user.id = :userId AND b.post.id IN :postIds")
+    List<Long> findPostIdsByUserIdAndPostIdIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글들의 북마크 삭제
+     * @param postIds 게시글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "bookmarks"))
+    @Query(value = "DELETE FROM bookmarks WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -1,17 +1,29 @@
 package com.beboard.repository;
 
 import com.beboard.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    /**
+     * 카운터 컬럼 네이티브 UPDATE 용 query space
+     * "categories" 를 지정하면 요청마다 Category 2차 캐시 영역 전체와 활성 카테고리 목록 쿼리 캐시가 비워지므로
+     * 어떤 엔티티 / 쿼리와도 겹치지 않는 이름을 사용합니다. (카운터는 스칼라 조회 / Redis 로만 읽음)
+     */
+    String COUNTER_SPACE = "category_counters";
+
     Optional<Category> findByName(String name);
     boolean existsByName(String name);
 
@@ -26,22 +38,136 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     /**
      * 활성화된 모든 카테고리 조회 (표시 순서대로)
+     * 쿼리 캐시에는 ID 목록만 두고 엔티티는 2차 캐시에서 채웁니다. (categories 변경 시 자동 무효화)
      * @return 활성화된 카테고리 목록
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByActiveOrderByDisplayOrderAsc(boolean active);
 
     /**
-     * 특정 카테고리의 게시글 수 조회
+     * 카테고리 게시글 수 조회 (유지 중인 카운터)
+     * @param categoryId 카테고리 ID
+     * @return 게시글 수, 카테고리가 없으면 empty
+     */
+    @Query("SELECT c.postCount FROM Category c WHERE c.id = :categoryId")
+    Optional<Long> findPostCountById(@Param("categoryId") Long categoryId);
+
+    /**
+     * 모든 카테고리의 게시글 수 조회 (유지 중인 카운터)
+     * @return [카테고리 ID, 게시글 수] 목록
+     */
+    @Query("SELECT c.id, c.postCount FROM Category c")
+    List<Object[]> findAllPostCounts();
+
+    /**
+     * 모든 카테고리의 누적 카운터 조회 (2차 캐시를 거치지 않는 스칼라 조회)
+     * @return [카테고리 ID, 게시글 수, 댓글 수, 조회수, 북마크 수] 목록
+     */
+    @Query("SELECT c.id, c.postCount, c.commentCount, c.viewCount, c.bookmarkCount FROM Category c")
+    List<Object[]> findAllCounters();
+
+    /**
+     * 카테고리 게시글 수 증감 (0 미만으로 내려가지 않음)
+     * 네이티브 UPDATE 는 query space 를 지정하지 않으면 2차 캐시 전체가 무효화됩니다. (COUNTER_SPACE)
+     * @param categoryId 카테고리 ID
+     * @param delta      증감값
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE categories SET post_count = GREATEST(post_count + :delta, 0) WHERE id = :categoryId",
+            nativeQuery = true)
+    int adjustPostCount(@Param("categoryId") Long categoryId, @Param("delta") int delta);
+
+    /**
+     * 카테고리 게시글 수를 실제 게시글 수로 보정 (삭제되지 않은 게시글만)
+     * @return 보정된 카테고리 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE categories c " +
+            "LEFT JOIN (SELECT category_id, COUNT(*) AS cnt FROM posts WHERE deleted = false GROUP BY category_id) p " +
+            "ON p.category_id = c.id " +
+            "SET c.post_count = COALESCE(p.cnt, 0) " +
+            "WHERE c.post_count <> COALESCE(p.cnt, 0)",
+            nativeQuery = true)
+    int reconcilePostCounts();
+
+    /**
+     * 통계용 누적 카운터 증감 (0 미만으로 내려가지 않음)
      * @param categoryId 카테고리 ID
-     * @return 게시글 수
+     * @param comments   댓글 수 증감값
+     * @param views      조회수 증감값
+     * @param bookmarks  북마크 수 증감값
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE categories SET " +
+            "comment_count = GREATEST(comment_count + :comments, 0), " +
+            "view_count = GREATEST(view_count + :views, 0), " +
+            "bookmark_count = GREATEST(bookmark_count + :bookmarks, 0) " +
+            "WHERE id = :categoryId",
+            nativeQuery = true)
+    int adjustActivityTotals(@Param("categoryId") Long categoryId,
+                             @Param("comments") long comments,
+                             @Param("views") long views,
+                             @Param("bookmarks") long bookmarks);
+
+    /**
+     * 통계용 누적 카운터를 실제 값으로 보정 (삭제되지 않은 게시글 / 댓글 기준)
+     * @return 보정된 카테고리 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE categories c " +
+            "LEFT JOIN (SELECT category_id, SUM(view_count) AS views, SUM(bookmark_count) AS bookmarks " +
+            "           FROM posts WHERE deleted = false GROUP BY category_id) p ON p.category_id = c.id " +
+            "LEFT JOIN (SELECT p2.category_id, COUNT(*) AS comments FROM comments cm JOIN posts p2 ON p2.id = cm.post_id " +
+            "           WHERE p2.deleted = false AND cm.deleted = false GROUP BY p2.category_id) cm ON cm.category_id = c.id " +
+            "SET c.comment_count = COALESCE(cm.comments, 0), " +
+            "    c.view_count = COALESCE(p.views, 0), " +
+            "    c.bookmark_count = COALESCE(p.bookmarks, 0)",
+            nativeQuery = true)
+    int reconcileActivityTotals();
+
+    /**
+     * 시간 단위 활동 롤업 누적
+     * @param bucketHour 시간 버킷 (정시)
+     * @param categoryId 카테고리 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_activity_rollups"))
+    @Query(value = "INSERT INTO category_activity_rollups (bucket_hour, category_id, posts, comments, views, bookmarks) " +
+            "VALUES (:bucketHour, :categoryId, :posts, :comments, :views, :bookmarks) " +
+            "ON DUPLICATE KEY UPDATE posts = posts + VALUES(posts), comments = comments + VALUES(comments), " +
+            "views = views + VALUES(views), bookmarks = bookmarks + VALUES(bookmarks)",
+            nativeQuery = true)
+    int upsertActivityRollup(@Param("bucketHour") LocalDateTime bucketHour,
+                             @Param("categoryId") Long categoryId,
+                             @Param("posts") long posts,
+                             @Param("comments") long comments,
+                             @Param("views") long views,
+                             @Param("bookmarks") long bookmarks);
+
+    /**
+     * 기준 시각 이후 카테고리별 활동 합계
+     * @param since 기준 시각
+     * @return [카테고리 ID, 게시글, 댓글, 조회수, 북마크] 목록
      */
-    @Query("SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId AND p.deleted = false")
-    long countPostsByCategoryId(@Param("categoryId") Long categoryId);
+    @Query(value = "SELECT category_id, SUM(posts), SUM(comments), SUM(views), SUM(bookmarks) " +
+            "FROM category_activity_rollups WHERE bucket_hour >= :since GROUP BY category_id",
+            nativeQuery = true)
+    List<Object[]> sumActivitySince(@Param("since") LocalDateTime since);
 
     /**
-     * 모든 카테고리의 게시글 수 조회
-     * @return 카테고리별 게시글 수 목록 (Object[] 배열의 리스트로, [0]은 카테고리 ID, [1]은 게시글 수)
+     * 보관 기간이 지난 활동 롤업 삭제
+     * @param before 기준 시각
+     * @return 삭제된 행 수
      */
-    @Query("SELECT c.id, COUNT(p) FROM Category c LEFT JOIN Post p ON c.id = p.category.id AND p.deleted = false GROUP BY c.id")
-    List<Long[]> countPostsByCategories();
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_activity_rollups"))
+    @Query(value = "DELETE FROM category_activity_rollups WHERE bucket_hour < :before", nativeQuery = true)
+    int deleteActivityRollupsBefore(@Param("before") LocalDateTime before);
 }
@@ -1,15 +1,21 @@
 package com.beboard.repository;
 
 import com.beboard.entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -23,6 +29,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL AND c.deleted = false ORDER BY c.createdAt DESC")
     Page<Comment> findByPostIdAndParentIsNullAndNotDeleted(@Param("postId") Long postId, Pageable pageable);
 
+    /**
+     * 댓글 ID로 작성자와 함께 조회
+     * 답글 알림 수신자(부모 댓글 작성자) 결정 시 지연 로딩을 피하기 위해 사용
+     * @param id 댓글 ID
+     * @return 댓글 Optional
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.commenter WHERE c.id = :id")
+    Optional<Comment> findByIdWithCommenter(@Param("id") Long id);
+
     /**
      * 게시글별 모든 댓글 목록 조회
      * @param postId 게시글 ID
@@ -54,4 +69,24 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.createdAt >= :since AND c.deleted = false")
     long countCommentsSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 게시글들의 답글 연결 해제 (부모/자식 댓글을 한 번에 삭제할 때 외래 키 충돌 방지)
+     * @param postIds 게시글 ID 목록
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+    @Query(value = "UPDATE comments SET parent_id = NULL WHERE post_id IN (:postIds) AND parent_id IS NOT NULL", nativeQuery = true)
+    int detachRepliesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글들의 댓글 삭제
+     * @param postIds 게시글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+    @Query(value = "DELETE FROM comments WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
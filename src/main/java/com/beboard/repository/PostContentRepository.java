@@ -0,0 +1,36 @@
+package com.beboard.repository;
+
+import com.beboard.entity.PostContent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    /**
+     * 게시글 본문만 조회 (게시글 엔티티 로딩 없이)
+     * @param postId 게시글 ID
+     * @return 본문 Optional
+     */
+    @Query("SELECT pc.content FROM PostContent pc WHERE pc.postId = :postId")
+    Optional<String> findContentByPostId(@Param("postId") Long postId);
+
+    /**
+     * 보관 테이블로 옮긴 게시글의 본문 삭제
+     * @param postIds 게시글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_contents"))
+    @Query(value = "DELETE FROM post_contents WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteAllByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
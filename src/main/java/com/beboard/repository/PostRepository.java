@@ -1,14 +1,20 @@
 package com.beboard.repository;
 
 import com.beboard.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,6 +30,33 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.id = :id AND p.deleted = false")
     Optional<Post> findByIdAndNotDeleted(@Param("id") Long id);
 
+    /**
+     * 게시글 존재 여부 확인 (삭제되지 않은 게시글만)
+     * @param id 게시글 ID
+     * @return 존재 여부
+     */
+    boolean existsByIdAndDeletedFalse(Long id);
+
+    /**
+     * 게시글 북마크 수 증감 (엔티티 로딩 없이 단일 UPDATE)
+     * @param postId 게시글 ID
+     * @param delta 증감값
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "UPDATE posts SET bookmark_count = GREATEST(bookmark_count + :delta, 0) WHERE id = :postId", nativeQuery = true)
+    int adjustBookmarkCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 게시글 ID로 작성자와 함께 조회 (삭제되지 않은 게시글만)
+     * 알림 수신자 결정 시 작성자 지연 로딩을 피하기 위해 사용
+     * @param id 게시글 ID
+     * @return 게시글 Optional
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id = :id AND p.deleted = false")
+    Optional<Post> findByIdWithAuthorAndNotDeleted(@Param("id") Long id);
+
     /**
      * 카테고리별 게시글 목록 조회 (삭제되지 않은 게시글만)
      * @param categoryId 카테고리 ID
@@ -35,21 +68,21 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
      * 검색어로 게시글 목록 조회 (삭제되지 않은 게시글만)
-     * @param searchTerm 검색어 (제목, 내용, 작성자 이름)
+     * @param searchTerm 검색어 (제목, 내용(post_contents), 작성자 이름)
      * @param pageable 페이징 정보
      * @return 게시글 페이지
      */
-    @Query("SELECT p FROM Post p WHERE (p.title LIKE %:searchTerm% OR p.content LIKE %:searchTerm% OR p.author.nickname LIKE %:searchTerm%) AND p.deleted = false")
+    @Query("SELECT p FROM Post p WHERE (p.title LIKE %:searchTerm% OR EXISTS (SELECT 1 FROM PostContent pc WHERE pc.postId = p.id AND pc.content LIKE %:searchTerm%) OR p.author.nickname LIKE %:searchTerm%) AND p.deleted = false")
     Page<Post> searchPosts(@Param("searchTerm") String searchTerm, Pageable pageable);
 
     /**
      * 카테고리별 & 검색어로 게시글 목록 조회 (삭제되지 않은 게시글만)
      * @param categoryId 카테고리 ID
-     * @param searchTerm 검색어 (제목, 내용, 작성자 이름)
+     * @param searchTerm 검색어 (제목, 내용(post_contents), 작성자 이름)
      * @param pageable 페이징 정보
      * @return 게시글 페이지
      */
-    @Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND (p.title LIKE %:searchTerm% OR p.content LIKE %:searchTerm% OR p.author.nickname LIKE %:searchTerm%) AND p.deleted = false")
+    @Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND (p.title LIKE %:searchTerm% OR EXISTS (SELECT 1 FROM PostContent pc WHERE pc.postId = p.id AND pc.content LIKE %:searchTerm%) OR p.author.nickname LIKE %:searchTerm%) AND p.deleted = false")
     Page<Post> searchPostsByCategory(@Param("categoryId") Long categoryId, @Param("searchTerm") String searchTerm, Pageable pageable);
 
     /**
@@ -94,4 +127,69 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @Query("SELECT p FROM Post p WHERE p.deleted = false ORDER BY p.viewCount DESC, p.createdAt DESC")
     Page<Post> findPopularPosts(Pageable pageable);
+
+    /**
+     * ID 목록으로 게시글 조회 (삭제되지 않은 게시글만)
+     * @param ids 게시글 ID 목록
+     * @return 게시글 목록 (순서 보장 안 됨)
+     */
+    @Query("SELECT p FROM Post p WHERE p.id IN :ids AND p.deleted = false")
+    List<Post> findAllByIdInAndNotDeleted(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 북마크 수 상위 게시글 ID와 북마크 수 조회 (삭제되지 않은 게시글만)
+     * @param pageable 조회할 게시글 수
+     * @return [게시글 ID, 북마크 수] 목록
+     */
+    @Query("SELECT p.id, p.bookmarkCount FROM Post p WHERE p.deleted = false AND p.bookmarkCount > 0 ORDER BY p.bookmarkCount DESC, p.id DESC")
+    List<Object[]> findBookmarkRanking(Pageable pageable);
+
+    /**
+     * 게시글 북마크 수를 실제 북마크 행 수로 보정
+     * @return 보정된 게시글 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "UPDATE posts p " +
+            "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM bookmarks GROUP BY post_id) b ON b.post_id = p.id " +
+            "SET p.bookmark_count = COALESCE(b.cnt, 0) " +
+            "WHERE p.bookmark_count <> COALESCE(b.cnt, 0)",
+            nativeQuery = true)
+    int reconcileBookmarkCounts();
+
+    /**
+     * 보관 대상 게시글 조회 (ID 키셋)
+     * - 삭제된 게시글
+     * - 기준 시각 이후 수정 / 조회(updatedAt) / 댓글이 없고 북마크도 없는 게시글
+     * 북마크된 게시글은 북마크 목록에서 사라지지 않도록 보관하지 않습니다.
+     * @param cutoff   마지막 활동 기준 시각
+     * @param afterId  이전 청크의 마지막 게시글 ID
+     * @param pageable 청크 크기
+     * @return [게시글 ID, 카테고리 ID, 삭제 여부] 목록 (ID 오름차순)
+     */
+    @Query("SELECT p.id, p.category.id, p.deleted FROM Post p WHERE p.id > :afterId AND (p.deleted = true " +
+            "OR (p.bookmarkCount = 0 AND COALESCE(p.updatedAt, p.createdAt) < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM Comment c WHERE c.post = p AND c.createdAt >= :cutoff))) " +
+            "ORDER BY p.id")
+    List<Object[]> findArchiveCandidatesAfter(@Param("cutoff") LocalDateTime cutoff,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    /**
+     * 보관 테이블로 옮긴 게시글 삭제
+     * @param ids 게시글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "DELETE FROM posts WHERE id IN (:ids)", nativeQuery = true)
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글의 카테고리 ID 조회 (엔티티 로딩 없이)
+     * @param id 게시글 ID
+     * @return 카테고리 ID
+     */
+    @Query("SELECT p.category.id FROM Post p WHERE p.id = :id")
+    Optional<Long> findCategoryIdById(@Param("id") Long id);
 }
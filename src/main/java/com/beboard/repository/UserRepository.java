@@ -1,14 +1,18 @@
 package com.beboard.repository;
 
+import com.beboard.entity.Role;
 import com.beboard.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,6 +33,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByNickname(String nickname);
 
+    /**
+     * 권한 확인용 역할 조회 (삭제 / 비활성 사용자 제외)
+     * 2차 캐시(User 영역)를 거치지 않고 DB 에서 읽으므로 역할 변경이나 비활성화가 다른 노드에도 바로 반영됩니다.
+     * @param id 사용자 ID
+     * @return 역할 Optional
+     */
+    @Query("SELECT u.role FROM User u WHERE u.id = :id AND u.deleted = false AND u.active = true")
+    Optional<Role> findActiveRoleById(@Param("id") Long id);
+
+    /**
+     * 사용자명 목록으로 사용자 ID 일괄 조회 (삭제되지 않은 사용자만)
+     * @param nicknames 조회할 사용자명 목록
+     * @return [0]은 사용자 ID, [1]은 사용자명인 Object[] 배열의 리스트
+     */
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.nickname IN :nicknames AND u.deleted = false")
+    List<Object[]> findIdsByNicknameIn(@Param("nicknames") Collection<String> nicknames);
+
+    /**
+     * 이메일 목록으로 사용자 ID 일괄 조회 (삭제되지 않은 사용자만)
+     * @param emails 조회할 이메일 목록
+     * @return [0]은 사용자 ID, [1]은 이메일인 Object[] 배열의 리스트
+     */
+    @Query("SELECT u.id, u.email FROM User u WHERE u.email IN :emails AND u.deleted = false")
+    List<Object[]> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
     /**
      * 이메일 존재 여부 확인
      * @param email 확인할 이메일
@@ -92,9 +121,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 단순한 통계를 넘어서 구체적인 사용자 정보와 활동 패턴을 제공합니다.
      */
     @Query("""
-        SELECT DISTINCT u
+        SELECT u
         FROM User u
-        LEFT JOIN FETCH u.userProfile up
         WHERE u.deleted = false
         AND u.status = 'ACTIVE'
         AND u.lastLoginAt >= :since
@@ -115,4 +143,46 @@ public interface UserRepository extends JpaRepository<User, Long> {
         ORDER BY u.lastLoginAt ASC
     """)
     Page<User> findDormantUsers(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    /**
+     * 휴면 전환 대상 키셋 조회 (inactiveSince, id 순)
+     * 로그인한 적이 없는 사용자도 포함되도록 마지막 로그인 대신 inactiveSince(없으면 가입 시각)로 판정합니다.
+     * OFFSET 대신 마지막으로 처리한 (inactiveSince, id) 이후부터 조회하므로
+     * 테이블이 커져도 청크마다 인덱스(deleted, status, inactive_since) 범위 스캔만 수행합니다.
+     * @return [0]은 사용자 ID, [1]은 휴면 판정 기준 시각인 Object[] 배열의 리스트
+     */
+    @Query("""
+        SELECT u.id, u.inactiveSince FROM User u
+        WHERE u.deleted = false
+        AND u.status = 'ACTIVE'
+        AND u.inactiveSince < :threshold
+        AND (u.inactiveSince > :afterInactiveSince OR (u.inactiveSince = :afterInactiveSince AND u.id > :afterId))
+        ORDER BY u.inactiveSince ASC, u.id ASC
+    """)
+    List<Object[]> findDormantCandidatesAfter(@Param("threshold") LocalDateTime threshold,
+                                              @Param("afterInactiveSince") LocalDateTime afterInactiveSince,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    /**
+     * 휴면 상태 일괄 전환
+     * 조회 이후 로그인한 사용자는 제외되도록 조건을 다시 확인합니다.
+     * @return 전환된 사용자 수
+     */
+    @Modifying
+    @Query("""
+        UPDATE User u SET u.status = 'DORMANT', u.updatedAt = :now
+        WHERE u.id IN :ids
+        AND u.status = 'ACTIVE'
+        AND u.inactiveSince < :threshold
+    """)
+    int markDormant(@Param("ids") Collection<Long> ids,
+                    @Param("threshold") LocalDateTime threshold,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 사용자 중 휴면 상태인 사용자 ID 조회
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.status = 'DORMANT'")
+    List<Long> findDormantIdsIn(@Param("ids") Collection<Long> ids);
 }
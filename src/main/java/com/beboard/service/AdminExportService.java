@@ -0,0 +1,235 @@
+package com.beboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 관리자 데이터 내보내기 (CSV / NDJSON 스트리밍)
+ *
+ * 페이지 단위 조회는 OFFSET 이 커질수록 느려지고 전체를 힙에 올리게 되므로
+ * 1. 읽기 전용 트랜잭션에서 Hibernate ScrollableResults(FORWARD_ONLY, fetchSize)로 커서 조회
+ * 2. 엔티티 대신 필요한 컬럼만 조회하여 행 단위로 바로 응답 스트림에 기록
+ * 3. 일정 행마다 출력 버퍼를 내보내고 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+ */
+@Service
+@Slf4j
+public class AdminExportService {
+
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int flushInterval;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AdminExportService(ObjectMapper objectMapper,
+                              @Value("${admin.export.fetch-size:1000}") int fetchSize,
+                              @Value("${admin.export.flush-interval:5000}") int flushInterval) {
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * 내보내기 대상
+     */
+    public enum Target {
+        USERS("""
+                SELECT u.id, u.email, u.nickname, u.role, u.status, u.active, u.deleted, u.lastLoginAt, u.createdAt
+                FROM User u
+                ORDER BY u.id""",
+                List.of("id", "email", "nickname", "role", "status", "active", "deleted", "lastLoginAt", "createdAt")),
+
+        POSTS("""
+                SELECT p.id, p.title, c.id, c.name, a.id, a.nickname, p.viewCount, p.bookmarkCount, p.deleted, p.createdAt, p.updatedAt
+                FROM Post p JOIN p.category c JOIN p.author a
+                ORDER BY p.id""",
+                List.of("id", "title", "categoryId", "categoryName", "authorId", "authorNickname",
+                        "viewCount", "bookmarkCount", "deleted", "createdAt", "updatedAt")),
+
+        COMMENTS("""
+                SELECT cm.id, cm.post.id, u.id, u.nickname, cm.parent.id, cm.content, cm.deleted, cm.createdAt
+                FROM Comment cm JOIN cm.commenter u
+                ORDER BY cm.id""",
+                List.of("id", "postId", "commenterId", "commenterNickname", "parentId", "content", "deleted", "createdAt"));
+
+        private final String query;
+        private final List<String> columns;
+
+        Target(String query, List<String> columns) {
+            this.query = query;
+            this.columns = columns;
+        }
+    }
+
+    /**
+     * 출력 형식
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 대상 데이터를 지정한 형식으로 출력 스트림에 기록
+     *
+     * @param target 내보내기 대상
+     * @param format 출력 형식
+     * @param out    응답 출력 스트림
+     * @return 기록한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Target target, Format format, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Session session = entityManager.unwrap(Session.class);
+        RowWriter writer = format == Format.CSV
+                ? new CsvRowWriter(out, target.columns)
+                : new NdjsonRowWriter(objectMapper, out, target.columns);
+
+        long count = 0;
+        try (ScrollableResults<Object[]> rows = session.createQuery(target.query, Object[].class)
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            writer.writeHeader();
+            while (rows.next()) {
+                writer.writeRow(rows.get());
+                if (++count % flushInterval == 0) {
+                    writer.flush();
+                    session.clear();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("관리자 내보내기 완료 - 대상: {}, 형식: {}, 행 수: {}, 소요: {}ms",
+                target, format, count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    // =========================== 행 기록기 ===========================
+
+    private interface RowWriter {
+        void writeHeader() throws IOException;
+
+        void writeRow(Object[] row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final List<String> columns;
+
+        private CsvRowWriter(OutputStream out, List<String> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = columns;
+            // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 기록
+            this.writer.write('\uFEFF');
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write(String.join(",", columns));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(Object[] row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(row[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180 이스케이프 + 수식 주입 방지 (=, +, -, @ 로 시작하는 값 앞에 ' 추가)
+        private static String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+            return text;
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final List<String> columns;
+
+        private NdjsonRowWriter(ObjectMapper objectMapper, OutputStream out, List<String> columns) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.columns = columns;
+        }
+
+        @Override
+        public void writeHeader() {
+            // NDJSON 은 헤더 없이 행마다 필드명을 포함
+        }
+
+        @Override
+        public void writeRow(Object[] row) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < row.length; i++) {
+                generator.writeFieldName(columns.get(i));
+                Object value = row[i];
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Number || value instanceof Boolean) {
+                    generator.writeObject(value);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -81,8 +81,10 @@ public class AuthService {
         // 인증 정보 저장
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // 사용자 정보 조회
+        // 사용자 정보 조회 및 로그인 기록 (휴면 사용자 재활성화 포함)
         User user = (User) authentication.getPrincipal();
+        user.markLoginSuccess();
+        userRepository.save(user);
 
         // JWT 토큰 생성
         String accessToken = jwtTokenProvider.generateAccessToken(user);
@@ -0,0 +1,214 @@
+package com.beboard.service;
+
+import com.beboard.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 북마크 수 랭킹 (Redis Sorted Set)
+ *
+ * 1. 북마크 추가/제거 시 ZINCRBY 로 점수만 증감 (트랜잭션 커밋 후, 롤백된 변경은 반영하지 않음)
+ * 2. 랭킹 조회는 ZREVRANGEBYSCORE 한 번 (점수 0 이하 제외)
+ * 3. 주기적으로 posts.bookmark_count 를 실제 북마크 행 수로 보정한 뒤 상위 N개로 랭킹을 교정
+ *    - DB 조회 직전에 현재 랭킹을 실행별 base 키로 복사하고, DB 결과는 실행별 rebuild 키에 기록
+ *    - 랭킹 = 현재 - base + rebuild (ZUNIONSTORE WEIGHTS 1 -1 1, Lua 한 번)
+ *      -> 복사 이후 들어온 ZINCRBY 는 그대로 남음 (RENAME 으로 교체하면 사라짐)
+ *    - 스케줄 실행은 Redis 락으로 주기마다 클러스터 전체에서 한 번만 (애플리케이션 시작 시 포함)
+ * Redis 를 사용할 수 없으면 bookmark_count 인덱스로 직접 조회합니다.
+ */
+@Service
+@Slf4j
+public class BookmarkRankingService {
+
+    private static final String RANKING_KEY = "post:bookmark-ranking";
+    private static final String RECONCILE_LOCK_KEY = RANKING_KEY + ":reconcile:lock";
+    // 실행이 중간에 죽어도 임시 키가 남지 않도록
+    private static final Duration WORK_KEY_TTL = Duration.ofMinutes(10);
+
+    // KEYS = [랭킹, base], ARGV = [만료(ms)]
+    private static final RedisScript<Long> SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('zunionstore', KEYS[2], 1, KEYS[1]) " +
+            "redis.call('pexpire', KEYS[2], ARGV[1]) " +
+            "return redis.call('zcard', KEYS[2])",
+            Long.class);
+
+    // KEYS = [랭킹, base, rebuild], ARGV = [랭킹 크기]
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('zunionstore', KEYS[1], 3, KEYS[1], KEYS[2], KEYS[3], 'WEIGHTS', 1, -1, 1) " +
+            "redis.call('zremrangebyscore', KEYS[1], '-inf', 0) " +
+            "redis.call('zremrangebyrank', KEYS[1], 0, -(tonumber(ARGV[1]) + 1)) " +
+            "redis.call('del', KEYS[2], KEYS[3]) " +
+            "return redis.call('zcard', KEYS[1])",
+            Long.class);
+
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisLockService redisLockService;
+    private final int rankingSize;
+    private final Duration reconcileInterval;
+
+    public BookmarkRankingService(PostRepository postRepository,
+                                  RedisTemplate<String, Object> redisTemplate,
+                                  RedisLockService redisLockService,
+                                  @Value("${post.ranking.bookmark.size:1000}") int rankingSize,
+                                  @Value("${post.ranking.bookmark.reconcile-interval-ms:600000}") long reconcileIntervalMs) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisLockService = redisLockService;
+        this.rankingSize = rankingSize;
+        this.reconcileInterval = Duration.ofMillis(reconcileIntervalMs);
+    }
+
+    /**
+     * 북마크 수 변경 반영 (트랜잭션 커밋 후)
+     *
+     * @param postId 게시글 ID
+     * @param delta  증감값
+     */
+    public void onBookmarkCountChanged(Long postId, int delta) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForZSet().incrementScore(RANKING_KEY, postId, delta);
+            } catch (Exception e) {
+                // 다음 재계산 때 보정되므로 경고만 남김
+                log.warn("북마크 랭킹 갱신 실패: postId = {}, error = {}", postId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 삭제된 게시글 랭킹 제거 (트랜잭션 커밋 후)
+     *
+     * @param postId 게시글 ID
+     */
+    public void remove(Long postId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForZSet().remove(RANKING_KEY, postId);
+            } catch (Exception e) {
+                log.warn("북마크 랭킹 제거 실패: postId = {}, error = {}", postId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 북마크 수 상위 게시글 ID 조회
+     *
+     * @param limit 조회할 게시글 수
+     * @return 게시글 ID (북마크 수 내림차순)
+     */
+    public List<Long> getTopPostIds(int limit) {
+        try {
+            Set<Object> members = redisTemplate.opsForZSet()
+                    .reverseRangeByScore(RANKING_KEY, 1, Double.POSITIVE_INFINITY, 0, limit);
+            if (members != null && !members.isEmpty()) {
+                List<Long> postIds = new ArrayList<>(members.size());
+                for (Object member : members) {
+                    postIds.add(((Number) member).longValue());
+                }
+                return postIds;
+            }
+        } catch (Exception e) {
+            log.warn("북마크 랭킹 조회 실패, 데이터베이스 조회로 fallback: {}", e.getMessage());
+        }
+
+        return postRepository.findBookmarkRanking(PageRequest.of(0, limit)).stream()
+                .map(row -> (Long) row[0])
+                .toList();
+    }
+
+    /**
+     * 주기 보정 (클러스터 전체에서 주기마다 한 번)
+     * 락은 해제하지 않고 주기만큼 유지하여, 다른 노드가 같은 주기 안에 다시 실행하지 않도록 합니다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${post.ranking.bookmark.reconcile-interval-ms:600000}")
+    public void reconcileScheduled() {
+        if (redisLockService.tryLock(RECONCILE_LOCK_KEY, reconcileInterval).isEmpty()) {
+            log.debug("북마크 랭킹 재계산이 이번 주기에 이미 실행되었습니다.");
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * 북마크 수 보정 및 랭킹 재계산
+     * ZINCRBY 실패나 Redis 재시작으로 생긴 차이를 바로잡습니다.
+     * base 복사와 DB 조회 사이에 커밋된 북마크는 한 번 더 더해질 수 있으며 다음 보정에서 바로잡힙니다.
+     */
+    @Transactional
+    public void reconcile() {
+        long startTime = System.currentTimeMillis();
+
+        int corrected = postRepository.reconcileBookmarkCounts();
+
+        String runId = UUID.randomUUID().toString();
+        String baseKey = RANKING_KEY + ":base:" + runId;
+        String rebuildKey = RANKING_KEY + ":rebuild:" + runId;
+
+        try {
+            executeScript(SNAPSHOT_SCRIPT, List.of(RANKING_KEY, baseKey), WORK_KEY_TTL.toMillis());
+        } catch (Exception e) {
+            log.warn("북마크 랭킹 재계산 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 복사 직후 조회 (이 조회 시점의 스냅샷으로 읽음)
+        List<Object[]> ranking = postRepository.findBookmarkRanking(PageRequest.of(0, rankingSize));
+
+        Long size;
+        try {
+            if (!ranking.isEmpty()) {
+                Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>(ranking.size());
+                for (Object[] row : ranking) {
+                    tuples.add(new DefaultTypedTuple<>(row[0], ((Number) row[1]).doubleValue()));
+                }
+                redisTemplate.opsForZSet().add(rebuildKey, tuples);
+                redisTemplate.expire(rebuildKey, WORK_KEY_TTL);
+            }
+            size = executeScript(MERGE_SCRIPT, List.of(RANKING_KEY, baseKey, rebuildKey), rankingSize);
+        } catch (Exception e) {
+            log.warn("북마크 랭킹 재계산 실패: {}", e.getMessage());
+            return;
+        }
+
+        log.info("북마크 랭킹 재계산 완료 - 보정된 게시글: {}, 랭킹 크기: {}, 소요: {}ms",
+                corrected, size, System.currentTimeMillis() - startTime);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Long executeScript(RedisScript<Long> script, List<String> keys, Object... args) {
+        // 값 직렬화(JSON)를 거치지 않도록 인자는 문자열로 전달
+        return redisTemplate.execute(script, RedisSerializer.string(), LONG_SERIALIZER, keys,
+                Arrays.stream(args).map(String::valueOf).toArray());
+    }
+}
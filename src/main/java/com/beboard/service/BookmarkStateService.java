@@ -0,0 +1,153 @@
+package com.beboard.service;
+
+import com.beboard.repository.BookmarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 북마크 상태 조회
+ *
+ * 목록 화면에서 게시글마다 북마크 여부를 조회하지 않도록 사용자별 북마크 게시글 ID를 Redis Set 으로 보관합니다.
+ * 1. 목록의 게시글 ID 전체를 SMISMEMBER 한 번으로 확인
+ * 2. Set 이 없으면(만료, 최초 조회) BookmarkRepository 에서 한 번 적재 (lazy warm-up)
+ * 3. Redis 장애 시 IN 쿼리 한 번으로 fallback
+ *
+ * 빈 Set 은 Redis 에서 키가 사라지므로, 적재 완료 표시로 센티넬(0)을 함께 넣어 둡니다.
+ * 적재 전 SADD 로 만들어진 불완전한 Set 은 센티넬이 없으므로 다음 조회 때 다시 적재됩니다.
+ * 북마크 추가 / 제거 반영은 트랜잭션 커밋 후에 실행하여 롤백된 변경이 Set 에 남지 않도록 합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BookmarkStateService {
+
+    private static final String KEY_PREFIX = "user:bookmarks:";
+    private static final Long LOADED_SENTINEL = 0L;
+    private static final Duration CACHE_TTL = Duration.ofHours(1);
+
+    private final BookmarkRepository bookmarkRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 주어진 게시글 중 사용자가 북마크한 게시글 ID 조회
+     *
+     * @param userId  사용자 ID (null 이면 비로그인)
+     * @param postIds 게시글 ID 목록
+     * @return 북마크된 게시글 ID
+     */
+    public Set<Long> findBookmarked(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        String key = KEY_PREFIX + userId;
+        try {
+            Object[] members = new Object[postIds.size() + 1];
+            members[0] = LOADED_SENTINEL;
+            int index = 1;
+            for (Long postId : postIds) {
+                members[index++] = postId;
+            }
+
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members);
+            if (result == null || !Boolean.TRUE.equals(result.get(LOADED_SENTINEL))) {
+                Set<Long> bookmarked = warmUp(key, userId);
+                Set<Long> matched = new HashSet<>(postIds);
+                matched.retainAll(bookmarked);
+                return matched;
+            }
+
+            Set<Long> matched = new HashSet<>();
+            for (Long postId : postIds) {
+                if (Boolean.TRUE.equals(result.get(postId))) {
+                    matched.add(postId);
+                }
+            }
+            return matched;
+        } catch (Exception e) {
+            log.warn("북마크 상태 캐시 조회 실패, 데이터베이스 조회로 fallback: userId = {}, error = {}",
+                    userId, e.getMessage());
+            return new HashSet<>(bookmarkRepository.findPostIdsByUserIdAndPostIdIn(userId, postIds));
+        }
+    }
+
+    /**
+     * 단일 게시글 북마크 여부
+     */
+    public boolean isBookmarked(Long userId, Long postId) {
+        return findBookmarked(userId, List.of(postId)).contains(postId);
+    }
+
+    /**
+     * 북마크 추가 반영 (트랜잭션 커밋 후)
+     */
+    public void onBookmarked(Long userId, Long postId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForSet().add(KEY_PREFIX + userId, postId);
+            } catch (Exception e) {
+                evict(userId);
+            }
+        });
+    }
+
+    /**
+     * 북마크 제거 반영 (트랜잭션 커밋 후)
+     */
+    public void onUnbookmarked(Long userId, Long postId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForSet().remove(KEY_PREFIX + userId, postId);
+            } catch (Exception e) {
+                evict(userId);
+            }
+        });
+    }
+
+    /**
+     * 사용자 북마크 상태 캐시 제거
+     */
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("북마크 상태 캐시 제거 실패: userId = {}, error = {}", userId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 데이터베이스에서 사용자 북마크 전체를 읽어 Set 적재
+    private Set<Long> warmUp(String key, Long userId) {
+        List<Long> postIds = bookmarkRepository.findPostIdsByUserId(userId);
+
+        Object[] members = new Object[postIds.size() + 1];
+        members[0] = LOADED_SENTINEL;
+        for (int i = 0; i < postIds.size(); i++) {
+            members[i + 1] = postIds.get(i);
+        }
+        redisTemplate.opsForSet().add(key, members);
+        redisTemplate.expire(key, CACHE_TTL);
+
+        log.debug("북마크 상태 캐시 적재: userId = {}, count = {}", userId, postIds.size());
+        return new HashSet<>(postIds);
+    }
+}
@@ -0,0 +1,212 @@
+package com.beboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * 카테고리 활동 카운터 (Redis)
+ *
+ * 게시글/댓글/조회/북마크가 일어날 때마다 카테고리 행을 갱신하면 조회수처럼 잦은 쓰기가
+ * 소수의 카테고리 행에 몰리므로, 커밋 후 Redis 에만 누적하고 통계 갱신 시 DB 롤업으로 옮깁니다.
+ * 1. 시간 버킷 Hash (category:activity:{yyyyMMddHH}) 의 {카테고리 ID}:{지표} 필드를 HINCRBY
+ * 2. 작성자 순위는 일 단위 Sorted Set (category:top-authors:{카테고리 ID}:{yyyyMMdd}) 에 ZINCRBY
+ * 3. drain 은 버킷을 RENAME 으로 떼어낸 뒤 읽으므로 여러 노드가 동시에 실행해도 한 번만 반영됨
+ *    반영에 실패한 버킷은 원래 키에 다시 더해 두어 다음 drain 때 반영됨
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryActivityRecorder {
+
+    /**
+     * 활동 지표
+     */
+    public enum Metric {
+        POSTS, COMMENTS, VIEWS, BOOKMARKS
+    }
+
+    private static final String BUCKET_KEY_PREFIX = "category:activity:";
+    private static final String AUTHOR_KEY_PREFIX = "category:top-authors:";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Duration BUCKET_TTL = Duration.ofDays(2);
+    private static final Duration AUTHOR_TTL = Duration.ofDays(8);
+
+    // KEYS = [버킷, 떼어낸 버킷], ARGV = [만료(ms)]
+    // 떼어낸 뒤 같은 이름으로 새 버킷이 생겼을 수 있으므로 RENAME 대신 필드별로 더함
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('hgetall', KEYS[2]) " +
+            "for i = 1, #entries, 2 do redis.call('hincrby', KEYS[1], entries[i], entries[i + 1]) end " +
+            "redis.call('del', KEYS[2]) " +
+            "if #entries > 0 then redis.call('pexpire', KEYS[1], ARGV[1]) end " +
+            "return #entries / 2",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 활동 기록 (트랜잭션 커밋 후 반영)
+     *
+     * @param categoryId 카테고리 ID
+     * @param metric     지표
+     * @param delta      증감값
+     */
+    public void record(Long categoryId, Metric metric, int delta) {
+        afterCommit(() -> increment(categoryId, metric, delta));
+    }
+
+    /**
+     * 게시글 작성 기록 (게시글 수 + 작성자 순위, 트랜잭션 커밋 후 반영)
+     *
+     * @param categoryId 카테고리 ID
+     * @param authorId   작성자 ID
+     */
+    public void recordPostCreated(Long categoryId, Long authorId) {
+        afterCommit(() -> {
+            increment(categoryId, Metric.POSTS, 1);
+            try {
+                String key = authorKey(categoryId, LocalDate.now());
+                redisTemplate.opsForZSet().incrementScore(key, String.valueOf(authorId), 1);
+                redisTemplate.expire(key, AUTHOR_TTL);
+            } catch (Exception e) {
+                log.warn("카테고리 작성자 순위 갱신 실패: categoryId = {}, error = {}", categoryId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 최근 시간 버킷을 떼어내 전달하고, 처리에 성공한 버킷만 삭제
+     * 처리에 실패한 버킷은 원래 버킷에 다시 합쳐 둡니다. (sink 는 버킷 단위로 전부 반영하거나 전부 실패해야 함)
+     *
+     * @param hours 현재 시각부터 거슬러 올라갈 시간 수
+     * @param sink  (버킷 시각, 카테고리 ID 별 [게시글, 댓글, 조회수, 북마크]) 처리기
+     * @return 처리한 버킷 수
+     */
+    public int drain(int hours, BiConsumer<LocalDateTime, Map<Long, long[]>> sink) {
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        int drained = 0;
+
+        for (int i = 0; i < hours; i++) {
+            LocalDateTime bucketHour = currentHour.minusHours(i);
+            String key = BUCKET_KEY_PREFIX + bucketHour.format(HOUR_FORMAT);
+            String drainKey = key + ":draining:" + UUID.randomUUID();
+
+            try {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                    continue;
+                }
+                // 떼어낸 뒤의 증가분은 같은 이름의 새 버킷에 쌓임
+                redisTemplate.rename(key, drainKey);
+            } catch (Exception e) {
+                // 다른 노드가 먼저 가져간 경우
+                continue;
+            }
+
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(drainKey);
+            Map<Long, long[]> counts = new HashMap<>();
+            entries.forEach((field, value) -> {
+                String[] parts = field.toString().split(":");
+                long[] row = counts.computeIfAbsent(Long.valueOf(parts[0]), id -> new long[Metric.values().length]);
+                row[Metric.valueOf(parts[1]).ordinal()] += Long.parseLong(value.toString());
+            });
+
+            try {
+                sink.accept(bucketHour, counts);
+                redisTemplate.delete(drainKey);
+                drained++;
+            } catch (Exception e) {
+                log.warn("카테고리 활동 버킷 반영 실패: bucket = {}, error = {}", bucketHour, e.getMessage());
+                restore(key, drainKey);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 최근 일수 동안 게시글을 가장 많이 작성한 사용자
+     *
+     * @param categoryId 카테고리 ID
+     * @param days       조회 일수 (오늘 포함)
+     * @param limit      조회할 사용자 수
+     * @return [사용자 ID, 작성 수] 목록 (작성 수 내림차순)
+     */
+    public List<long[]> topAuthors(Long categoryId, int days, int limit) {
+        LocalDate today = LocalDate.now();
+        List<String> keys = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            keys.add(authorKey(categoryId, today.minusDays(i)));
+        }
+        String unionKey = AUTHOR_KEY_PREFIX + categoryId + ":union:" + UUID.randomUUID();
+
+        try {
+            redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), unionKey);
+            Set<ZSetOperations.TypedTuple<String>> top =
+                    redisTemplate.opsForZSet().reverseRangeWithScores(unionKey, 0, limit - 1);
+            if (top == null) {
+                return List.of();
+            }
+            List<long[]> authors = new ArrayList<>(top.size());
+            for (ZSetOperations.TypedTuple<String> tuple : top) {
+                authors.add(new long[]{Long.parseLong(tuple.getValue()), Math.round(tuple.getScore())});
+            }
+            return authors;
+        } catch (Exception e) {
+            log.warn("카테고리 작성자 순위 조회 실패: categoryId = {}, error = {}", categoryId, e.getMessage());
+            return List.of();
+        } finally {
+            redisTemplate.delete(unionKey);
+        }
+    }
+
+    private void increment(Long categoryId, Metric metric, int delta) {
+        try {
+            String key = BUCKET_KEY_PREFIX + LocalDateTime.now().format(HOUR_FORMAT);
+            redisTemplate.opsForHash().increment(key, categoryId + ":" + metric.name(), delta);
+            redisTemplate.expire(key, BUCKET_TTL);
+        } catch (Exception e) {
+            // 다음 보정 때 맞춰지므로 경고만 남김
+            log.warn("카테고리 활동 기록 실패: categoryId = {}, metric = {}, error = {}", categoryId, metric, e.getMessage());
+        }
+    }
+
+    private void restore(String key, String drainKey) {
+        try {
+            redisTemplate.execute(RESTORE_SCRIPT, List.of(key, drainKey), String.valueOf(BUCKET_TTL.toMillis()));
+        } catch (Exception e) {
+            // 떼어낸 버킷은 TTL 로 정리되므로 해당 구간은 다음 보정 때 맞춰짐
+            log.warn("카테고리 활동 버킷 복원 실패: key = {}, error = {}", drainKey, e.getMessage());
+        }
+    }
+
+    private String authorKey(Long categoryId, LocalDate day) {
+        return AUTHOR_KEY_PREFIX + categoryId + ":" + day.format(DAY_FORMAT);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
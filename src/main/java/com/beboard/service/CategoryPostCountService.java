@@ -0,0 +1,221 @@
+package com.beboard.service;
+
+import com.beboard.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 카테고리별 게시글 수 (categories.post_count + Redis Hash)
+ *
+ * 카테고리 조회마다 posts 를 GROUP BY 하지 않도록
+ * 1. 게시글 생성/삭제/복구/카테고리 이동 시 같은 트랜잭션에서 post_count 를 단일 UPDATE 로 증감
+ * 2. 커밋 후 Redis Hash(category:post-count) 필드가 있을 때만 HINCRBY 로 증감 (Lua, 확인과 증감을 한 번에)
+ * 3. 조회는 HMGET 한 번, 필드가 없으면 post_count 컬럼에서 읽어 없는 필드만 채움 (HSETNX)
+ *    -> 읽는 동안 들어온 증감을 이전 값으로 덮어쓰지 않음
+ * 4. 주기적으로 post_count 를 실제 게시글 수로 보정하고, 커밋 후 Hash 를 지워 다음 조회에서 다시 채움
+ *    (임시 키를 만들어 RENAME 하면 그 사이의 HINCRBY 가 사라지므로 덮어쓰지 않음)
+ *    스케줄 실행은 Redis 락으로 주기마다 클러스터 전체에서 한 번만 (애플리케이션 시작 시 포함)
+ * Hash 값은 HINCRBY 를 위해 문자열로 저장하므로 StringRedisTemplate 을 사용합니다.
+ */
+@Service
+@Slf4j
+public class CategoryPostCountService {
+
+    private static final String COUNT_KEY = "category:post-count";
+    private static final String RECONCILE_LOCK_KEY = COUNT_KEY + ":reconcile:lock";
+
+    // 필드가 없을 때 HINCRBY 로 만들면 실제 값과 달라지므로 있는 경우에만 증감
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hexists', KEYS[1], ARGV[1]) == 1 then " +
+            "return redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]) end return 0",
+            Long.class);
+
+    // ARGV = [필드, 값, 필드, 값, ...], 이미 있는 필드는 그대로 둠
+    private static final RedisScript<Long> FILL_MISSING_SCRIPT = new DefaultRedisScript<>(
+            "local n = 0 for i = 1, #ARGV, 2 do n = n + redis.call('hsetnx', KEYS[1], ARGV[i], ARGV[i + 1]) end return n",
+            Long.class);
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLockService redisLockService;
+    private final Duration reconcileInterval;
+
+    public CategoryPostCountService(CategoryRepository categoryRepository,
+                                    StringRedisTemplate redisTemplate,
+                                    RedisLockService redisLockService,
+                                    @Value("${category.post-count.reconcile-interval-ms:600000}") long reconcileIntervalMs) {
+        this.categoryRepository = categoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisLockService = redisLockService;
+        this.reconcileInterval = Duration.ofMillis(reconcileIntervalMs);
+    }
+
+    /**
+     * 카테고리 게시글 수 증감 (호출한 트랜잭션에 참여, Redis 는 커밋 후 반영)
+     *
+     * @param categoryId 카테고리 ID
+     * @param delta      증감값
+     */
+    public void adjust(Long categoryId, int delta) {
+        categoryRepository.adjustPostCount(categoryId, delta);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementCached(categoryId, delta);
+                }
+            });
+        } else {
+            incrementCached(categoryId, delta);
+        }
+    }
+
+    /**
+     * 카테고리 게시글 수 조회
+     *
+     * @param categoryId 카테고리 ID
+     * @return 게시글 수 (카테고리가 없으면 0)
+     */
+    public long getCount(Long categoryId) {
+        return getCounts(List.of(categoryId)).getOrDefault(categoryId, 0L);
+    }
+
+    /**
+     * 여러 카테고리의 게시글 수 조회
+     *
+     * @param categoryIds 카테고리 ID 목록
+     * @return 카테고리 ID 별 게시글 수
+     */
+    public Map<Long, Long> getCounts(Collection<Long> categoryIds) {
+        Map<Long, Long> counts = new HashMap<>(categoryIds.size() * 2);
+        if (categoryIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Long> ids = new ArrayList<>(categoryIds);
+        boolean missing = false;
+        try {
+            List<Object> values = redisTemplate.opsForHash()
+                    .multiGet(COUNT_KEY, ids.stream().map(id -> (Object) String.valueOf(id)).toList());
+            for (int i = 0; i < ids.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                    missing = true;
+                } else {
+                    counts.put(ids.get(i), Math.max(0L, Long.parseLong(value.toString())));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("카테고리 게시글 수 캐시 조회 실패, 데이터베이스 조회로 fallback: {}", e.getMessage());
+            missing = true;
+        }
+
+        if (missing) {
+            // 비어 있는 필드는 post_count 컬럼으로 채우고 Hash 에도 기록
+            Map<Long, Long> loaded = loadCounts();
+            for (Long id : ids) {
+                counts.putIfAbsent(id, loaded.getOrDefault(id, 0L));
+            }
+            fillMissing(loaded);
+        }
+        return counts;
+    }
+
+    /**
+     * 삭제된 카테고리 필드 제거
+     *
+     * @param categoryId 카테고리 ID
+     */
+    public void remove(Long categoryId) {
+        try {
+            redisTemplate.opsForHash().delete(COUNT_KEY, String.valueOf(categoryId));
+        } catch (Exception e) {
+            log.warn("카테고리 게시글 수 캐시 제거 실패: categoryId = {}, error = {}", categoryId, e.getMessage());
+        }
+    }
+
+    /**
+     * 주기 보정 (클러스터 전체에서 주기마다 한 번)
+     * 락은 해제하지 않고 주기만큼 유지하여, 다른 노드가 같은 주기 안에 다시 실행하지 않도록 합니다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${category.post-count.reconcile-interval-ms:600000}")
+    public void reconcileScheduled() {
+        if (redisLockService.tryLock(RECONCILE_LOCK_KEY, reconcileInterval).isEmpty()) {
+            log.debug("카테고리 게시글 수 보정이 이번 주기에 이미 실행되었습니다.");
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * 게시글 수 보정 및 Hash 무효화
+     * HINCRBY 실패, Redis 재시작, 보관 배치 등으로 생긴 차이를 바로잡습니다.
+     * 보정이 커밋된 뒤 Hash 를 지우므로 다음 조회는 보정된 post_count 로 다시 채워집니다.
+     */
+    @Transactional
+    public void reconcile() {
+        long startTime = System.currentTimeMillis();
+
+        int corrected = categoryRepository.reconcilePostCounts();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    redisTemplate.delete(COUNT_KEY);
+                } catch (Exception e) {
+                    log.warn("카테고리 게시글 수 캐시 무효화 실패: {}", e.getMessage());
+                }
+            }
+        });
+
+        log.info("카테고리 게시글 수 보정 완료 - 보정된 카테고리: {}, 소요: {}ms",
+                corrected, System.currentTimeMillis() - startTime);
+    }
+
+    private void incrementCached(Long categoryId, int delta) {
+        try {
+            redisTemplate.execute(INCREMENT_IF_PRESENT_SCRIPT, List.of(COUNT_KEY),
+                    String.valueOf(categoryId), String.valueOf(delta));
+        } catch (Exception e) {
+            // 다음 보정 때 맞춰지므로 경고만 남김
+            log.warn("카테고리 게시글 수 캐시 갱신 실패: categoryId = {}, error = {}", categoryId, e.getMessage());
+        }
+    }
+
+    private Map<Long, Long> loadCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : categoryRepository.findAllPostCounts()) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private void fillMissing(Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<String> fieldsAndValues = new ArrayList<>(counts.size() * 2);
+        counts.forEach((id, count) -> {
+            fieldsAndValues.add(String.valueOf(id));
+            fieldsAndValues.add(String.valueOf(count));
+        });
+        try {
+            redisTemplate.execute(FILL_MISSING_SCRIPT, List.of(COUNT_KEY), fieldsAndValues.toArray());
+        } catch (Exception e) {
+            log.warn("카테고리 게시글 수 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -25,6 +25,9 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final CategoryPostCountService categoryPostCountService;
+    private final CategoryStatisticsService categoryStatisticsService;
 
     /**
      * 모든 활성 카테고리 목록 조회
@@ -36,8 +39,9 @@ public class CategoryService {
     public List<CategoryDto.Response> getAllCategories() {
         List<Category> categories = categoryRepository.findByActiveOrderByDisplayOrderAsc(true);
 
-        // 카테고리별 게시글 수도 함께 조회
-        Map<Long, Long> postCountMap = getPostCountMap();
+        // 카테고리별 게시글 수도 함께 조회 (유지 중인 카운터)
+        Map<Long, Long> postCountMap = categoryPostCountService.getCounts(
+                categories.stream().map(Category::getId).toList());
 
         return categories.stream()
                 .map(category -> {
@@ -52,7 +56,7 @@ public class CategoryService {
         log.debug("카테고리 상세 조회 시작: ID = {}", id);
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("카테고리를 찾을 수 없습니다. ID: " + id));
-        long postCount = categoryRepository.countPostsByCategoryId(id);
+        long postCount = categoryPostCountService.getCount(id);
         log.debug("카테고리 상세 조회 완료: name = {}, postCount = {}", category.getName(), postCount);
 
         return CategoryDto.Response.from(category, postCount);
@@ -84,6 +88,7 @@ public class CategoryService {
             log.debug("표시 순서 자동 설정: {}", nextOrder);
         }
         Category savedCategory = categoryRepository.save(request.toEntity());
+        resourceVersionService.bumpCategoryMetadata();
         log.info("카테고리 생성 완료: ID = {}, name = {}", savedCategory.getId(), savedCategory.getName());
 
         return CategoryDto.Response.from(savedCategory, 0L);
@@ -125,7 +130,8 @@ public class CategoryService {
             category.setActive(request.getActive());
         }
         Category updatedCategory = categoryRepository.save(category);
-        long postCount = categoryRepository.countPostsByCategoryId(id);
+        resourceVersionService.bumpCategoryMetadata();
+        long postCount = categoryPostCountService.getCount(id);
         log.info("카테고리 수정 완료: ID = {}, name = {}", updatedCategory.getId(), updatedCategory.getName());
 
         return CategoryDto.Response.from(updatedCategory, postCount);
@@ -149,13 +155,16 @@ public class CategoryService {
         log.info("카테고리 삭제 시작: ID = {}", id);
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("카테고리를 찾을 수 없습니다. ID: " + id));
-        long postCount = categoryRepository.countPostsByCategoryId(id);
+        // 삭제 가능 여부는 캐시(Redis / 2차 캐시)가 아닌 post_count 컬럼으로 판단
+        long postCount = categoryRepository.findPostCountById(id).orElse(0L);
         if (postCount > 0) {
             throw new CategoryHasPostsException(
                     String.format("카테고리에 %d개의 게시글이 존재하여 삭제할 수 없습니다. 카테고리: %s",
                             postCount, category.getName()));
         }
         categoryRepository.delete(category);
+        categoryPostCountService.remove(id);
+        resourceVersionService.bumpCategoryMetadata();
         log.info("카테고리 삭제 완료: ID = {}, name = {}", id, category.getName());
     }
 
@@ -165,7 +174,6 @@ public class CategoryService {
      * @param id 카테고리 ID
      * @return 게시글 수
      */
-    @Cacheable(value = "categoryPostCount", key = "#id")
     public long getPostCountByCategory(Long id) {
         log.debug("카테고리 게시글 수 조회: categoryId = {}", id);
 
@@ -173,29 +181,20 @@ public class CategoryService {
         if (!categoryRepository.existsById(id)) {
             throw new NoSuchElementException("카테고리를 찾을 수 없습니다. ID: " + id);
         }
-        long postCount = categoryRepository.countPostsByCategoryId(id);
+        long postCount = categoryPostCountService.getCount(id);
         log.debug("카테고리 게시글 수: categoryId = {}, count = {}", id, postCount);
 
         return postCount;
     }
 
-    public Map<String, Object> getCategoryStatistics() {
-        return null;
-    }
-
     /**
-     * 모든 카테고리의 게시글 수를 Map 으로 반환
+     * 카테고리 통계 조회 (관리자)
+     * 백그라운드에서 주기적으로 만들어 두는 스냅샷을 반환하며, 요청 시 게시글 / 댓글을 집계하지 않습니다.
      *
-     * @return 카테고리 ID를 키로 하는 게시글 수 맵
+     * @return 카테고리별 누적 / 최근 24시간 / 최근 7일 통계와 스냅샷 버전
      */
-    private Map<Long, Long> getPostCountMap() {
-        List<Long[]> postCounts = categoryRepository.countPostsByCategories();
-
-        return postCounts.stream()
-                .collect(Collectors.toMap(
-                        arr -> arr[0], // categoryId
-                        arr -> arr[1] // postCount
-                ));
+    public Map<String, Object> getCategoryStatistics() {
+        return categoryStatisticsService.getSnapshot();
     }
 
     /**
@@ -0,0 +1,340 @@
+package com.beboard.service;
+
+import com.beboard.entity.Category;
+import com.beboard.entity.User;
+import com.beboard.repository.CategoryRepository;
+import com.beboard.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 통계 스냅샷
+ *
+ * 관리자 통계 조회 시 posts / comments 를 집계하지 않도록
+ * 1. Redis 활동 버킷을 시간 단위 롤업 테이블과 카테고리 누적 카운터에 반영 (CategoryActivityRecorder.drain)
+ * 2. 누적 카운터 + 최근 24시간 / 7일 롤업 합계 + 작성자 순위로 스냅샷 생성
+ * 3. 버전 번호를 붙여 categoryStatistics 캐시에 저장, 조회는 캐시만 읽음
+ *    캐시가 비어 있으면 이 노드의 마지막 스냅샷(없으면 빈 스냅샷)을 돌려주고 백그라운드에서 갱신 요청
+ * 4. 주기적으로 백그라운드에서 다시 생성 (여러 노드 중 한 곳만 실행)
+ * 누적 카운터의 차이는 하루 한 번 실제 데이터로 보정합니다.
+ */
+@Service
+@Slf4j
+public class CategoryStatisticsService {
+
+    public static final String CACHE_NAME = "categoryStatistics";
+
+    private static final String SNAPSHOT_KEY = "snapshot";
+    private static final String VERSION_KEY = "category:statistics:version";
+    private static final String REFRESH_LOCK_KEY = "category:statistics:refresh-lock";
+    private static final int DRAIN_HOURS = 48;
+    private static final int ROLLUP_RETENTION_DAYS = 8;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final CategoryActivityRecorder categoryActivityRecorder;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long refreshIntervalMillis;
+    private final int topAuthorLimit;
+
+    // 캐시 미스 시 요청 스레드 대신 갱신을 실행 (동시에 하나만 대기)
+    private final ExecutorService refreshExecutor;
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    private volatile Map<String, Object> lastSnapshot;
+
+    public CategoryStatisticsService(CategoryRepository categoryRepository,
+                                     UserRepository userRepository,
+                                     CategoryActivityRecorder categoryActivityRecorder,
+                                     CacheManager cacheManager,
+                                     StringRedisTemplate redisTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${category.statistics.refresh-interval-ms:60000}") long refreshIntervalMillis,
+                                     @Value("${category.statistics.top-authors:5}") int topAuthorLimit) {
+        this.categoryRepository = categoryRepository;
+        this.userRepository = userRepository;
+        this.categoryActivityRecorder = categoryActivityRecorder;
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.topAuthorLimit = topAuthorLimit;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "category-statistics-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 최신 스냅샷 조회
+     * 캐시가 비어 있으면 버킷 반영과 DB 쓰기를 요청 스레드에서 하지 않고,
+     * 마지막 스냅샷(없으면 빈 스냅샷)을 돌려준 뒤 백그라운드 갱신을 요청합니다.
+     *
+     * @return 카테고리 통계 스냅샷
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getSnapshot() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            Cache.ValueWrapper cached = cache.get(SNAPSHOT_KEY);
+            if (cached != null && cached.get() != null) {
+                Map<String, Object> snapshot = (Map<String, Object>) cached.get();
+                lastSnapshot = snapshot;
+                return snapshot;
+            }
+        }
+
+        requestRefresh();
+        Map<String, Object> last = lastSnapshot;
+        return last != null ? last : emptySnapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 주기적 스냅샷 갱신 (갱신 주기 동안 한 노드만 실행)
+     */
+    @Scheduled(initialDelay = 10_000, fixedDelayString = "${category.statistics.refresh-interval-ms:60000}")
+    public void refreshScheduled() {
+        try {
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(REFRESH_LOCK_KEY, "1",
+                    Duration.ofMillis(Math.max(1000, refreshIntervalMillis * 9 / 10)));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("카테고리 통계 갱신 락 획득 실패: {}", e.getMessage());
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * 백그라운드 갱신 요청 (이미 요청된 갱신이 있으면 무시, 노드 간에는 갱신 락으로 한 곳만 실행)
+     */
+    private void requestRefresh() {
+        if (!refreshRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshScheduled();
+                } catch (Exception e) {
+                    log.warn("카테고리 통계 백그라운드 갱신 실패: {}", e.getMessage());
+                } finally {
+                    refreshRequested.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshRequested.set(false);
+        }
+    }
+
+    /**
+     * 누적 카운터 보정 (하루 한 번)
+     * 쌓여 있는 활동 버킷을 먼저 반영합니다.
+     * 보정 뒤에 반영하면 실제 값에 이미 포함된 증감이 누적 카운터에 한 번 더 더해집니다.
+     */
+    @Scheduled(cron = "${category.statistics.reconcile-cron:0 15 4 * * *}")
+    public void reconcile() {
+        int buckets = flushActivity();
+        Integer corrected = transactionTemplate.execute(status -> categoryRepository.reconcileActivityTotals());
+        log.info("카테고리 통계 누적 카운터 보정 완료 - 반영 버킷: {}, 카테고리: {}", buckets, corrected);
+    }
+
+    /**
+     * 활동 버킷 반영 후 스냅샷 생성 및 저장
+     *
+     * @return 새 스냅샷
+     */
+    public Map<String, Object> refresh() {
+        long startTime = System.currentTimeMillis();
+
+        int buckets = flushActivity();
+        Map<String, Object> snapshot = buildSnapshot();
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(SNAPSHOT_KEY, snapshot);
+        }
+        lastSnapshot = snapshot;
+
+        log.debug("카테고리 통계 스냅샷 갱신 - 버전: {}, 반영 버킷: {}, 소요: {}ms",
+                snapshot.get("version"), buckets, System.currentTimeMillis() - startTime);
+        return snapshot;
+    }
+
+    /**
+     * Redis 활동 버킷을 롤업 테이블과 누적 카운터에 반영
+     */
+    private int flushActivity() {
+        int buckets = categoryActivityRecorder.drain(DRAIN_HOURS, (bucketHour, counts) ->
+                transactionTemplate.executeWithoutResult(status -> counts.forEach((categoryId, row) -> {
+                    categoryRepository.upsertActivityRollup(bucketHour, categoryId,
+                            row[CategoryActivityRecorder.Metric.POSTS.ordinal()],
+                            row[CategoryActivityRecorder.Metric.COMMENTS.ordinal()],
+                            row[CategoryActivityRecorder.Metric.VIEWS.ordinal()],
+                            row[CategoryActivityRecorder.Metric.BOOKMARKS.ordinal()]);
+                    // 게시글 수는 post_count 로 따로 유지
+                    categoryRepository.adjustActivityTotals(categoryId,
+                            row[CategoryActivityRecorder.Metric.COMMENTS.ordinal()],
+                            row[CategoryActivityRecorder.Metric.VIEWS.ordinal()],
+                            row[CategoryActivityRecorder.Metric.BOOKMARKS.ordinal()]);
+                })));
+
+        transactionTemplate.executeWithoutResult(status -> categoryRepository.deleteActivityRollupsBefore(
+                LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(ROLLUP_RETENTION_DAYS)));
+        return buckets;
+    }
+
+    private Map<String, Object> buildSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
+
+        List<Category> categories = categoryRepository.findAll(Sort.by("displayOrder"));
+        // 카운터는 2차 캐시에 남은 엔티티 값이 아닌 컬럼 값으로 읽음
+        Map<Long, long[]> counters = toActivityMap(categoryRepository.findAllCounters());
+        Map<Long, long[]> last24h = toActivityMap(categoryRepository.sumActivitySince(currentHour.minusHours(23)));
+        Map<Long, long[]> last7d = toActivityMap(categoryRepository.sumActivitySince(currentHour.minusDays(7).plusHours(1)));
+
+        // 작성자 순위 (닉네임은 한 번에 조회)
+        Map<Long, List<long[]>> topAuthorsByCategory = new HashMap<>();
+        Set<Long> authorIds = new HashSet<>();
+        for (Category category : categories) {
+            List<long[]> authors = categoryActivityRecorder.topAuthors(category.getId(), 7, topAuthorLimit);
+            topAuthorsByCategory.put(category.getId(), authors);
+            authors.forEach(author -> authorIds.add(author[0]));
+        }
+        Map<Long, String> nicknames = authorIds.isEmpty() ? Map.of() : userRepository.findAllById(authorIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        List<Map<String, Object>> categoryStats = new ArrayList<>(categories.size());
+        long[] totals = new long[4];
+        long activeCategories = 0;
+
+        for (Category category : categories) {
+            if (category.isActive()) {
+                activeCategories++;
+            }
+            long[] counter = counters.getOrDefault(category.getId(), new long[4]);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += counter[i];
+            }
+
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("id", category.getId());
+            stat.put("name", category.getName());
+            stat.put("active", category.isActive());
+            stat.put("postCount", counter[0]);
+            stat.put("commentCount", counter[1]);
+            stat.put("viewCount", counter[2]);
+            stat.put("bookmarkCount", counter[3]);
+            stat.put("last24h", toActivity(last24h.get(category.getId())));
+            stat.put("last7d", toActivity(last7d.get(category.getId())));
+            stat.put("topAuthors", topAuthorsByCategory.get(category.getId()).stream()
+                    .map(author -> {
+                        Map<String, Object> entry = new LinkedHashMap<>();
+                        entry.put("userId", author[0]);
+                        entry.put("nickname", nicknames.get(author[0]));
+                        entry.put("posts", author[1]);
+                        return entry;
+                    })
+                    .collect(Collectors.toCollection(ArrayList::new)));
+            categoryStats.add(stat);
+        }
+
+        Map<String, Object> totalStats = new LinkedHashMap<>();
+        totalStats.put("postCount", totals[0]);
+        totalStats.put("commentCount", totals[1]);
+        totalStats.put("viewCount", totals[2]);
+        totalStats.put("bookmarkCount", totals[3]);
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("version", nextVersion());
+        snapshot.put("generatedAt", TIMESTAMP_FORMAT.format(now));
+        snapshot.put("totalCategories", (long) categories.size());
+        snapshot.put("activeCategories", activeCategories);
+        snapshot.put("totals", totalStats);
+        snapshot.put("categories", categoryStats);
+        return snapshot;
+    }
+
+    /**
+     * 첫 스냅샷이 만들어지기 전에 돌려줄 빈 스냅샷 (version 0)
+     */
+    private static Map<String, Object> emptySnapshot() {
+        Map<String, Object> totalStats = new LinkedHashMap<>();
+        totalStats.put("postCount", 0L);
+        totalStats.put("commentCount", 0L);
+        totalStats.put("viewCount", 0L);
+        totalStats.put("bookmarkCount", 0L);
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("version", 0L);
+        snapshot.put("generatedAt", null);
+        snapshot.put("totalCategories", 0L);
+        snapshot.put("activeCategories", 0L);
+        snapshot.put("totals", totalStats);
+        snapshot.put("categories", new ArrayList<>());
+        return snapshot;
+    }
+
+    private long nextVersion() {
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+            if (version != null) {
+                return version;
+            }
+        } catch (Exception e) {
+            log.warn("카테고리 통계 버전 발급 실패: {}", e.getMessage());
+        }
+        return System.currentTimeMillis();
+    }
+
+    private static Map<Long, long[]> toActivityMap(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.toMap(
+                row -> ((Number) row[0]).longValue(),
+                row -> new long[]{
+                        ((Number) row[1]).longValue(),
+                        ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue(),
+                        ((Number) row[4]).longValue()}));
+    }
+
+    private static Map<String, Object> toActivity(long[] row) {
+        long[] values = row != null ? row : new long[4];
+        Map<String, Object> activity = new LinkedHashMap<>();
+        activity.put("posts", values[0]);
+        activity.put("comments", values[1]);
+        activity.put("views", values[2]);
+        activity.put("bookmarks", values[3]);
+        return activity;
+    }
+}
@@ -17,7 +17,9 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -29,10 +31,16 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final NotificationPublisher notificationPublisher;
+    private final NotificationRecipientResolver notificationRecipientResolver;
+    private final ResourceVersionService resourceVersionService;
+    private final PostArchiveService postArchiveService;
+    private final CategoryActivityRecorder categoryActivityRecorder;
 
     public Page<CommentDto.Response> getCommentsByPostId(Long postId, Pageable pageable) {
         if (!postRepository.existsById(postId)) {
-            throw new NoSuchElementException("게시글을 찾을 수 없습니다.");
+            // 보관된 게시글이면 보관 테이블에서 조회 (직접 링크)
+            return postArchiveService.findArchivedComments(postId, pageable)
+                    .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다."));
         }
         Page<Comment> comments = commentRepository.findByPostIdAndParentIsNullAndNotDeleted(postId, pageable);
 
@@ -41,11 +49,16 @@ public class CommentService {
 
     @Transactional
     public CommentDto.Response createComment(CommentDto.CreateRequest request, User commenter) {
-        Post post = postRepository.findByIdAndNotDeleted(request.getPostId())
+        // 알림 수신자 결정에 필요한 작성자 정보까지 한 번에 조회 (지연 로딩 방지)
+        Post post = postRepository.findByIdWithAuthorAndNotDeleted(request.getPostId())
+                // 보관된 게시글이면 posts 로 되돌린 뒤 다시 조회
+                .or(() -> postArchiveService.restore(request.getPostId())
+                        ? postRepository.findByIdWithAuthorAndNotDeleted(request.getPostId())
+                        : Optional.empty())
                 .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + request.getPostId()));
         Comment parent = null;
         if (request.getParentId() != null) {
-            parent = commentRepository.findById(request.getParentId())
+            parent = commentRepository.findByIdWithCommenter(request.getParentId())
                     .orElseThrow(() -> new NoSuchElementException("부모 댓글을 찾을 수 없습니다. ID: " + request.getParentId()));
 
             // 부모 댓글이 같은 게시글에 속하는지 확인
@@ -60,23 +73,19 @@ public class CommentService {
                 .post(post)
                 .build();
         Comment savedComment = commentRepository.save(createdComment);
+        categoryActivityRecorder.record(post.getCategory().getId(), CategoryActivityRecorder.Metric.COMMENTS, 1);
+        resourceVersionService.bumpComments(post.getId());
+        resourceVersionService.bumpPost(post.getId());
         log.info("댓글 작성 완료 - ID: {}, 작성자: {}, 게시글: {}",
                 savedComment.getId(), commenter.getNickname(), post.getId());
         
-        // 댓글 작성자와 게시글 작성자가 다른 경우에만 알림 전송
-        if (!post.isAuthor(commenter.getId())) {
-            String notificationContent = String.format("'%s'님이 회원님의 게시글에 댓글을 남겼습니다.", commenter.getNickname());
-            String notificationUrl = "/posts/" + post.getId();
-
-            NotificationMessage notificationMessage = NotificationMessage.builder()
-                    .recipientId(post.getAuthor().getId()) // 게시글 작성자 ID
-                    .content(notificationContent)
-                    .url(notificationUrl)
-                    .type("NEW_COMMENT")
-                    .build();
-
+        // 게시글 작성자, 부모 댓글 작성자, 멘션 대상에게 알림 전송 (본인 제외, 수신자별 1건)
+        List<NotificationMessage> notifications =
+                notificationRecipientResolver.resolve(post, parent, commenter, request.getContent());
+        for (NotificationMessage notificationMessage : notifications) {
             notificationPublisher.sendNotification(notificationMessage);
-            log.info("새 댓글 알림 발송 -> 받는이: {}, 게시글 ID: {}", post.getAuthor().getNickname(), post.getId());
+            log.info("댓글 알림 발송 -> 받는이 ID: {}, 타입: {}, 게시글 ID: {}",
+                    notificationMessage.getRecipientId(), notificationMessage.getType(), post.getId());
         }
 
         return CommentDto.Response.from(savedComment);
@@ -99,6 +108,7 @@ public class CommentService {
             throw new IllegalStateException("삭제된 댓글은 수정할 수 없습니다");
         }
         comment.updateContent(request.getContent());
+        resourceVersionService.bumpComments(comment.getPost().getId());
         log.info("댓글 수정 완료 - ID: {}, 작성자: {}", commentId, currentUser.getNickname());
 
         return CommentDto.Response.from(comment);
@@ -113,6 +123,9 @@ public class CommentService {
         }
 
         comment.markAsDeleted();
+        categoryActivityRecorder.record(comment.getPost().getCategory().getId(), CategoryActivityRecorder.Metric.COMMENTS, -1);
+        resourceVersionService.bumpComments(comment.getPost().getId());
+        resourceVersionService.bumpPost(comment.getPost().getId());
         log.info("댓글 삭제 완료 - ID: {}, 삭제자: {}", commentId, currentUser.getNickname());
     }
 }
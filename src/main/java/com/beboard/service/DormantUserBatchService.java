@@ -0,0 +1,198 @@
+package com.beboard.service;
+
+import com.beboard.dto.DormantUserBatchResult;
+import com.beboard.dto.NotificationMessage;
+import com.beboard.entity.User;
+import com.beboard.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 휴면 사용자 전환 배치
+ *
+ * 마지막 로그인(로그인한 적이 없으면 가입) 후 기준 일수가 지난 활성 사용자를 휴면(DORMANT)으로 전환합니다.
+ * 1. (inactiveSince, id) 키셋으로 청크 단위 조회 (OFFSET 미사용)
+ * 2. 청크마다 별도 트랜잭션에서 UPDATE ... WHERE id IN (...) 한 번으로 상태 전환
+ * 3. 전환된 사용자에게 알림 파이프라인(Redis 채널)으로 재활성화 안내 발송 (로그인 시 다시 활성화)
+ * 4. 청크가 끝날 때마다 커서를 Redis 에 체크포인트로 저장 -> 재시작 시 이어서 실행
+ * 5. 청크별/전체 처리량(rows/s) 로그로 청크 크기 조정 근거 제공
+ * 여러 노드에서 동시에 실행되지 않도록 Redis 락을 사용합니다.
+ */
+@Service
+@Slf4j
+public class DormantUserBatchService {
+
+    public static final String TYPE_DORMANT = "DORMANT";
+
+    private static final String CHECKPOINT_KEY = "batch:dormant-users:checkpoint";
+    private static final String LOCK_KEY = "batch:dormant-users:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final LocalDateTime INITIAL_CURSOR = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final NotificationPublisher notificationPublisher;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final EntityCacheService entityCacheService;
+    private final RedisLockService redisLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int dormantDays;
+    private final int defaultChunkSize;
+
+    public DormantUserBatchService(UserRepository userRepository,
+                                   NotificationPublisher notificationPublisher,
+                                   RedisTemplate<String, Object> redisTemplate,
+                                   EntityCacheService entityCacheService,
+                                   RedisLockService redisLockService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${user.dormant.days:365}") int dormantDays,
+                                   @Value("${user.dormant.chunk-size:1000}") int defaultChunkSize) {
+        this.userRepository = userRepository;
+        this.notificationPublisher = notificationPublisher;
+        this.redisTemplate = redisTemplate;
+        this.entityCacheService = entityCacheService;
+        this.redisLockService = redisLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dormantDays = dormantDays;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    @Scheduled(cron = "${user.dormant.cron:0 0 4 * * *}")
+    public void runScheduled() {
+        run(null);
+    }
+
+    /**
+     * 휴면 전환 실행
+     *
+     * @param chunkSize 청크 크기 (null 이면 설정값)
+     * @return 실행 결과
+     */
+    public DormantUserBatchResult run(Integer chunkSize) {
+        // 락 해제는 이 실행이 보유 중일 때만 (TTL 만료 후 다른 노드가 잡은 락을 지우지 않음)
+        try (RedisLockService.Lock lock = redisLockService.tryLock(LOCK_KEY, LOCK_TTL).orElse(null)) {
+            if (lock == null) {
+                log.info("휴면 전환 배치가 다른 노드에서 실행 중입니다.");
+                return DormantUserBatchResult.builder().executed(false).build();
+            }
+            return process(chunkSize != null ? Math.max(1, chunkSize) : defaultChunkSize, lock);
+        }
+    }
+
+    private DormantUserBatchResult process(int chunkSize, RedisLockService.Lock lock) {
+        long startTime = System.nanoTime();
+
+        // 체크포인트가 있으면 이전 실행의 기준 시각과 커서에서 이어서 실행
+        HashOperations<String, String, String> checkpoint = redisTemplate.opsForHash();
+        Map<String, String> saved = checkpoint.entries(CHECKPOINT_KEY);
+        // 이전 형식(lastLoginAt 커서)의 체크포인트는 로그인하지 않은 사용자를 건너뛰므로 처음부터 실행
+        boolean resumed = saved.containsKey("inactiveSince");
+
+        LocalDateTime threshold = resumed
+                ? LocalDateTime.parse(saved.get("threshold"))
+                : LocalDateTime.now().minusDays(dormantDays);
+        LocalDateTime cursorInactiveSince = resumed ? LocalDateTime.parse(saved.get("inactiveSince")) : INITIAL_CURSOR;
+        long cursorId = resumed ? Long.parseLong(saved.get("lastId")) : 0L;
+
+        log.info("휴면 전환 배치 시작 - 기준: {}, 청크 크기: {}, 재개: {}", threshold, chunkSize, resumed);
+
+        long scanned = 0;
+        long transitioned = 0;
+        int chunks = 0;
+        boolean lockLost = false;
+
+        while (true) {
+            long chunkStart = System.nanoTime();
+            List<Object[]> candidates = userRepository.findDormantCandidatesAfter(
+                    threshold, cursorInactiveSince, cursorId, PageRequest.of(0, chunkSize));
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = new ArrayList<>(candidates.size());
+            for (Object[] row : candidates) {
+                ids.add((Long) row[0]);
+            }
+
+            // 청크 단위 트랜잭션: 일괄 전환 후 실제 전환된 사용자 확인
+            List<Long> dormantIds = transactionTemplate.execute(status -> {
+                int updated = userRepository.markDormant(ids, threshold, LocalDateTime.now());
+                return updated == ids.size() ? ids : userRepository.findDormantIdsIn(ids);
+            });
+            if (!dormantIds.isEmpty()) {
+                // 벌크 UPDATE 는 다른 노드의 2차 캐시에 전파되지 않으므로 사용자 영역을 직접 무효화
+                entityCacheService.evictAll(User.class);
+            }
+
+            for (Long userId : dormantIds) {
+                notificationPublisher.sendNotification(NotificationMessage.builder()
+                        .recipientId(userId)
+                        .type(TYPE_DORMANT)
+                        .content(String.format("%d일 이상 접속하지 않아 휴면 계정으로 전환되었습니다. 다시 로그인하면 바로 이용할 수 있습니다.",
+                                dormantDays))
+                        .url("/login")
+                        .build());
+            }
+
+            Object[] last = candidates.get(candidates.size() - 1);
+            cursorInactiveSince = (LocalDateTime) last[1];
+            cursorId = (Long) last[0];
+            checkpoint.putAll(CHECKPOINT_KEY, Map.of(
+                    "threshold", threshold.toString(),
+                    "inactiveSince", cursorInactiveSince.toString(),
+                    "lastId", String.valueOf(cursorId)));
+
+            scanned += candidates.size();
+            transitioned += dormantIds.size();
+            chunks++;
+
+            // 실행이 길어져도 락이 만료되지 않도록 청크마다 연장 (이미 잃었으면 체크포인트에서 다음 실행이 이어감)
+            if (!lock.extend(LOCK_TTL)) {
+                log.warn("휴면 전환 배치 락을 잃어 중단합니다 - 청크: {}", chunks);
+                lockLost = true;
+                break;
+            }
+
+            double chunkSeconds = (System.nanoTime() - chunkStart) / 1_000_000_000.0;
+            log.info("휴면 전환 청크 완료 - 청크: {}, 조회: {}, 전환: {}, 처리량: {} rows/s",
+                    chunks, candidates.size(), dormantIds.size(), Math.round(candidates.size() / chunkSeconds));
+
+            if (candidates.size() < chunkSize) {
+                break;
+            }
+        }
+
+        // 정상 종료 시 체크포인트 제거 (다음 실행은 새 기준 시각으로 처음부터)
+        if (!lockLost) {
+            redisTemplate.delete(CHECKPOINT_KEY);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        double rowsPerSecond = elapsedMillis > 0 ? scanned * 1000.0 / elapsedMillis : scanned;
+        log.info("휴면 전환 배치 완료 - 조회: {}, 전환: {}, 청크: {}, 소요: {}ms, 처리량: {} rows/s",
+                scanned, transitioned, chunks, elapsedMillis, Math.round(rowsPerSecond));
+
+        return DormantUserBatchResult.builder()
+                .executed(true)
+                .resumed(resumed)
+                .threshold(threshold.toString())
+                .scanned(scanned)
+                .transitioned(transitioned)
+                .chunks(chunks)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.beboard.service;
+
+import com.beboard.entity.Category;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 노드 간 무효화 + 적중률 통계
+ *
+ * 2차 캐시(Category, User)는 노드마다 로컬 힙(Ehcache)에 있으므로 한 노드의 변경이 다른 노드에 보이지 않습니다.
+ * 1. 캐시 대상 엔티티의 수정 / 삭제가 커밋되면 Redis 채널로 "엔티티명#ID" 발행
+ * 2. 다른 노드는 해당 항목을 비우고, 카테고리 변경이면 쿼리 캐시(활성 카테고리 목록)도 비움
+ * 3. 벌크 UPDATE 처럼 이벤트가 없는 변경은 evictAll 로 영역 전체를 무효화
+ * 영역 TTL(ehcache.xml)은 전파가 누락된 경우의 상한입니다.
+ * 카테고리 카운터 컬럼은 네이티브 UPDATE 로만 갱신되어 다른 노드에서는 TTL 동안 이전 값일 수 있으므로
+ * 정확한 값이 필요한 곳은 엔티티 대신 스칼라 조회 / Redis 카운터를 사용합니다.
+ */
+@Service
+@Slf4j
+public class EntityCacheService implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String ALL_IDS = "*";
+    // 쿼리 캐시 대상 쿼리는 카테고리 조회뿐이므로 카테고리 변경일 때만 쿼리 캐시를 비움
+    private static final String QUERY_CACHED_ENTITY = Category.class.getName();
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+    // 자신이 발행한 메시지는 이미 로컬에 반영되어 있으므로 건너뜀
+    private final String nodeToken = UUID.randomUUID().toString();
+
+    public EntityCacheService(EntityManagerFactory entityManagerFactory,
+                              StringRedisTemplate redisTemplate,
+                              @Value("${entity-cache.channel}") String invalidationChannel) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    // =========================== 커밋 이벤트 ===========================
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister().getEntityName(), String.valueOf(event.getId()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister().getEntityName(), String.valueOf(event.getId()));
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 캐시에 반영되지 않으므로 전파할 것이 없음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // =========================== 무효화 ===========================
+
+    /**
+     * 엔티티 영역 전체 무효화 (모든 노드)
+     * 벌크 UPDATE 로 여러 행을 바꾼 뒤 호출합니다.
+     *
+     * @param entityClass 캐시 대상 엔티티 클래스
+     */
+    public void evictAll(Class<?> entityClass) {
+        String entityName = entityClass.getName();
+        evictLocal(entityName, ALL_IDS);
+        publish(entityName, ALL_IDS);
+    }
+
+    /**
+     * Redis 채널로 받은 무효화 메시지 처리
+     */
+    public void onInvalidationMessage(byte[] body) {
+        String[] parts = new String(body, StandardCharsets.UTF_8).trim().split("#", 3);
+        if (parts.length != 3 || nodeToken.equals(parts[0])) {
+            return;
+        }
+        try {
+            evictLocal(parts[1], parts[2]);
+        } catch (Exception e) {
+            log.warn("2차 캐시 무효화 메시지 처리 실패: message = {}, error = {}", String.join("#", parts), e.getMessage());
+        }
+    }
+
+    private void publish(String entityName, String id) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, nodeToken + "#" + entityName + "#" + id);
+        } catch (Exception e) {
+            // 다른 노드는 영역 TTL 이 지나면 맞춰지므로 경고만 남김
+            log.warn("2차 캐시 무효화 전파 실패: entity = {}, id = {}, error = {}", entityName, id, e.getMessage());
+        }
+    }
+
+    private void evictLocal(String entityName, String id) {
+        if (ALL_IDS.equals(id)) {
+            sessionFactory.getCache().evictEntityData(entityName);
+        } else {
+            sessionFactory.getCache().evictEntityData(entityName, Long.valueOf(id));
+        }
+        // 쿼리 캐시는 로컬 테이블 변경 시각으로만 검증되므로 다른 노드의 변경은 직접 비움
+        if (QUERY_CACHED_ENTITY.equals(entityName)) {
+            sessionFactory.getCache().evictDefaultQueryRegion();
+        }
+    }
+
+    // =========================== 통계 ===========================
+
+    /**
+     * 2차 캐시 / 쿼리 캐시 적중률
+     *
+     * @return 전체 및 영역별 적중 / 미스 / 저장 수와 적중률
+     */
+    public Map<String, Object> getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region;
+            try {
+                region = statistics.getDomainDataRegionStatistics(regionName);
+            } catch (IllegalArgumentException e) {
+                region = null;
+            }
+            if (region == null) {
+                // 쿼리 결과 / 타임스탬프 영역은 queryCache 항목으로 집계
+                continue;
+            }
+            Map<String, Object> entry = counts(region.getHitCount(), region.getMissCount(), region.getPutCount());
+            entry.put("elementsInMemory", region.getElementCountInMemory());
+            regions.put(regionName, entry);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        result.put("since", statistics.getStart().toString());
+        result.put("secondLevel", counts(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        result.put("queryCache", counts(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        result.put("regions", regions);
+        return result;
+    }
+
+    private static Map<String, Object> counts(long hits, long misses, long puts) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("hits", hits);
+        entry.put("misses", misses);
+        entry.put("puts", puts);
+        entry.put("hitRate", hits + misses > 0 ? Math.round(hits * 10000.0 / (hits + misses)) / 100.0 : 0.0);
+        return entry;
+    }
+}
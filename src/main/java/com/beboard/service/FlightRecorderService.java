@@ -0,0 +1,150 @@
+package com.beboard.service;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실행 중 JFR(Java Flight Recorder) 프로파일링
+ *
+ * 운영 중 지연이 튈 때 재시작이나 서버 접속 없이 프로파일을 받기 위해 관리자 요청으로 짧은 녹화를 실행합니다.
+ * 1. JDK 기본(default) 설정 위에 프리셋(CPU / 할당 / 락 경합) 설정을 덮어씀
+ *    (환경 변수 / 시스템 속성 / JVM 인자 이벤트는 비밀 값이 담기므로 항상 끔)
+ * 2. 서비스 메서드 / 캐시 미스 커스텀 이벤트(PerformanceMetrics)를 함께 기록
+ * 3. 지정한 시간 동안 녹화 후 .jfr 파일을 응답 스트림으로 복사하고 임시 파일 삭제
+ * 녹화 시간과 파일 크기는 설정값으로 제한하고, 노드당 한 번에 하나만 실행합니다.
+ */
+@Service
+@Slf4j
+public class FlightRecorderService {
+
+    /**
+     * 녹화 프리셋 (이벤트 이름#설정 -> 값, 없는 이벤트는 무시됨)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Preset {
+        CPU(Map.of(
+                "jdk.ExecutionSample#enabled", "true",
+                "jdk.ExecutionSample#period", "10 ms",
+                "jdk.NativeMethodSample#enabled", "true",
+                "jdk.NativeMethodSample#period", "20 ms")),
+        ALLOCATION(Map.of(
+                "jdk.ObjectAllocationSample#enabled", "true",
+                "jdk.ObjectAllocationSample#throttle", "1000/s",
+                "jdk.OldObjectSample#enabled", "true",
+                "jdk.OldObjectSample#stackTrace", "true")),
+        LOCKS(Map.of(
+                "jdk.JavaMonitorEnter#enabled", "true",
+                "jdk.JavaMonitorEnter#threshold", "1 ms",
+                "jdk.JavaMonitorWait#enabled", "true",
+                "jdk.JavaMonitorWait#threshold", "1 ms",
+                "jdk.ThreadPark#enabled", "true",
+                "jdk.ThreadPark#threshold", "1 ms",
+                // Java 21 가상 스레드 모드
+                "jdk.VirtualThreadPinned#enabled", "true",
+                "jdk.VirtualThreadPinned#threshold", "1 ms"));
+
+        private final Map<String, String> settings;
+    }
+
+    private static final Map<String, String> APPLICATION_EVENTS = Map.of(
+            "com.beboard.ServiceMethod#enabled", "true",
+            "com.beboard.CacheMiss#enabled", "true");
+
+    /**
+     * 환경 변수(JASYPT_ENCRYPTOR_PASSWORD 등), 시스템 속성, JVM 인자를 그대로 기록하는 이벤트
+     * 관리자가 내려받는 파일에 비밀 값이 남지 않도록 기본 설정 / 프리셋과 관계없이 끕니다.
+     */
+    static final Map<String, String> SENSITIVE_EVENTS = Map.of(
+            "jdk.InitialEnvironmentVariable#enabled", "false",
+            "jdk.InitialSystemProperty#enabled", "false",
+            "jdk.JVMInformation#enabled", "false");
+
+    private final int maxSeconds;
+    private final long maxSizeBytes;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    public FlightRecorderService(@Value("${profiling.jfr.max-seconds:120}") int maxSeconds,
+                                 @Value("${profiling.jfr.max-size-mb:200}") long maxSizeMegabytes) {
+        this.maxSeconds = maxSeconds;
+        this.maxSizeBytes = maxSizeMegabytes * 1024 * 1024;
+    }
+
+    /**
+     * 지정한 시간 동안 녹화한 뒤 .jfr 파일을 출력 스트림에 기록
+     * 다른 녹화가 진행 중이면 출력 스트림을 건드리지 않고 바로 예외를 던집니다.
+     *
+     * @param preset  녹화 프리셋
+     * @param seconds 녹화 시간 (1 ~ 최대 설정값으로 보정)
+     * @param out     .jfr 파일을 기록할 스트림
+     * @throws IllegalStateException 이미 녹화 중인 경우
+     */
+    public void record(Preset preset, int seconds, OutputStream out) throws IOException {
+        if (!recording.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 진행 중인 프로파일링이 있습니다.");
+        }
+        int duration = Math.max(1, Math.min(seconds, maxSeconds));
+        String name = "beboard-" + preset.name().toLowerCase(Locale.ROOT);
+        Path file = null;
+
+        try {
+            file = Files.createTempFile(name + "-", ".jfr");
+            try (Recording jfr = new Recording()) {
+                Map<String, String> settings = new HashMap<>(defaultSettings());
+                settings.putAll(preset.getSettings());
+                settings.putAll(APPLICATION_EVENTS);
+                settings.putAll(SENSITIVE_EVENTS);
+                jfr.setSettings(settings);
+                jfr.setName(name);
+                jfr.setMaxSize(maxSizeBytes);
+                jfr.setDestination(file);
+
+                log.info("JFR 프로파일링 시작 - 프리셋: {}, 시간: {}초", preset, duration);
+                jfr.start();
+                try {
+                    TimeUnit.SECONDS.sleep(duration);
+                } catch (InterruptedException e) {
+                    // 중단되면 그때까지 녹화된 내용만 반환
+                    Thread.currentThread().interrupt();
+                } finally {
+                    jfr.stop();
+                }
+            }
+
+            long size = Files.size(file);
+            Files.copy(file, out);
+            out.flush();
+            log.info("JFR 프로파일링 완료 - 프리셋: {}, 파일 크기: {} bytes", preset, size);
+        } finally {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+            recording.set(false);
+        }
+    }
+
+    private static Map<String, String> defaultSettings() {
+        try {
+            return Configuration.getConfiguration("default").getSettings();
+        } catch (IOException | ParseException e) {
+            log.warn("JFR 기본 설정을 읽지 못해 프리셋 설정만 사용합니다: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.beboard.service;
+
+import com.beboard.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자명 -> 사용자 ID 일괄 조회 캐시
+ *
+ * 멘션(@사용자명) 대상 확인 시 사용자명마다 조회하지 않도록
+ * 1. 사용자명마다 키 하나(user:nickname-id:{사용자명})를 두고 한 번에 조회 (MGET)
+ * 2. 캐시에 없는 사용자명만 IN 쿼리 한 번으로 조회 후 키마다 TTL 을 붙여 적재
+ * 하나의 해시에 모으면 적재할 때마다 해시 전체의 TTL 이 늘어나 오래된 항목이 계속 남으므로 항목별로 만료시킵니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NicknameIdCache {
+
+    private static final String KEY_PREFIX = "user:nickname-id:";
+    private static final Duration CACHE_TTL = Duration.ofHours(1);
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 사용자명 목록을 사용자 ID로 일괄 변환
+     *
+     * @param nicknames 사용자명 목록
+     * @return 사용자명 -> 사용자 ID (존재하지 않는 사용자명은 제외)
+     */
+    public Map<String, Long> resolveIds(Collection<String> nicknames) {
+        if (nicknames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> keys = new ArrayList<>(nicknames);
+        Map<String, Long> resolved = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+
+        try {
+            List<Object> cached = redisTemplate.opsForValue().multiGet(keys.stream().map(NicknameIdCache::key).toList());
+            for (int i = 0; i < keys.size(); i++) {
+                Object id = cached != null ? cached.get(i) : null;
+                if (id instanceof Number number) {
+                    resolved.put(keys.get(i), number.longValue());
+                } else {
+                    misses.add(keys.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("사용자명 캐시 조회 실패, 데이터베이스 조회로 fallback: {}", e.getMessage());
+            misses = keys;
+        }
+
+        if (!misses.isEmpty()) {
+            Map<String, Long> loaded = new HashMap<>();
+            for (Object[] row : userRepository.findIdsByNicknameIn(misses)) {
+                loaded.put((String) row[1], (Long) row[0]);
+            }
+            resolved.putAll(loaded);
+            cache(loaded);
+        }
+
+        return resolved;
+    }
+
+    /**
+     * 사용자명 변경 시 이전 사용자명 캐시 제거 (트랜잭션 커밋 후 반영)
+     * 커밋 전에 지우면 동시에 실행된 조회가 변경 전 행을 다시 적재할 수 있습니다.
+     *
+     * @param nickname 변경 전 사용자명
+     */
+    public void evict(String nickname) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(nickname);
+                }
+            });
+        } else {
+            delete(nickname);
+        }
+    }
+
+    private void delete(String nickname) {
+        try {
+            redisTemplate.delete(key(nickname));
+        } catch (Exception e) {
+            log.warn("사용자명 캐시 제거 실패: nickname = {}, error = {}", nickname, e.getMessage());
+        }
+    }
+
+    private void cache(Map<String, Long> loaded) {
+        try {
+            loaded.forEach((nickname, id) -> redisTemplate.opsForValue().set(key(nickname), id, CACHE_TTL));
+        } catch (Exception e) {
+            log.warn("사용자명 캐시 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String key(String nickname) {
+        return KEY_PREFIX + nickname;
+    }
+}
@@ -0,0 +1,163 @@
+package com.beboard.service;
+
+import com.beboard.dto.BroadcastResult;
+import com.beboard.dto.NotificationMessage;
+import com.beboard.util.NotificationSessionRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 공지 브로드캐스트 엔진
+ *
+ * SimpleBroker 의 convertAndSend 는 호출 스레드에서 구독자마다 STOMP 프레임을 인코딩합니다.
+ * 이 엔진은 다음과 같이 동작합니다.
+ * 1. 페이로드를 한 번만 JSON 으로 직렬화하고, 공통 STOMP 헤더도 한 번만 인코딩
+ * 2. 세션별로는 subscription / message-id 헤더만 덧붙여 프레임 완성
+ * 3. 구독 세션을 샤드로 나누어 병렬 전송
+ * 4. 송신 버퍼 한도를 넘긴 느린 소비자는 즉시 연결 종료
+ */
+@Service
+@Slf4j
+public class NotificationBroadcaster {
+
+    private final NotificationSessionRegistry sessionRegistry;
+    private final ObjectMapper objectMapper;
+    private final int shardCount;
+    private final Executor shardExecutor;
+
+    private final AtomicLong messageSequence = new AtomicLong();
+
+    public NotificationBroadcaster(
+            NotificationSessionRegistry sessionRegistry,
+            ObjectMapper objectMapper,
+            @Value("${notification.websocket.broadcast.shard-count}") int shardCount,
+            Environment environment) {
+        this.sessionRegistry = sessionRegistry;
+        this.objectMapper = objectMapper;
+        this.shardCount = Math.max(1, shardCount);
+        // 설정만 켜지고 Java 21 미만에서 실행되면 플랫폼 스레드 풀 사용
+        this.shardExecutor = Threading.VIRTUAL.isActive(environment)
+                ? createVirtualThreadExecutor()
+                : Executors.newFixedThreadPool(this.shardCount, runnable -> {
+                    Thread thread = new Thread(runnable, "broadcast-shard");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // 가상 스레드 모드: 샤드마다 가상 스레드 하나 (전송 블로킹이 캐리어 스레드를 점유하지 않음)
+    private static Executor createVirtualThreadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("broadcast-shard-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * 브로드캐스트 토픽 구독자 전체에게 알림 전송
+     *
+     * @param notificationMessage 전송할 알림
+     * @return 전송 결과 (완료 시간, 성공/실패/연결 종료 수)
+     */
+    public BroadcastResult broadcast(NotificationMessage notificationMessage) throws JsonProcessingException {
+        long startTime = System.nanoTime();
+
+        // 페이로드와 공통 헤더는 한 번만 직렬화
+        byte[] payload = objectMapper.writeValueAsBytes(notificationMessage);
+        byte[] framePrefix = ("MESSAGE\n"
+                + "destination:" + sessionRegistry.getBroadcastDestination() + "\n"
+                + "content-type:application/json;charset=UTF-8\n"
+                + "content-length:" + payload.length + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+
+        List<NotificationSessionRegistry.Subscriber> subscribers = sessionRegistry.getBroadcastSubscribers();
+        AtomicInteger delivered = new AtomicInteger();
+        AtomicInteger disconnected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<CompletableFuture<Void>> shards = new ArrayList<>(shardCount);
+        int shardSize = (subscribers.size() + shardCount - 1) / shardCount;
+        for (int from = 0; from < subscribers.size(); from += shardSize) {
+            List<NotificationSessionRegistry.Subscriber> shard =
+                    subscribers.subList(from, Math.min(from + shardSize, subscribers.size()));
+            shards.add(CompletableFuture.runAsync(
+                    () -> sendShard(shard, framePrefix, payload, delivered, disconnected, failed),
+                    shardExecutor));
+        }
+        CompletableFuture.allOf(shards.toArray(CompletableFuture[]::new)).join();
+
+        BroadcastResult result = BroadcastResult.builder()
+                .recipients(subscribers.size())
+                .delivered(delivered.get())
+                .disconnected(disconnected.get())
+                .failed(failed.get())
+                .payloadBytes(payload.length)
+                .elapsedMillis((System.nanoTime() - startTime) / 1_000_000)
+                .build();
+
+        log.info("브로드캐스트 완료 - 타입: {}, 대상: {}, 성공: {}, 느린 소비자 종료: {}, 실패: {}, 소요: {}ms",
+                notificationMessage.getType(), result.getRecipients(), result.getDelivered(),
+                result.getDisconnected(), result.getFailed(), result.getElapsedMillis());
+        return result;
+    }
+
+    private void sendShard(List<NotificationSessionRegistry.Subscriber> shard,
+                           byte[] framePrefix,
+                           byte[] payload,
+                           AtomicInteger delivered,
+                           AtomicInteger disconnected,
+                           AtomicInteger failed) {
+        for (NotificationSessionRegistry.Subscriber subscriber : shard) {
+            try {
+                subscriber.session().sendMessage(new TextMessage(buildFrame(framePrefix, payload, subscriber)));
+                delivered.incrementAndGet();
+            } catch (SessionLimitExceededException e) {
+                // 송신 버퍼/시간 한도 초과 -> 느린 소비자 연결 종료
+                sessionRegistry.disconnect(subscriber.session());
+                disconnected.incrementAndGet();
+            } catch (Exception e) {
+                log.debug("브로드캐스트 전송 실패: sessionId = {}, error = {}",
+                        subscriber.session().getId(), e.getMessage());
+                failed.incrementAndGet();
+            }
+        }
+    }
+
+    // 공통 프레임 앞부분 + 세션별 헤더 + 공유 페이로드 + NULL 종료 문자
+    private byte[] buildFrame(byte[] framePrefix, byte[] payload, NotificationSessionRegistry.Subscriber subscriber) {
+        byte[] sessionHeaders = ("subscription:" + subscriber.subscriptionId() + "\n"
+                + "message-id:" + subscriber.session().getId() + "-" + messageSequence.incrementAndGet() + "\n\n")
+                .getBytes(StandardCharsets.UTF_8);
+
+        byte[] frame = new byte[framePrefix.length + sessionHeaders.length + payload.length + 1];
+        System.arraycopy(framePrefix, 0, frame, 0, framePrefix.length);
+        System.arraycopy(sessionHeaders, 0, frame, framePrefix.length, sessionHeaders.length);
+        System.arraycopy(payload, 0, frame, framePrefix.length + sessionHeaders.length, payload.length);
+        return frame;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (shardExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.beboard.service;
+
+import com.beboard.config.NotificationDigestProperties;
+import com.beboard.dto.NotificationDigest;
+import com.beboard.dto.NotificationMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신자별 알림 묶음 전송
+ *
+ * 인기 작성자는 댓글마다 STOMP 프레임을 하나씩 받기 때문에 프레임 수와 클라이언트 깨우기가 많아집니다.
+ * 수신자+타입 단위로 전송 창을 열어 다음과 같이 처리합니다.
+ * 1. 열린 창이 없으면(조용한 사용자) 즉시 단건 전송 후 창을 엶
+ * 2. 창이 열려 있는 동안 들어온 알림은 고정 크기 버퍼에 적재
+ * 3. 창이 닫히거나 버퍼가 size-cap 에 도달하면 하나의 다이제스트 프레임으로 전송
+ */
+@Service
+@Slf4j
+public class NotificationDigestService {
+
+    private static final String USER_DESTINATION = "/notifications";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final NotificationDigestProperties properties;
+    private final ScheduledExecutorService windowScheduler;
+
+    // "수신자ID:타입" -> 열린 전송 창
+    private final Map<String, DeliveryWindow> windows = new ConcurrentHashMap<>();
+
+    public NotificationDigestService(SimpMessageSendingOperations messagingTemplate,
+                                     NotificationDigestProperties properties) {
+        this.messagingTemplate = messagingTemplate;
+        this.properties = properties;
+        this.windowScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-digest");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 알림 전송 요청
+     * 타입별 창 길이가 0 이면 즉시 전송하고, 그렇지 않으면 창 단위로 묶어서 전송합니다.
+     *
+     * @param message 전송할 알림
+     */
+    public void offer(NotificationMessage message) {
+        Duration window = properties.windowFor(message.getType());
+        if (window.isZero() || window.isNegative()) {
+            send(message.getRecipientId(), message);
+            return;
+        }
+
+        String key = message.getRecipientId() + ":" + message.getType();
+        List<NotificationMessage> overflow = new ArrayList<>();
+        boolean[] opened = {false};
+
+        windows.compute(key, (k, current) -> {
+            if (current == null) {
+                // 조용한 사용자: 바로 보내고 창만 연다
+                opened[0] = true;
+                return new DeliveryWindow(properties.getSizeCap());
+            }
+            current.add(message);
+            if (current.isFull()) {
+                overflow.addAll(current.drain());
+            }
+            return current;
+        });
+
+        if (opened[0]) {
+            send(message.getRecipientId(), message);
+            windowScheduler.schedule(() -> closeWindow(key, message.getRecipientId(), message.getType()),
+                    window.toMillis(), TimeUnit.MILLISECONDS);
+        } else if (!overflow.isEmpty()) {
+            sendDigest(message.getRecipientId(), message.getType(), overflow);
+        }
+    }
+
+    /**
+     * 창 종료: 쌓인 알림을 다이제스트로 전송하고 창을 제거
+     */
+    private void closeWindow(String key, Long recipientId, String type) {
+        List<NotificationMessage> pending = new ArrayList<>();
+        windows.computeIfPresent(key, (k, current) -> {
+            pending.addAll(current.drain());
+            return null;
+        });
+        if (!pending.isEmpty()) {
+            sendDigest(recipientId, type, pending);
+        }
+    }
+
+    private void sendDigest(Long recipientId, String type, List<NotificationMessage> pending) {
+        if (pending.size() == 1) {
+            send(recipientId, pending.get(0));
+            return;
+        }
+
+        NotificationMessage latest = pending.get(pending.size() - 1);
+        NotificationDigest digest = NotificationDigest.builder()
+                .recipientId(recipientId)
+                .notificationType(type)
+                .count(pending.size())
+                .content(String.format("새 알림 %d개가 있습니다.", pending.size()))
+                .url(latest.getUrl())
+                .notifications(pending)
+                .build();
+        send(recipientId, digest);
+        log.debug("다이제스트 알림 전송 - 수신자 ID: {}, 타입: {}, 묶음 수: {}", recipientId, type, pending.size());
+    }
+
+    private void send(Long recipientId, Object payload) {
+        messagingTemplate.convertAndSendToUser(String.valueOf(recipientId), USER_DESTINATION, payload);
+    }
+
+    /**
+     * 종료 시 열린 창에 남은 알림을 모두 전송
+     */
+    @PreDestroy
+    public void flushAll() {
+        windowScheduler.shutdownNow();
+        windows.keySet().forEach(key -> {
+            int separator = key.indexOf(':');
+            closeWindow(key, Long.valueOf(key.substring(0, separator)), key.substring(separator + 1));
+        });
+    }
+
+    /**
+     * 수신자+타입별 전송 창 버퍼 (고정 크기)
+     * ConcurrentHashMap.compute 안에서만 접근하므로 별도 동기화가 필요 없습니다.
+     */
+    private static final class DeliveryWindow {
+        private final NotificationMessage[] buffer;
+        private int size;
+
+        private DeliveryWindow(int capacity) {
+            this.buffer = new NotificationMessage[Math.max(1, capacity)];
+        }
+
+        private void add(NotificationMessage message) {
+            buffer[size++] = message;
+        }
+
+        private boolean isFull() {
+            return size == buffer.length;
+        }
+
+        private List<NotificationMessage> drain() {
+            List<NotificationMessage> drained = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                drained.add(buffer[i]);
+                buffer[i] = null;
+            }
+            size = 0;
+            return drained;
+        }
+    }
+}
@@ -1,26 +1,47 @@
 package com.beboard.service;
 
 import com.beboard.dto.NotificationMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChannelTopic channelTopic;
+    private final String broadcastChannel;
+
+    public NotificationPublisher(RedisTemplate<String, Object> redisTemplate,
+                                 ChannelTopic channelTopic,
+                                 @Value("${notification.redis.broadcast-channel}") String broadcastChannel) {
+        this.redisTemplate = redisTemplate;
+        this.channelTopic = channelTopic;
+        this.broadcastChannel = broadcastChannel;
+    }
 
     // Redis 채널(토픽)로 메시지를 발행하는 메서드
     public void sendNotification(NotificationMessage message) {
+        // 수신자 없는 메시지는 전체 공지로 취급되지 않도록 개인 알림 채널에 발행하지 않음
+        if (message.getRecipientId() == null) {
+            throw new IllegalArgumentException("알림 수신자 ID 가 필요합니다.");
+        }
         // 지정된 채널(토픽)로 메시지 발행
         // RedisConfig 에서 설정한 직렬화 방식(Jackson2JsonRedisSerializer)에 따라 메시지가 JSON 문자열로 변환되어 저장됨
         String topic = channelTopic.getTopic();
         redisTemplate.convertAndSend(topic, message);
     }
-}
 
+    // 전체 공지 발행: 공지 전용 채널로 발행하면 각 노드의 구독자가 브로드캐스트로 처리
+    public void broadcastNotification(NotificationMessage message) {
+        NotificationMessage broadcastMessage = NotificationMessage.builder()
+                .content(message.getContent())
+                .url(message.getUrl())
+                .type(message.getType())
+                .build();
+        redisTemplate.convertAndSend(broadcastChannel, broadcastMessage);
+    }
+}
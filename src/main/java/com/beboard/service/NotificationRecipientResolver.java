@@ -0,0 +1,95 @@
+package com.beboard.service;
+
+import com.beboard.dto.NotificationMessage;
+import com.beboard.entity.Comment;
+import com.beboard.entity.Post;
+import com.beboard.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 댓글 알림 수신자 결정
+ *
+ * 이미 로딩된 게시글 작성자, 부모 댓글 작성자, 댓글 본문의 멘션(@사용자명)을 한 번에 모아
+ * 수신자별 알림 하나씩만 생성합니다.
+ * - 한 사용자가 여러 조건에 해당하면 더 구체적인 알림 하나만 보냄 (답글 > 멘션 > 새 댓글)
+ * - 댓글 작성자 본인은 어떤 경우에도 알림 대상에서 제외
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationRecipientResolver {
+
+    public static final String TYPE_NEW_COMMENT = "NEW_COMMENT";
+    public static final String TYPE_NEW_REPLY = "NEW_REPLY";
+    public static final String TYPE_MENTION = "MENTION";
+
+    // 사용자명 규칙(2-20자)에 맞춘 멘션 패턴
+    private static final Pattern MENTION_PATTERN = Pattern.compile("@([\\p{L}\\p{N}_]{2,20})");
+    private static final int MAX_MENTIONS = 10;
+
+    private final NicknameIdCache nicknameIdCache;
+
+    /**
+     * 새 댓글에 대한 알림 목록 생성
+     *
+     * @param post      댓글이 달린 게시글 (작성자 fetch join 된 상태)
+     * @param parent    부모 댓글 (작성자 fetch join 된 상태, 없으면 null)
+     * @param commenter 댓글 작성자
+     * @param content   댓글 본문
+     * @return 수신자별 알림 목록
+     */
+    public List<NotificationMessage> resolve(Post post, Comment parent, User commenter, String content) {
+        String url = "/posts/" + post.getId();
+        Long commenterId = commenter.getId();
+
+        // 수신자 ID -> 알림 타입 (먼저 들어간 타입이 우선)
+        Map<Long, String> recipients = new LinkedHashMap<>();
+
+        if (parent != null) {
+            recipients.putIfAbsent(parent.getCommenter().getId(), TYPE_NEW_REPLY);
+        }
+
+        Set<String> mentioned = extractMentions(content);
+        mentioned.remove(commenter.getNickname());
+        nicknameIdCache.resolveIds(mentioned).values()
+                .forEach(userId -> recipients.putIfAbsent(userId, TYPE_MENTION));
+
+        recipients.putIfAbsent(post.getAuthor().getId(), TYPE_NEW_COMMENT);
+
+        // 본인에게는 알림을 보내지 않음
+        recipients.remove(commenterId);
+
+        List<NotificationMessage> notifications = new ArrayList<>(recipients.size());
+        recipients.forEach((recipientId, type) -> notifications.add(NotificationMessage.builder()
+                .recipientId(recipientId)
+                .content(buildContent(type, commenter.getNickname()))
+                .url(url)
+                .type(type)
+                .build()));
+        return notifications;
+    }
+
+    private Set<String> extractMentions(String content) {
+        Set<String> nicknames = new LinkedHashSet<>();
+        if (content == null) {
+            return nicknames;
+        }
+        Matcher matcher = MENTION_PATTERN.matcher(content);
+        while (matcher.find() && nicknames.size() < MAX_MENTIONS) {
+            nicknames.add(matcher.group(1));
+        }
+        return nicknames;
+    }
+
+    private String buildContent(String type, String commenterNickname) {
+        return switch (type) {
+            case TYPE_NEW_REPLY -> String.format("'%s'님이 회원님의 댓글에 답글을 남겼습니다.", commenterNickname);
+            case TYPE_MENTION -> String.format("'%s'님이 댓글에서 회원님을 언급했습니다.", commenterNickname);
+            default -> String.format("'%s'님이 회원님의 게시글에 댓글을 남겼습니다.", commenterNickname);
+        };
+    }
+}
@@ -0,0 +1,308 @@
+package com.beboard.service;
+
+import com.beboard.dto.CommentDto;
+import com.beboard.dto.PostArchiveResult;
+import com.beboard.dto.PostDto;
+import com.beboard.entity.ArchivedComment;
+import com.beboard.entity.ArchivedPost;
+import com.beboard.util.TextExcerpt;
+import com.beboard.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 보관 (hot / cold 테이블 분리)
+ *
+ * 삭제된 게시글과 오래된 게시글이 posts 에 계속 남아 목록 인덱스를 키우므로
+ * 1. 소프트 삭제된 게시글과, 기준 일수 동안 활동(수정 / 조회 / 댓글)이 없고 북마크도 없는 게시글을 ID 키셋으로 배치 조회
+ * 2. 배치마다 별도 트랜잭션에서 댓글 / 북마크 / 게시글을 INSERT ... SELECT 로 보관 테이블에 복사한 뒤 원본 삭제
+ * 3. 보관된 게시글만큼 카테고리 게시글 수 차감, 커밋 후 북마크 랭킹 / 목록 캐시 / 카테고리 캐시 정리
+ * 목록은 posts 만 조회하고, 직접 링크(상세/댓글)는 posts 에 없을 때 보관 테이블에서 조회합니다.
+ * 작성자의 게시글 목록은 보관된 게시글을 뒤에 이어 보여주고, 보관된 게시글에 댓글 / 북마크 요청이 오면
+ * 게시글을 posts 로 되돌린 뒤 처리합니다. (restore)
+ * 여러 노드에서 동시에 실행되지 않도록 Redis 락을 사용합니다.
+ */
+@Service
+@Slf4j
+public class PostArchiveService {
+
+    private static final String LOCK_KEY = "batch:post-archive:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
+    private final CommentRepository commentRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final BookmarkRankingService bookmarkRankingService;
+    private final ResourceVersionService resourceVersionService;
+    private final PostListingCache postListingCache;
+    private final CategoryPostCountService categoryPostCountService;
+    private final CacheManager cacheManager;
+    private final RedisLockService redisLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAgeDays;
+    private final int defaultBatchSize;
+
+    public PostArchiveService(PostRepository postRepository,
+                              PostContentRepository postContentRepository,
+                              CommentRepository commentRepository,
+                              BookmarkRepository bookmarkRepository,
+                              ArchivedPostRepository archivedPostRepository,
+                              ArchivedCommentRepository archivedCommentRepository,
+                              BookmarkRankingService bookmarkRankingService,
+                              ResourceVersionService resourceVersionService,
+                              PostListingCache postListingCache,
+                              CategoryPostCountService categoryPostCountService,
+                              CacheManager cacheManager,
+                              RedisLockService redisLockService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${post.archive.max-age-days:730}") int maxAgeDays,
+                              @Value("${post.archive.batch-size:500}") int defaultBatchSize) {
+        this.postRepository = postRepository;
+        this.postContentRepository = postContentRepository;
+        this.commentRepository = commentRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.archivedCommentRepository = archivedCommentRepository;
+        this.bookmarkRankingService = bookmarkRankingService;
+        this.resourceVersionService = resourceVersionService;
+        this.postListingCache = postListingCache;
+        this.categoryPostCountService = categoryPostCountService;
+        this.cacheManager = cacheManager;
+        this.redisLockService = redisLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAgeDays = maxAgeDays;
+        this.defaultBatchSize = defaultBatchSize;
+    }
+
+    // =========================== 보관 데이터 조회 ===========================
+
+    /**
+     * 보관된 게시글 상세 조회
+     *
+     * @param postId 게시글 ID
+     * @param userId 현재 사용자 ID (북마크 상태 확인용, 없을 경우 null)
+     * @return 게시글 상세 정보, 보관되지 않았거나 삭제된 게시글이면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<PostDto.DetailResponse> findArchivedPost(Long postId, Long userId) {
+        return archivedPostRepository.findByIdAndNotDeleted(postId)
+                .map(post -> PostDto.DetailResponse.from(post,
+                        userId != null && archivedPostRepository.countBookmark(postId, userId) > 0));
+    }
+
+    /**
+     * 보관된 게시글인지 확인 (삭제되지 않은 게시글만)
+     *
+     * @param postId 게시글 ID
+     * @return 보관 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean isArchived(Long postId) {
+        return archivedPostRepository.existsByIdAndDeletedFalse(postId);
+    }
+
+    /**
+     * 보관된 게시글의 댓글 목록 조회 (상위 댓글 최신순 + 답글)
+     * 보관된 댓글은 변경되지 않고 게시글당 수가 제한적이므로 한 번에 읽어 메모리에서 구성합니다.
+     *
+     * @param postId   게시글 ID
+     * @param pageable 페이징 정보
+     * @return 댓글 목록, 보관된 게시글이 아니면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<Page<CommentDto.Response>> findArchivedComments(Long postId, Pageable pageable) {
+        if (!archivedPostRepository.existsByIdAndDeletedFalse(postId)) {
+            return Optional.empty();
+        }
+
+        List<ArchivedComment> comments = archivedCommentRepository.findByPostIdWithCommenter(postId);
+        Map<Long, List<ArchivedComment>> childrenByParent = comments.stream()
+                .filter(comment -> comment.getParentId() != null)
+                .collect(Collectors.groupingBy(ArchivedComment::getParentId));
+        List<ArchivedComment> roots = comments.stream()
+                .filter(comment -> comment.getParentId() == null && !comment.isDeleted())
+                .sorted(Comparator.comparing(ArchivedComment::getCreatedAt).reversed())
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), roots.size());
+        int to = Math.min(from + pageable.getPageSize(), roots.size());
+        List<CommentDto.Response> content = roots.subList(from, to).stream()
+                .map(comment -> toResponse(comment, childrenByParent))
+                .toList();
+
+        return Optional.of(new PageImpl<>(content, pageable, roots.size()));
+    }
+
+    private CommentDto.Response toResponse(ArchivedComment comment, Map<Long, List<ArchivedComment>> childrenByParent) {
+        List<CommentDto.Response> children = childrenByParent.getOrDefault(comment.getId(), List.of()).stream()
+                .map(child -> toResponse(child, childrenByParent))
+                .toList();
+        return CommentDto.Response.from(comment, children);
+    }
+
+    // =========================== 되돌리기 ===========================
+
+    /**
+     * 보관된 게시글을 posts 로 되돌림 (보관 이후 댓글 / 북마크 요청)
+     * 호출한 쓰기 트랜잭션 안에서 게시글 -> 본문 -> 댓글 -> 북마크 순으로 복사한 뒤 보관 행을 삭제합니다.
+     * 되돌린 게시글은 수정 시각이 갱신되어 기준 일수가 지나기 전에는 다시 보관되지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @return 되돌렸으면 true, 보관된(삭제되지 않은) 게시글이 아니면 false
+     */
+    @Transactional
+    public boolean restore(Long postId) {
+        ArchivedPost archived = archivedPostRepository.findForRestore(postId).orElse(null);
+        if (archived == null) {
+            return false;
+        }
+        Long categoryId = archived.getCategory().getId();
+
+        archivedPostRepository.restorePost(postId, TextExcerpt.of(archived.getContent()));
+        archivedPostRepository.restoreContent(postId);
+        archivedCommentRepository.restoreComments(postId);
+        int bookmarks = archivedPostRepository.restoreBookmarks(postId);
+        archivedCommentRepository.deleteByPostId(postId);
+        archivedPostRepository.deleteBookmarksByPostId(postId);
+        archivedPostRepository.deleteArchivedPost(postId);
+
+        categoryPostCountService.adjust(categoryId, 1);
+        if (bookmarks > 0) {
+            bookmarkRankingService.onBookmarkCountChanged(postId, bookmarks);
+        }
+        resourceVersionService.bumpPost(postId);
+        resourceVersionService.bumpComments(postId);
+        resourceVersionService.bumpCategories();
+        postListingCache.invalidate(categoryId);
+        log.info("보관된 게시글 되돌림: ID={}, 댓글 포함, 북마크: {}", postId, bookmarks);
+        return true;
+    }
+
+    // =========================== 보관 배치 ===========================
+
+    @Scheduled(cron = "${post.archive.cron:0 30 4 * * *}")
+    public void runScheduled() {
+        run(null);
+    }
+
+    /**
+     * 보관 배치 실행
+     *
+     * @param batchSize 배치 크기 (null 이면 설정값)
+     * @return 실행 결과
+     */
+    public PostArchiveResult run(Integer batchSize) {
+        try (RedisLockService.Lock lock = redisLockService.tryLock(LOCK_KEY, LOCK_TTL).orElse(null)) {
+            if (lock == null) {
+                log.info("게시글 보관 배치가 다른 노드에서 실행 중입니다.");
+                return PostArchiveResult.builder().executed(false).build();
+            }
+            return process(batchSize != null ? Math.max(1, batchSize) : defaultBatchSize, lock);
+        }
+    }
+
+    private PostArchiveResult process(int batchSize, RedisLockService.Lock lock) {
+        long startTime = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        log.info("게시글 보관 배치 시작 - 기준: {}, 배치 크기: {}", cutoff, batchSize);
+
+        long cursorId = 0L;
+        long archivedPosts = 0;
+        long archivedComments = 0;
+        long archivedBookmarks = 0;
+        int batches = 0;
+        Set<Long> touchedCategoryIds = new HashSet<>();
+
+        while (true) {
+            List<Object[]> candidates = postRepository.findArchiveCandidatesAfter(
+                    cutoff, cursorId, PageRequest.of(0, batchSize));
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = new ArrayList<>(candidates.size());
+            Map<Long, Integer> livePostsByCategory = new HashMap<>();
+            for (Object[] row : candidates) {
+                ids.add((Long) row[0]);
+                touchedCategoryIds.add((Long) row[1]);
+                if (!(Boolean) row[2]) {
+                    livePostsByCategory.merge((Long) row[1], 1, Integer::sum);
+                }
+            }
+
+            // 배치 단위 트랜잭션: 복사와 삭제가 함께 커밋되어야 하므로 댓글 -> 북마크 -> 게시글(본문 포함) 순으로 처리
+            long[] moved = transactionTemplate.execute(status -> {
+                int comments = archivedCommentRepository.copyComments(ids);
+                int bookmarks = archivedPostRepository.copyBookmarks(ids);
+                int posts = archivedPostRepository.copyPosts(ids);
+
+                commentRepository.detachRepliesByPostIdIn(ids);
+                commentRepository.deleteAllByPostIdIn(ids);
+                bookmarkRepository.deleteAllByPostIdIn(ids);
+                postContentRepository.deleteAllByPostIdIn(ids);
+                postRepository.deleteAllByIdIn(ids);
+
+                // 카테고리 게시글 수는 목록에 보이는(삭제되지 않은) 게시글 기준
+                livePostsByCategory.forEach((categoryId, count) -> categoryPostCountService.adjust(categoryId, -count));
+                return new long[]{posts, comments, bookmarks};
+            });
+
+            ids.forEach(bookmarkRankingService::remove);
+
+            archivedPosts += moved[0];
+            archivedComments += moved[1];
+            archivedBookmarks += moved[2];
+            batches++;
+            cursorId = ids.get(ids.size() - 1);
+
+            // 실행이 길어져도 락이 만료되지 않도록 배치마다 연장, 이미 만료되었으면 다른 노드에 맡기고 중단
+            if (!lock.extend(LOCK_TTL) || candidates.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (archivedPosts > 0) {
+            touchedCategoryIds.forEach(postListingCache::invalidate);
+            resourceVersionService.bumpCategories();
+            for (String cacheName : List.of("categories", "category")) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("게시글 보관 배치 완료 - 게시글: {}, 댓글: {}, 북마크: {}, 배치: {}, 소요: {}ms",
+                archivedPosts, archivedComments, archivedBookmarks, batches, elapsedMillis);
+
+        return PostArchiveResult.builder()
+                .executed(true)
+                .cutoff(cutoff.toString())
+                .archivedPosts(archivedPosts)
+                .archivedComments(archivedComments)
+                .archivedBookmarks(archivedBookmarks)
+                .batches(batches)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
@@ -0,0 +1,403 @@
+package com.beboard.service;
+
+import com.beboard.dto.PostImportResult;
+import com.beboard.entity.Category;
+import com.beboard.repository.CategoryRepository;
+import com.beboard.repository.UserRepository;
+import com.beboard.util.SnowflakeIdGenerator;
+import com.beboard.util.TextExcerpt;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 / 댓글 대량 가져오기 (NDJSON)
+ *
+ * 기존 시스템 이관 시 게시글마다 API 를 호출하면 카테고리 / 작성자 조회와 단일 INSERT 가 행마다 반복되므로
+ * 1. 요청 본문을 한 줄씩 읽어 청크 크기만큼 모음 (본문 전체를 메모리에 올리지 않음)
+ * 2. 카테고리는 시작 시 한 번, 작성자는 청크마다 처음 보는 이메일만 IN 조회하여 메모리 맵에 보관
+ * 3. ID 를 SnowflakeIdGenerator 로 미리 발급하고 청크마다 별도 트랜잭션에서 JDBC 배치 INSERT
+ * 4. 청크가 끝날 때마다 진행 상황 전달
+ * 5. 마지막에 카테고리 게시글 수 / 누적 카운터 보정, 목록 / 카테고리 캐시 정리, 인덱스 통계 갱신을 한 번만 실행
+ *
+ * 줄 형식 (ref 는 같은 파일 안에서 댓글이 게시글 / 상위 댓글을 가리킬 때 사용)
+ * {"type":"post","ref":"p-1","category":"자유게시판","author":"user@example.com","title":"...","content":"...","viewCount":0,"createdAt":"2020-01-01T10:00:00"}
+ * {"type":"comment","ref":"c-1","postRef":"p-1","parentRef":null,"author":"user@example.com","content":"...","createdAt":"2020-01-01T11:00:00"}
+ *
+ * 과거 데이터이므로 최근 활동 통계(CategoryActivityRecorder)에는 기록하지 않습니다.
+ * 여러 노드에서 동시에 실행되지 않도록 Redis 락을 사용합니다.
+ */
+@Service
+@Slf4j
+public class PostImportService {
+
+    private static final String LOCK_KEY = "batch:post-import:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+    private static final int MAX_ERRORS = 100;
+
+    private static final String INSERT_POST = "INSERT INTO posts " +
+            "(id, title, excerpt, view_count, bookmark_count, category_id, author_id, deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 0, ?, ?, false, ?, ?)";
+    private static final String INSERT_POST_CONTENT = "INSERT INTO post_contents (post_id, content) VALUES (?, ?)";
+    private static final String INSERT_COMMENT = "INSERT INTO comments " +
+            "(id, content, post_id, commenter_id, parent_id, deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, false, ?, ?)";
+
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final CategoryPostCountService categoryPostCountService;
+    private final CategoryStatisticsService categoryStatisticsService;
+    private final PostListingCache postListingCache;
+    private final ResourceVersionService resourceVersionService;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final RedisLockService redisLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultChunkSize;
+
+    public PostImportService(CategoryRepository categoryRepository,
+                             UserRepository userRepository,
+                             CategoryPostCountService categoryPostCountService,
+                             CategoryStatisticsService categoryStatisticsService,
+                             PostListingCache postListingCache,
+                             ResourceVersionService resourceVersionService,
+                             SnowflakeIdGenerator snowflakeIdGenerator,
+                             JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             CacheManager cacheManager,
+                             RedisLockService redisLockService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${admin.import.chunk-size:1000}") int defaultChunkSize) {
+        this.categoryRepository = categoryRepository;
+        this.userRepository = userRepository;
+        this.categoryPostCountService = categoryPostCountService;
+        this.categoryStatisticsService = categoryStatisticsService;
+        this.postListingCache = postListingCache;
+        this.resourceVersionService = resourceVersionService;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.redisLockService = redisLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    /**
+     * 가져오기 한 줄
+     */
+    record ImportLine(String type, String ref, String postRef, String parentRef,
+                      String category, String author, String title, String content,
+                      Integer viewCount, LocalDateTime createdAt) {
+    }
+
+    /**
+     * NDJSON 가져오기 실행
+     *
+     * @param in        요청 본문 (UTF-8 NDJSON)
+     * @param chunkSize 청크 크기 (null 이면 설정값)
+     * @param progress  청크마다 호출되는 진행 상황 수신기
+     * @return 실행 결과
+     */
+    public PostImportResult run(InputStream in, Integer chunkSize, Consumer<PostImportResult> progress) throws IOException {
+        // 락 해제는 이 실행이 보유 중일 때만 (TTL 만료 후 다른 노드가 잡은 락을 지우지 않음)
+        try (RedisLockService.Lock lock = redisLockService.tryLock(LOCK_KEY, LOCK_TTL).orElse(null)) {
+            if (lock == null) {
+                log.info("게시글 가져오기가 다른 노드에서 실행 중입니다.");
+                return PostImportResult.builder().executed(false).build();
+            }
+            return process(in, chunkSize != null ? Math.max(1, chunkSize) : defaultChunkSize, progress, lock);
+        }
+    }
+
+    private PostImportResult process(InputStream in, int chunkSize, Consumer<PostImportResult> progress,
+                                     RedisLockService.Lock lock) throws IOException {
+        ImportState state = new ImportState();
+        log.info("게시글 가져오기 시작 - 청크 크기: {}", chunkSize);
+
+        // 카테고리 수는 적으므로 한 번에 읽어 이름으로 찾음
+        for (Category category : categoryRepository.findAll()) {
+            state.categoryIds.put(category.getName(), category.getId());
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<ImportLine> chunk = new ArrayList<>(chunkSize);
+        List<Long> lineNumbers = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        boolean completed = false;
+
+        try {
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                state.lines++;
+                try {
+                    chunk.add(objectMapper.readValue(line, ImportLine.class));
+                    lineNumbers.add(lineNumber);
+                } catch (IOException e) {
+                    state.skip(lineNumber, "JSON 형식 오류");
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, lineNumbers, state);
+                    extendLock(lock);
+                    progress.accept(state.toResult(false));
+                    chunk.clear();
+                    lineNumbers.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, lineNumbers, state);
+                progress.accept(state.toResult(false));
+            }
+            completed = true;
+        } catch (RuntimeException e) {
+            log.error("게시글 가져오기 중단 - 줄: {}, 오류: {}", lineNumber, e.getMessage());
+            state.error("가져오기 중단 (" + lineNumber + "번째 줄 부근): " + e.getMessage());
+        } finally {
+            // 커밋된 청크는 유지되므로 어떤 예외(요청 본문 읽기 실패 포함)로 끝나도 파생 카운터는 반드시 다시 맞춤
+            rebuildDerivedData(state);
+        }
+
+        if (!completed) {
+            return state.toResult(false);
+        }
+        PostImportResult result = state.toResult(true);
+        log.info("게시글 가져오기 완료 - 게시글: {}, 댓글: {}, 건너뜀: {}, 청크: {}, 소요: {}ms, 처리량: {} rows/s",
+                result.getImportedPosts(), result.getImportedComments(), result.getSkipped(),
+                result.getChunks(), result.getElapsedMillis(), String.format("%.1f", result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 청크 참조 해석 후 한 트랜잭션에서 게시글 -> 댓글 순으로 배치 INSERT
+     */
+    private void writeChunk(List<ImportLine> chunk, List<Long> lineNumbers, ImportState state) {
+        resolveAuthors(chunk, state);
+
+        List<Object[]> posts = new ArrayList<>();
+        List<Object[]> postContents = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        Map<String, Long> newPostRefs = new HashMap<>();
+        Map<String, long[]> newCommentRefs = new HashMap<>();
+        Set<Long> categoryIds = new HashSet<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportLine item = chunk.get(i);
+            long lineNumber = lineNumbers.get(i);
+            String type = item.type() != null ? item.type().toLowerCase(Locale.ROOT) : "";
+
+            if (type.equals("post")) {
+                Long categoryId = item.category() != null ? state.categoryIds.get(item.category()) : null;
+                Long authorId = item.author() != null ? state.authorIds.get(item.author()) : null;
+                if (isBlank(item.title()) || isBlank(item.content()) || item.title().length() > 200) {
+                    state.skip(lineNumber, "제목 또는 내용이 비어 있거나 제목이 200자를 넘습니다.");
+                } else if (categoryId == null) {
+                    state.skip(lineNumber, "카테고리를 찾을 수 없습니다: " + item.category());
+                } else if (authorId == null) {
+                    state.skip(lineNumber, "작성자를 찾을 수 없습니다: " + item.author());
+                } else {
+                    long id = snowflakeIdGenerator.nextId();
+                    Timestamp createdAt = toTimestamp(item.createdAt());
+                    posts.add(new Object[]{id, item.title(), TextExcerpt.of(item.content()),
+                            item.viewCount() != null ? Math.max(0, item.viewCount()) : 0,
+                            categoryId, authorId, createdAt, createdAt});
+                    postContents.add(new Object[]{id, item.content()});
+                    categoryIds.add(categoryId);
+                    if (item.ref() != null) {
+                        newPostRefs.put(item.ref(), id);
+                    }
+                }
+            } else if (type.equals("comment")) {
+                Long postId = item.postRef() != null
+                        ? newPostRefs.getOrDefault(item.postRef(), state.postRefs.get(item.postRef())) : null;
+                long[] parent = item.parentRef() != null
+                        ? newCommentRefs.getOrDefault(item.parentRef(), state.commentRefs.get(item.parentRef())) : null;
+                Long authorId = item.author() != null ? state.authorIds.get(item.author()) : null;
+                if (isBlank(item.content())) {
+                    state.skip(lineNumber, "댓글 내용이 비어 있습니다.");
+                } else if (postId == null) {
+                    state.skip(lineNumber, "게시글 참조를 찾을 수 없습니다: " + item.postRef());
+                } else if (item.parentRef() != null && (parent == null || parent[1] != postId)) {
+                    state.skip(lineNumber, "같은 게시글의 상위 댓글을 찾을 수 없습니다: " + item.parentRef());
+                } else if (authorId == null) {
+                    state.skip(lineNumber, "작성자를 찾을 수 없습니다: " + item.author());
+                } else {
+                    long id = snowflakeIdGenerator.nextId();
+                    Timestamp createdAt = toTimestamp(item.createdAt());
+                    comments.add(new Object[]{id, item.content(), postId, authorId,
+                            parent != null ? parent[0] : null, createdAt, createdAt});
+                    if (item.ref() != null) {
+                        newCommentRefs.put(item.ref(), new long[]{id, postId});
+                    }
+                }
+            } else {
+                state.skip(lineNumber, "알 수 없는 type: " + item.type());
+            }
+        }
+
+        if (posts.isEmpty() && comments.isEmpty()) {
+            return;
+        }
+
+        // 상위 댓글이 답글보다 먼저 들어가도록 읽은 순서 그대로 전송
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!posts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_POST, posts);
+                jdbcTemplate.batchUpdate(INSERT_POST_CONTENT, postContents);
+            }
+            if (!comments.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_COMMENT, comments);
+            }
+        });
+
+        // 커밋된 청크의 참조만 이후 청크에서 사용
+        state.postRefs.putAll(newPostRefs);
+        state.commentRefs.putAll(newCommentRefs);
+        state.touchedCategoryIds.addAll(categoryIds);
+        state.importedPosts += posts.size();
+        state.importedComments += comments.size();
+        state.chunks++;
+    }
+
+    /**
+     * 실행이 길어져도 락이 만료되지 않도록 청크마다 연장 (이미 잃었으면 중단)
+     */
+    private void extendLock(RedisLockService.Lock lock) {
+        if (!lock.extend(LOCK_TTL)) {
+            throw new IllegalStateException("가져오기 락이 만료되었습니다.");
+        }
+    }
+
+    /**
+     * 처음 보는 작성자 이메일만 한 번의 IN 조회로 해석
+     */
+    private void resolveAuthors(List<ImportLine> chunk, ImportState state) {
+        Set<String> unknown = new HashSet<>();
+        for (ImportLine item : chunk) {
+            if (item.author() != null && !state.authorIds.containsKey(item.author())
+                    && !state.missingAuthors.contains(item.author())) {
+                unknown.add(item.author());
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        for (Object[] row : userRepository.findIdsByEmailIn(unknown)) {
+            state.authorIds.put((String) row[1], (Long) row[0]);
+            unknown.remove((String) row[1]);
+        }
+        state.missingAuthors.addAll(unknown);
+    }
+
+    /**
+     * 행 단위로 갱신하지 않은 파생 데이터를 가져오기 후 한 번에 다시 계산
+     */
+    private void rebuildDerivedData(ImportState state) {
+        if (state.importedPosts == 0 && state.importedComments == 0) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+
+        // categories.post_count + Redis Hash, 댓글 / 조회수 / 북마크 누적 카운터 보정 후 통계 스냅샷 갱신
+        categoryPostCountService.reconcile();
+        categoryStatisticsService.reconcile();
+        categoryStatisticsService.refresh();
+
+        state.touchedCategoryIds.forEach(postListingCache::invalidate);
+        resourceVersionService.bumpCategories();
+        for (String cacheName : List.of("categories", "category")) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+
+        // 대량 적재 후 옵티마이저가 오래된 인덱스 통계로 실행 계획을 고르지 않도록 갱신
+        try {
+            jdbcTemplate.execute("ANALYZE TABLE posts, comments");
+        } catch (Exception e) {
+            log.warn("인덱스 통계 갱신 실패: {}", e.getMessage());
+        }
+
+        log.info("가져오기 후 파생 데이터 재계산 완료 - 카테고리: {}, 소요: {}ms",
+                state.touchedCategoryIds.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return Timestamp.valueOf(value != null ? value : LocalDateTime.now());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 가져오기 진행 상태 (참조 맵 포함)
+     */
+    private static final class ImportState {
+        private final long startTime = System.nanoTime();
+        private final Map<String, Long> categoryIds = new HashMap<>();
+        private final Map<String, Long> authorIds = new HashMap<>();
+        private final Set<String> missingAuthors = new HashSet<>();
+        private final Map<String, Long> postRefs = new HashMap<>();
+        private final Map<String, long[]> commentRefs = new HashMap<>();
+        private final Set<Long> touchedCategoryIds = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private long lines;
+        private long importedPosts;
+        private long importedComments;
+        private long skipped;
+        private int chunks;
+
+        private void skip(long lineNumber, String reason) {
+            skipped++;
+            error(lineNumber + "번째 줄: " + reason);
+        }
+
+        private void error(String message) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+
+        private PostImportResult toResult(boolean completed) {
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            return PostImportResult.builder()
+                    .executed(true)
+                    .completed(completed)
+                    .lines(lines)
+                    .importedPosts(importedPosts)
+                    .importedComments(importedComments)
+                    .skipped(skipped)
+                    .chunks(chunks)
+                    .errors(List.copyOf(errors))
+                    .elapsedMillis(elapsedMillis)
+                    .rowsPerSecond(elapsedMillis > 0 ? (importedPosts + importedComments) * 1000.0 / elapsedMillis : 0)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.beboard.service;
+
+import com.beboard.entity.Category;
+import com.beboard.repository.CategoryRepository;
+import com.beboard.util.PerformanceMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비로그인 첫 페이지 게시글 목록 응답 캐시
+ *
+ * 가장 많이 호출되는 랜딩 페이지 요청(GET /api/posts, 0페이지, newest/popular, 카테고리 선택)은
+ * 매번 목록 쿼리, 댓글 수 @Formula, DTO 변환, JSON 직렬화를 반복합니다.
+ * 직렬화가 끝난 JSON 바이트를 노드 메모리에 보관하여 그대로 응답 스트림에 씁니다.
+ *
+ * 1. 키: (카테고리, 정렬, 페이지, 크기)
+ * 2. 게시글 생성/수정/삭제 커밋 후 해당 카테고리와 전체 목록 항목 제거
+ *    -> Redis 채널로 다른 노드에도 전파
+ * 3. 조회수/댓글 수처럼 이벤트가 없는 값의 최신성은 짧은 TTL(expireAfterWrite)로 보장
+ * 4. 조회 도중 무효화가 일어나면 이전 데이터를 저장하지 않도록 세대(generation) 값으로 확인
+ * 5. 키에 요청 값이 들어가므로 전체 목록과 활성 카테고리만 저장하고, 항목 수도 max-entries 로 제한
+ */
+@Service
+@Slf4j
+public class PostListingCache {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CategoryRepository categoryRepository;
+    private final String invalidationChannel;
+    private final int maxPageSize;
+
+    private final Cache<ListingKey, byte[]> listings;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostListingCache(RedisTemplate<String, Object> redisTemplate,
+                            CategoryRepository categoryRepository,
+                            @Value("${post.listing-cache.channel}") String invalidationChannel,
+                            @Value("${post.listing-cache.ttl-ms:10000}") long ttlMillis,
+                            @Value("${post.listing-cache.max-page-size:50}") int maxPageSize,
+                            @Value("${post.listing-cache.max-entries:500}") long maxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.categoryRepository = categoryRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.maxPageSize = maxPageSize;
+        this.listings = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    /**
+     * 캐시 대상 요청인지 확인 (비로그인, 검색어 없음, 0페이지, 지원 정렬)
+     */
+    public boolean isCacheable(boolean anonymous, String search, String sort, int page, int size) {
+        return anonymous
+                && (search == null || search.isBlank())
+                && page == 0
+                && size <= maxPageSize
+                && ("newest".equals(sort) || "popular".equals(sort));
+    }
+
+    /**
+     * 현재 세대 값 (조회 시작 전에 읽어 put 에 전달)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시된 응답 본문 조회
+     *
+     * @return 직렬화된 JSON, 없거나 만료되었으면 null
+     */
+    public byte[] get(Long categoryId, String sort, int page, int size) {
+        ListingKey key = new ListingKey(categoryId, sort, page, size);
+        byte[] cached = listings.getIfPresent(key);
+        if (cached == null) {
+            PerformanceMetrics.recordCacheMiss("postListing", key);
+        }
+        return cached;
+    }
+
+    /**
+     * 응답 본문 저장
+     * 조회 시작 이후 무효화가 있었다면 이전 데이터일 수 있으므로 저장하지 않습니다.
+     * 없는 / 비활성 카테고리 ID 로 캐시 항목을 만들 수 없도록 전체 목록과 활성 카테고리만 저장합니다.
+     */
+    public void put(Long categoryId, String sort, int page, int size, byte[] body, long generationAtRead) {
+        if (generation.get() != generationAtRead || !isListedCategory(categoryId)) {
+            return;
+        }
+        listings.put(new ListingKey(categoryId, sort, page, size), body);
+    }
+
+    /**
+     * 게시글 변경 시 카테고리 목록과 전체 목록 무효화 (트랜잭션 커밋 이후, 모든 노드)
+     *
+     * @param categoryId 변경된 게시글의 카테고리 ID
+     */
+    public void invalidate(Long categoryId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation(categoryId);
+                }
+            });
+        } else {
+            publishInvalidation(categoryId);
+        }
+    }
+
+    /**
+     * Redis 채널로 받은 무효화 메시지 처리
+     */
+    public void onInvalidationMessage(byte[] body) {
+        try {
+            evictLocal(Long.valueOf(new String(body, StandardCharsets.UTF_8).trim()));
+        } catch (NumberFormatException e) {
+            // 알 수 없는 메시지는 전체 무효화
+            evictAll();
+        }
+    }
+
+    private void publishInvalidation(Long categoryId) {
+        evictLocal(categoryId);
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, categoryId);
+        } catch (Exception e) {
+            log.warn("게시글 목록 캐시 무효화 전파 실패: categoryId = {}, error = {}", categoryId, e.getMessage());
+        }
+    }
+
+    private boolean isListedCategory(Long categoryId) {
+        // 활성 카테고리 목록은 쿼리 캐시 + 2차 캐시에서 읽음
+        return categoryId == null || categoryRepository.findByActiveOrderByDisplayOrderAsc(true).stream()
+                .map(Category::getId)
+                .anyMatch(categoryId::equals);
+    }
+
+    private void evictLocal(Long categoryId) {
+        generation.incrementAndGet();
+        listings.asMap().keySet().removeIf(key -> key.categoryId() == null || Objects.equals(key.categoryId(), categoryId));
+    }
+
+    private void evictAll() {
+        generation.incrementAndGet();
+        listings.invalidateAll();
+    }
+
+    private record ListingKey(Long categoryId, String sort, int page, int size) {
+    }
+}
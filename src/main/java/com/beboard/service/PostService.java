@@ -2,22 +2,29 @@ package com.beboard.service;
 
 import com.beboard.dto.PostDto;
 import com.beboard.entity.*;
+import com.beboard.repository.ArchivedPostRepository;
 import com.beboard.repository.BookmarkRepository;
 import com.beboard.repository.CategoryRepository;
+import com.beboard.repository.PostContentRepository;
 import com.beboard.repository.PostRepository;
 import com.beboard.repository.UserRepository;
+import com.beboard.util.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.NoSuchElementException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,9 +33,19 @@ import java.util.NoSuchElementException;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final BookmarkStateService bookmarkStateService;
+    private final BookmarkRankingService bookmarkRankingService;
+    private final ResourceVersionService resourceVersionService;
+    private final PostListingCache postListingCache;
+    private final PostArchiveService postArchiveService;
+    private final CategoryPostCountService categoryPostCountService;
+    private final CategoryActivityRecorder categoryActivityRecorder;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
 
     /**
      * 게시글 목록 조회
@@ -36,9 +53,10 @@ public class PostService {
      * @param categoryId 카테고리 ID (선택)
      * @param search     검색어 (선택)
      * @param pageable   페이징 정보
+     * @param userId     현재 사용자 ID (북마크 상태 표시용, 없을 경우 null)
      * @return 게시글 목록
      */
-    public Page<PostDto.ListResponse> getPosts(Pageable pageable, Long categoryId, String sort, String search) {
+    public Page<PostDto.ListResponse> getPosts(Pageable pageable, Long categoryId, String sort, String search, Long userId) {
 
         Pageable optimizedPageable = createOptimizedPageable(pageable, sort);
         Page<Post> postsPage;
@@ -57,11 +75,12 @@ public class PostService {
             postsPage = postRepository.findByDeletedFalse(optimizedPageable);
         }
 
-        return postsPage.map(PostDto.ListResponse::from);
+        return toListResponses(postsPage, userId);
     }
 
     /**
      * 특정 사용자가 작성한 게시글 목록 조회
+     * 보관된 게시글은 활성 게시글 뒤에 이어 붙이며, 요청한 정렬(sort)과 관계없이 항상 작성일 내림차순입니다.
      *
      * @param userId   사용자 ID
      * @param pageable 페이징 정보
@@ -78,7 +97,7 @@ public class PostService {
         // 게시글 조회
         Page<Post> postsPage = postRepository.findByAuthorIdAndNotDeleted(userId, optimizedPageable);
 
-        return postsPage.map(PostDto.ListResponse::from);
+        return appendArchivedPosts(toListResponses(postsPage, userId), userId);
     }
 
     /**
@@ -99,7 +118,7 @@ public class PostService {
         // 북마크한 게시글 조회
         Page<Post> postsPage = postRepository.findBookmarkedByUserIdAndNotDeleted(userId, optimizedPageable);
 
-        return postsPage.map(PostDto.ListResponse::from);
+        return postsPage.map(post -> PostDto.ListResponse.from(post, true));
     }
 
     /**
@@ -110,16 +129,18 @@ public class PostService {
      * @return 게시글 상세 정보
      */
     public PostDto.DetailResponse getPost(Long postId, Long userId) {
-        Post post = postRepository.findByIdAndNotDeleted(postId)
-                .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + postId));
+        Post post = postRepository.findByIdAndNotDeleted(postId).orElse(null);
+        if (post == null) {
+            // 보관된 게시글이면 보관 테이블에서 조회 (직접 링크)
+            return postArchiveService.findArchivedPost(postId, userId)
+                    .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + postId));
+        }
 
         // 북마크 상태 확인
-        boolean bookmarked = false;
-        if (userId != null) {
-            bookmarked = postRepository.isBookmarkedByUser(postId, userId);
-        }
+        boolean bookmarked = userId != null && bookmarkStateService.isBookmarked(userId, postId);
 
-        return PostDto.DetailResponse.from(post, bookmarked);
+        // 본문은 상세 조회에서만 post_contents 에서 읽음
+        return PostDto.DetailResponse.from(post, findContent(postId), bookmarked);
     }
 
     /**
@@ -130,6 +151,7 @@ public class PostService {
      * @return 생성된 게시글 정보
      */
     @Transactional
+    @CacheEvict(value = {"categories", "category"}, allEntries = true)
     public PostDto.DetailResponse createPost(PostDto.Request requestDto, Long authorId) {
         // 카테고리 조회
         Category category = categoryRepository.findById(requestDto.getCategoryId())
@@ -147,11 +169,16 @@ public class PostService {
                 .content(requestDto.getContent())
                 .build();
 
-        // 게시글 저장
+        // 게시글 + 본문 저장
         Post savedPost = postRepository.save(post);
+        postContentRepository.save(new PostContent(savedPost, requestDto.getContent()));
+        categoryPostCountService.adjust(category.getId(), 1);
+        categoryActivityRecorder.recordPostCreated(category.getId(), authorId);
+        resourceVersionService.bumpCategories();
+        postListingCache.invalidate(category.getId());
         log.info("새 게시글 생성: ID={}, 제목={}", savedPost.getId(), savedPost.getTitle());
 
-        return PostDto.DetailResponse.from(savedPost, false);
+        return PostDto.DetailResponse.from(savedPost, requestDto.getContent(), false);
     }
 
     /**
@@ -163,15 +190,13 @@ public class PostService {
      * @return 수정된 게시글 정보
      */
     @Transactional
+    @CacheEvict(value = {"categories", "category"}, allEntries = true)
     public PostDto.DetailResponse updatePost(Long postId, PostDto.Request requestDto, Long userId) {
         Post post = postRepository.findByIdAndNotDeleted(postId)
                 .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + postId));
 
         // 수정 권한 확인 (작성자 또는 관리자)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        if (!post.isAuthor(userId) && user.getRole() != Role.ADMIN) {
+        if (!post.isAuthor(userId) && findActiveRole(userId) != Role.ADMIN) {
             throw new AccessDeniedException("게시글을 수정할 권한이 없습니다.");
         }
 
@@ -182,15 +207,35 @@ public class PostService {
                     .orElseThrow(() -> new NoSuchElementException("카테고리를 찾을 수 없습니다. ID: " + requestDto.getCategoryId()));
         }
 
-        // 게시글 정보 업데이트
+        // 게시글 정보 업데이트 (카테고리 이동 시 이전 카테고리 목록도 무효화)
+        Long previousCategoryId = post.getCategory().getId();
+        postListingCache.invalidate(previousCategoryId);
         post.update(requestDto.getTitle(), requestDto.getContent(), category);
         Post updatedPost = postRepository.save(post);
+        // 제목 / 카테고리만 바꾸는 요청이면 본문 행이 없어도 빈 본문으로 만들지 않음 (요약으로 응답)
+        String content = requestDto.getContent();
+        boolean contentChanged = content != null && !content.isBlank();
+        PostContent postContent = postContentRepository.findById(postId)
+                .orElseGet(() -> contentChanged ? postContentRepository.save(new PostContent(post, content)) : null);
+        if (postContent != null) {
+            postContent.update(content);
+        }
+        resourceVersionService.bumpPost(postId);
+        if (category != null) {
+            if (!category.getId().equals(previousCategoryId)) {
+                categoryPostCountService.adjust(previousCategoryId, -1);
+                categoryPostCountService.adjust(category.getId(), 1);
+            }
+            resourceVersionService.bumpCategories();
+            postListingCache.invalidate(category.getId());
+        }
         log.info("게시글 수정: ID={}, 제목={}", updatedPost.getId(), updatedPost.getTitle());
 
         // 북마크 상태 확인
-        boolean bookmarked = postRepository.isBookmarkedByUser(postId, userId);
+        boolean bookmarked = bookmarkStateService.isBookmarked(userId, postId);
 
-        return PostDto.DetailResponse.from(updatedPost, bookmarked);
+        return PostDto.DetailResponse.from(updatedPost,
+                postContent != null ? postContent.getContent() : updatedPost.getExcerpt(), bookmarked);
     }
 
     /**
@@ -200,24 +245,59 @@ public class PostService {
      * @param userId 현재 사용자 ID
      */
     @Transactional
+    @CacheEvict(value = {"categories", "category"}, allEntries = true)
     public void deletePost(Long postId, Long userId) {
         Post post = postRepository.findByIdAndNotDeleted(postId)
                 .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + postId));
 
         // 삭제 권한 확인 (작성자 또는 관리자)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        if (!post.isAuthor(userId) && user.getRole() != Role.ADMIN) {
+        if (!post.isAuthor(userId) && findActiveRole(userId) != Role.ADMIN) {
             throw new AccessDeniedException("게시글을 삭제할 권한이 없습니다.");
         }
 
         // 게시글 삭제 처리
         post.markAsDeleted();
         postRepository.save(post);
+        categoryPostCountService.adjust(post.getCategory().getId(), -1);
+        categoryActivityRecorder.record(post.getCategory().getId(), CategoryActivityRecorder.Metric.POSTS, -1);
+        bookmarkRankingService.remove(postId);
+        resourceVersionService.bumpPost(postId);
+        resourceVersionService.bumpCategories();
+        postListingCache.invalidate(post.getCategory().getId());
         log.info("게시글 삭제: ID={}, 제목={}", post.getId(), post.getTitle());
     }
 
+    /**
+     * 삭제된 게시글 복구 (관리자)
+     *
+     * @param postId 게시글 ID
+     * @param userId 현재 사용자 ID
+     * @return 복구된 게시글 정보
+     */
+    @Transactional
+    @CacheEvict(value = {"categories", "category"}, allEntries = true)
+    public PostDto.DetailResponse restorePost(Long postId, Long userId) {
+        Post post = postRepository.findById(postId)
+                .filter(Post::isDeleted)
+                .orElseThrow(() -> new NoSuchElementException("삭제된 게시글을 찾을 수 없습니다. ID: " + postId));
+
+        if (findActiveRole(userId) != Role.ADMIN) {
+            throw new AccessDeniedException("게시글을 복구할 권한이 없습니다.");
+        }
+
+        // 게시글 복구 처리
+        post.restore();
+        postRepository.save(post);
+        categoryPostCountService.adjust(post.getCategory().getId(), 1);
+        categoryActivityRecorder.record(post.getCategory().getId(), CategoryActivityRecorder.Metric.POSTS, 1);
+        resourceVersionService.bumpPost(postId);
+        resourceVersionService.bumpCategories();
+        postListingCache.invalidate(post.getCategory().getId());
+        log.info("게시글 복구: ID={}, 제목={}", post.getId(), post.getTitle());
+
+        return PostDto.DetailResponse.from(post, findContent(postId), bookmarkStateService.isBookmarked(userId, postId));
+    }
+
     /**
      * 게시글 조회수 증가
      *
@@ -225,11 +305,19 @@ public class PostService {
      */
     @Transactional
     public void incrementViews(Long postId) {
-        Post post = postRepository.findByIdAndNotDeleted(postId)
-                .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + postId));
+        Post post = postRepository.findByIdAndNotDeleted(postId).orElse(null);
+        if (post == null) {
+            // 보관된 게시글의 조회수는 보관 시점 값으로 고정
+            if (postArchiveService.isArchived(postId)) {
+                return;
+            }
+            throw new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + postId);
+        }
 
         post.incrementViews();
         postRepository.save(post);
+        categoryActivityRecorder.record(post.getCategory().getId(), CategoryActivityRecorder.Metric.VIEWS, 1);
+        resourceVersionService.bumpPost(postId);
     }
 
     /**
@@ -241,24 +329,25 @@ public class PostService {
      */
     @Transactional
     public boolean addBookmark(Long postId, Long userId) {
-        // 이미 북마크한 경우 무시
-        if (bookmarkRepository.existsByUserIdAndPostId(userId, postId)) {
+        // 존재 확인 / 엔티티 로딩 없이 단일 INSERT (중복 요청은 유니크 제약으로 무시)
+        if (bookmarkRepository.insertIfAbsent(snowflakeIdGenerator.nextId(), userId, postId) == 0) {
+            if (!postRepository.existsByIdAndDeletedFalse(postId)) {
+                // 보관된 게시글이면 posts 로 되돌린 뒤 다시 시도
+                if (postArchiveService.restore(postId)) {
+                    return addBookmark(postId, userId);
+                }
+                throw new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + postId);
+            }
+            // 이미 북마크한 경우 무시
             return false;
         }
 
-        // 게시글 조회
-        Post post = postRepository.findByIdAndNotDeleted(postId)
-                .orElseThrow(() -> new NoSuchElementException("게시글을 찾을 수 없습니다. ID: " + postId));
-
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        // 북마크 추가
-        bookmarkRepository.save(Bookmark.builder()
-                .post(post)
-                .user(user)
-                .build());
+        postRepository.adjustBookmarkCount(postId, 1);
+        postRepository.findCategoryIdById(postId).ifPresent(categoryId ->
+                categoryActivityRecorder.record(categoryId, CategoryActivityRecorder.Metric.BOOKMARKS, 1));
+        bookmarkStateService.onBookmarked(userId, postId);
+        bookmarkRankingService.onBookmarkCountChanged(postId, 1);
+        resourceVersionService.bumpPost(postId);
 
         log.info("북마크 추가: 사용자={}, 게시글={}", userId, postId);
         return true;
@@ -274,9 +363,20 @@ public class PostService {
     @Transactional
     public boolean removeBookmark(Long postId, Long userId) {
         // 북마크 레코드 삭제
-        long deletedCount = bookmarkRepository.deleteByUserIdAndPostId(userId, postId);
+        int deletedCount = bookmarkRepository.deleteByUserIdAndPostId(userId, postId);
+        if (deletedCount == 0 && archivedPostRepository.countBookmark(postId, userId) > 0
+                && postArchiveService.restore(postId)) {
+            // 북마크가 보관된 게시글과 함께 옮겨진 경우 되돌린 뒤 삭제
+            deletedCount = bookmarkRepository.deleteByUserIdAndPostId(userId, postId);
+        }
 
         if (deletedCount > 0) {
+            postRepository.adjustBookmarkCount(postId, -1);
+            postRepository.findCategoryIdById(postId).ifPresent(categoryId ->
+                    categoryActivityRecorder.record(categoryId, CategoryActivityRecorder.Metric.BOOKMARKS, -1));
+            bookmarkStateService.onUnbookmarked(userId, postId);
+            bookmarkRankingService.onBookmarkCountChanged(postId, -1);
+            resourceVersionService.bumpPost(postId);
             log.info("북마크 제거: 사용자={}, 게시글={}", userId, postId);
             return true;
         }
@@ -291,12 +391,37 @@ public class PostService {
      * @return 인기 게시글 목록
      */
     public Page<PostDto.ListResponse> getPopularPosts(int limit) {
-        PageRequest pageRequest = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "views"));
-        Page<Post> popularPosts = postRepository.findPopularPosts(pageRequest);
+        // 정렬은 쿼리의 ORDER BY (조회수, 작성일) 사용
+        Page<Post> popularPosts = postRepository.findPopularPosts(PageRequest.of(0, limit));
 
         return popularPosts.map(PostDto.ListResponse::from);
     }
 
+    /**
+     * 북마크 수 상위 게시글 목록 조회
+     * 순위는 Redis 랭킹에서 읽고, 게시글은 IN 쿼리 한 번으로 조회합니다.
+     *
+     * @param limit  조회할 게시글 수
+     * @param userId 현재 사용자 ID (북마크 상태 표시용, 없을 경우 null)
+     * @return 북마크 수 내림차순 게시글 목록
+     */
+    public List<PostDto.ListResponse> getMostBookmarkedPosts(int limit, Long userId) {
+        List<Long> rankedIds = bookmarkRankingService.getTopPostIds(limit);
+        if (rankedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Post> postsById = postRepository.findAllByIdInAndNotDeleted(rankedIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Set<Long> bookmarked = bookmarkStateService.findBookmarked(userId, postsById.keySet());
+
+        return rankedIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(post -> PostDto.ListResponse.from(post, bookmarked.contains(post.getId())))
+                .toList();
+    }
+
     /**
      * 최근 게시글 수 조회 (특정 기간 이후)
      *
@@ -307,6 +432,57 @@ public class PostService {
         return postRepository.countPostsSince(since);
     }
 
+    /**
+     * 작성자 게시글 목록 뒤에 보관된 게시글을 이어 붙임
+     * 활성 게시글이 모두 나온 뒤의 페이지부터 보관된 게시글로 채우고, 전체 개수에 보관된 게시글 수를 더합니다.
+     * 보관된 게시글은 요청한 정렬과 관계없이 항상 작성일 내림차순이며, 북마크 여부는 조회하지 않습니다.
+     */
+    private Page<PostDto.ListResponse> appendArchivedPosts(Page<PostDto.ListResponse> page, Long authorId) {
+        long archivedCount = archivedPostRepository.countByAuthorIdAndDeletedFalse(authorId);
+        if (archivedCount == 0) {
+            return page;
+        }
+
+        List<PostDto.ListResponse> content = new ArrayList<>(page.getContent());
+        int remaining = page.getSize() - content.size();
+        if (remaining > 0) {
+            // 활성 게시글이 끝난 위치부터 보관된 게시글로 채움
+            long archivedOffset = Math.max(0, page.getPageable().getOffset() - page.getTotalElements());
+            archivedPostRepository.findByAuthorIdNewest(authorId, remaining, archivedOffset).stream()
+                    .map(PostDto.ListResponse::from)
+                    .forEach(content::add);
+        }
+        return new PageImpl<>(content, page.getPageable(), page.getTotalElements() + archivedCount);
+    }
+
+    /**
+     * 게시글 페이지를 목록 DTO 로 변환
+     * 페이지 내 게시글의 북마크 여부는 한 번에 조회합니다.
+     */
+    private Page<PostDto.ListResponse> toListResponses(Page<Post> postsPage, Long userId) {
+        Set<Long> bookmarked = bookmarkStateService.findBookmarked(userId,
+                postsPage.getContent().stream().map(Post::getId).toList());
+
+        return postsPage.map(post -> PostDto.ListResponse.from(post, bookmarked.contains(post.getId())));
+    }
+
+    /**
+     * 권한 확인용 역할 조회
+     * 2차 캐시의 User 는 노드 간 무효화가 늦거나 유실될 수 있으므로 역할 / 활성 상태는 DB 에서 직접 읽습니다.
+     * 작성자 본인이라도 비활성화 / 삭제된 사용자는 수정 / 삭제할 수 없습니다.
+     */
+    private Role findActiveRole(Long userId) {
+        return userRepository.findActiveRoleById(userId)
+                .orElseThrow(() -> new AccessDeniedException("비활성화되었거나 존재하지 않는 사용자입니다. ID: " + userId));
+    }
+
+    /**
+     * 게시글 본문 조회 (분리 이전 데이터 등으로 행이 없으면 빈 본문)
+     */
+    private String findContent(Long postId) {
+        return postContentRepository.findContentByPostId(postId).orElse("");
+    }
+
     private Pageable createOptimizedPageable(Pageable pageable, String sortType) {
         Sort sortStrategy = switch (sortType) {
             case "popular" -> {
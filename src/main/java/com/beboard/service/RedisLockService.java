@@ -0,0 +1,97 @@
+package com.beboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 노드 간 배치 / 재계산 실행 락 (Redis SET NX PX)
+ *
+ * 락 값으로 실행마다 다른 토큰을 두고, 연장과 해제는 토큰이 같을 때만 수행합니다. (Lua 비교 후 실행)
+ * 실행이 TTL 보다 길어져 락이 만료되고 다른 노드가 새로 잡은 뒤에도
+ * 먼저 실행한 노드가 남의 락을 지우거나 연장하지 않습니다.
+ * <pre>
+ * try (RedisLockService.Lock lock = redisLockService.tryLock(KEY, TTL).orElse(null)) {
+ *     if (lock == null) return;
+ *     ...
+ *     lock.extend(TTL);
+ * }
+ * </pre>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 락 획득 시도 (기다리지 않음)
+     *
+     * @param key 락 키
+     * @param ttl 만료 시간 (노드가 죽어도 풀리도록)
+     * @return 획득한 락, 다른 노드가 보유 중이면 empty
+     */
+    public Optional<Lock> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(new Lock(key, token)) : Optional.empty();
+    }
+
+    /**
+     * 보유 중인 락
+     */
+    public final class Lock implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+
+        private Lock(String key, String token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        /**
+         * 만료 시간 연장 (긴 실행 중 주기적으로 호출)
+         *
+         * @return 아직 이 실행이 보유 중이면 true
+         */
+        public boolean extend(Duration ttl) {
+            Long result = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+            if (result == null || result == 0L) {
+                log.warn("락이 이미 만료되어 연장하지 못했습니다: key = {}", key);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * 락 해제 (이 실행이 보유 중일 때만 삭제)
+         */
+        @Override
+        public void close() {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            } catch (Exception e) {
+                // 해제하지 못해도 TTL 이 지나면 풀림
+                log.warn("락 해제 실패: key = {}, error = {}", key, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.beboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 리소스 버전 관리 (HTTP 조건부 GET / ETag 용)
+ *
+ * 게시글, 게시글 댓글 목록, 카테고리 목록마다 Redis 에 버전 값을 하나씩 둡니다.
+ * 게시글 / 댓글 응답에는 작성자와 카테고리 정보가 들어가므로 사용자 버전(전체 1개)과 카테고리 정보 버전도 ETag 에 포함합니다.
+ * (사용자 변경은 드물어 작성자가 쓴 게시글 / 댓글 버전을 하나씩 올리지 않음)
+ * 카테고리 정보 버전은 카테고리 생성 / 수정 / 삭제 때만 바뀝니다.
+ * 게시글 작성 / 삭제로 바뀌는 카테고리별 게시글 수는 카테고리 목록 버전에만 반영하여 게시글 상세 ETag 를 흔들지 않습니다.
+ * 1. 조회 시 버전이 없으면 현재 시각(ms)으로 초기화 (SETNX) 후 사용
+ * 2. 변경 시 트랜잭션 커밋 이후 버전 키를 제거 -> 다음 조회에서 새 버전으로 초기화
+ * 컨트롤러는 서비스 호출 전에 버전으로 ETag 를 만들어 If-None-Match 를 검사하므로,
+ * 변경이 없으면 데이터베이스 조회와 JSON 직렬화 없이 304 를 반환합니다.
+ * Redis 장애 시에는 버전을 null 로 반환하여 ETag 처리 없이 정상 응답합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    private static final String KEY_PREFIX = "resource:version:";
+    private static final String CATEGORIES_KEY = KEY_PREFIX + "categories";
+    private static final String USERS_KEY = KEY_PREFIX + "users";
+    private static final String CATEGORY_METADATA_KEY = KEY_PREFIX + "categories:metadata";
+
+    // 버전 제거에 실패해도 오래된 ETag 가 무기한 유지되지 않도록 만료 시간 지정
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // =========================== ETag 생성 ===========================
+
+    /**
+     * 게시글 상세 ETag (북마크 여부가 사용자마다 다르므로 사용자 ID 포함)
+     */
+    public String postETag(Long postId, Long userId) {
+        Long version = currentVersion(postKey(postId));
+        Long categoryMetadataVersion = currentVersion(CATEGORY_METADATA_KEY);
+        Long usersVersion = currentVersion(USERS_KEY);
+        if (version == null || categoryMetadataVersion == null || usersVersion == null) {
+            return null;
+        }
+        return "\"post-" + postId + "-" + version + "-c" + categoryMetadataVersion + "-a" + usersVersion
+                + (userId != null ? "-u" + userId : "") + "\"";
+    }
+
+    /**
+     * 게시글 댓글 목록 ETag
+     */
+    public String commentsETag(Long postId) {
+        Long version = currentVersion(commentsKey(postId));
+        Long usersVersion = currentVersion(USERS_KEY);
+        if (version == null || usersVersion == null) {
+            return null;
+        }
+        return "\"comments-" + postId + "-" + version + "-a" + usersVersion + "\"";
+    }
+
+    /**
+     * 카테고리 목록 ETag
+     */
+    public String categoriesETag() {
+        Long version = currentVersion(CATEGORIES_KEY);
+        return version != null ? "\"categories-" + version + "\"" : null;
+    }
+
+    // =========================== 버전 변경 ===========================
+
+    public void bumpPost(Long postId) {
+        bump(postKey(postId));
+    }
+
+    public void bumpComments(Long postId) {
+        bump(commentsKey(postId));
+    }
+
+    /**
+     * 카테고리 목록 변경 (카테고리별 게시글 수 변경 포함)
+     */
+    public void bumpCategories() {
+        bump(CATEGORIES_KEY);
+    }
+
+    /**
+     * 카테고리 생성 / 수정 / 삭제 시 카테고리 목록과 게시글 상세 ETag 변경
+     */
+    public void bumpCategoryMetadata() {
+        bump(CATEGORIES_KEY);
+        bump(CATEGORY_METADATA_KEY);
+    }
+
+    /**
+     * 사용자 정보(닉네임, 프로필 이미지, 역할 등) 변경 시 모든 게시글 / 댓글 ETag 변경
+     */
+    public void bumpUsers() {
+        bump(USERS_KEY);
+    }
+
+    // =========================== 내부 처리 ===========================
+
+    private Long currentVersion(String key) {
+        try {
+            Object version = redisTemplate.opsForValue().get(key);
+            if (version == null) {
+                long seed = System.currentTimeMillis();
+                Boolean created = redisTemplate.opsForValue().setIfAbsent(key, seed, VERSION_TTL);
+                version = Boolean.TRUE.equals(created) ? seed : redisTemplate.opsForValue().get(key);
+            }
+            return version instanceof Number number ? number.longValue() : null;
+        } catch (Exception e) {
+            log.warn("리소스 버전 조회 실패: key = {}, error = {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    // 커밋 전에 버전을 바꾸면 다른 요청이 이전 데이터를 새 버전으로 캐싱할 수 있으므로 커밋 이후에 반영
+    private void bump(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(key);
+                }
+            });
+        } else {
+            invalidate(key);
+        }
+    }
+
+    private void invalidate(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("리소스 버전 갱신 실패: key = {}, error = {}", key, e.getMessage());
+        }
+    }
+
+    private static String postKey(Long postId) {
+        return KEY_PREFIX + "post:" + postId;
+    }
+
+    private static String commentsKey(Long postId) {
+        return KEY_PREFIX + "post:" + postId + ":comments";
+    }
+}
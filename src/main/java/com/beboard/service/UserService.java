@@ -22,6 +22,8 @@ import java.util.NoSuchElementException;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final NicknameIdCache nicknameIdCache;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * 사용자 프로필 업데이트
@@ -40,9 +42,15 @@ public class UserService {
             throw new AlreadyExistsException(ErrorCode.NICKNAME_ALREADY_USED);
         }
 
-        // 프로필 업데이트
+        // 프로필 업데이트 (사용자명이 바뀌면 멘션용 사용자명 캐시에서 이전 이름 제거)
+        String previousNickname = user.getNickname();
         user.updateProfile(requestDto.getNickname(), requestDto.getProfileImage());
+        if (!previousNickname.equals(user.getNickname())) {
+            nicknameIdCache.evict(previousNickname);
+        }
         User updatedUser = userRepository.save(user);
+        // 게시글 / 댓글 응답의 작성자 정보가 바뀌므로 ETag 변경
+        resourceVersionService.bumpUsers();
         log.info("사용자 프로필 업데이트 완료: {}", updatedUser.getEmail());
 
         return UserDto.Response.from(updatedUser);
@@ -106,6 +114,7 @@ public class UserService {
 
         user.setActive(active);
         User updatedUser = userRepository.save(user);
+        resourceVersionService.bumpUsers();
         log.info("사용자 {} 활성화 상태 변경: {}", updatedUser.getEmail(), active);
 
         return UserDto.Response.from(updatedUser);
@@ -124,6 +133,7 @@ public class UserService {
 
         user.setRole(role);
         User updatedUser = userRepository.save(user);
+        resourceVersionService.bumpUsers();
         log.info("사용자 {} 역할 변경: {}", updatedUser.getEmail(), role);
 
         return UserDto.Response.from(updatedUser);
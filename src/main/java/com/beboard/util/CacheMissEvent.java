@@ -0,0 +1,20 @@
+package com.beboard.util;
+
+import jdk.jfr.*;
+
+/**
+ * 캐시 미스 JFR 이벤트 (Spring 캐시, 게시글 목록 캐시)
+ */
+@Name("com.beboard.CacheMiss")
+@Label("Cache Miss")
+@Category({"BeBoard", "Cache"})
+@Description("캐시에서 값을 찾지 못해 원본을 조회한 경우")
+@StackTrace(false)
+class CacheMissEvent extends Event {
+
+    @Label("Cache")
+    String cacheName;
+
+    @Label("Key")
+    String key;
+}
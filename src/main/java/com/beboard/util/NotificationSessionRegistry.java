@@ -0,0 +1,167 @@
+package com.beboard.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 브로드캐스트 대상 WebSocket 세션 레지스트리
+ *
+ * 1. 연결된 세션을 송신 버퍼 제한이 있는 ConcurrentWebSocketSessionDecorator 로 감싸서 보관
+ *    - 브로커 경로와 브로드캐스트 경로가 같은 데코레이터를 거치므로 동시 전송에 안전
+ *    - 버퍼 한도를 넘긴 느린 소비자는 SessionLimitExceededException 으로 감지하여 연결 종료
+ * 2. STOMP SUBSCRIBE/UNSUBSCRIBE 프레임을 가로채 브로드캐스트 토픽 구독 ID를 세션별로 기록
+ */
+@Component
+@Slf4j
+public class NotificationSessionRegistry implements WebSocketHandlerDecoratorFactory, ChannelInterceptor {
+
+    private final String broadcastDestination;
+    private final int sendTimeLimit;
+    private final int sendBufferSizeLimit;
+
+    // 세션 ID -> 버퍼 제한이 적용된 세션
+    private final Map<String, ConcurrentWebSocketSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    // 세션 ID -> 브로드캐스트 토픽 구독 ID
+    private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+    public NotificationSessionRegistry(
+            @Value("${notification.websocket.topic}") String broadcastDestination,
+            @Value("${notification.websocket.broadcast.send-time-limit}") int sendTimeLimit,
+            @Value("${notification.websocket.broadcast.send-buffer-size-limit}") int sendBufferSizeLimit) {
+        this.broadcastDestination = broadcastDestination;
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    // =========================== WebSocket 세션 추적 ===========================
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                ConcurrentWebSocketSessionDecorator limited = new ConcurrentWebSocketSessionDecorator(
+                        session, sendTimeLimit, sendBufferSizeLimit,
+                        ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+                sessions.put(session.getId(), limited);
+                super.afterConnectionEstablished(limited);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(resolve(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(resolve(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                WebSocketSession limited = sessions.remove(session.getId());
+                subscriptions.remove(session.getId());
+                super.afterConnectionClosed(limited != null ? limited : session, closeStatus);
+            }
+        };
+    }
+
+    // 브로커 경로도 버퍼 제한이 적용된 세션을 사용하도록 등록된 데코레이터로 치환
+    private WebSocketSession resolve(WebSocketSession session) {
+        WebSocketSession limited = sessions.get(session.getId());
+        return limited != null ? limited : session;
+    }
+
+    // =========================== STOMP 구독 추적 ===========================
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompCommand command = accessor.getCommand();
+        String sessionId = accessor.getSessionId();
+        if (command == null || sessionId == null) {
+            return message;
+        }
+
+        switch (command) {
+            case SUBSCRIBE -> {
+                if (broadcastDestination.equals(accessor.getDestination())) {
+                    subscriptions.put(sessionId, accessor.getSubscriptionId());
+                }
+            }
+            case UNSUBSCRIBE -> subscriptions.remove(sessionId, accessor.getSubscriptionId());
+            case DISCONNECT -> subscriptions.remove(sessionId);
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    // =========================== 브로드캐스트 대상 조회 ===========================
+
+    /**
+     * 브로드캐스트 토픽을 구독 중인 세션 목록 (스냅샷)
+     */
+    public List<Subscriber> getBroadcastSubscribers() {
+        List<Subscriber> subscribers = new ArrayList<>(subscriptions.size());
+        subscriptions.forEach((sessionId, subscriptionId) -> {
+            ConcurrentWebSocketSessionDecorator session = sessions.get(sessionId);
+            if (session != null && session.isOpen()) {
+                subscribers.add(new Subscriber(session, subscriptionId));
+            }
+        });
+        return subscribers;
+    }
+
+    /**
+     * 느린 소비자 연결 종료
+     * 송신 버퍼가 한도를 넘어선 세션은 더 이상 신뢰할 수 없으므로 정리합니다.
+     */
+    public void disconnect(ConcurrentWebSocketSessionDecorator session) {
+        sessions.remove(session.getId());
+        subscriptions.remove(session.getId());
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.debug("느린 소비자 세션 종료 중 오류: sessionId = {}, error = {}", session.getId(), e.getMessage());
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public String getBroadcastDestination() {
+        return broadcastDestination;
+    }
+
+    /**
+     * 브로드캐스트 구독자 (세션 + 구독 ID)
+     */
+    public record Subscriber(ConcurrentWebSocketSessionDecorator session, String subscriptionId) {
+    }
+}
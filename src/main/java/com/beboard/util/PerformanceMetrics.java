@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
  * 성능 측정 Aspect
  * 서비스 메서드의 실행 시간을 측정하여 성능 모니터링
  * 캐시 적용 전후의 성능 차이를 확인할 수 있음
+ * JFR 프로파일링 중에는 메서드 실행 / 캐시 미스를 커스텀 이벤트로도 기록 (FlightRecorderService)
  */
 @Aspect
 @Component
@@ -18,8 +19,11 @@ public class PerformanceMetrics {
 
     @Around("execution(* com.beboard.service..*(..))")
     public Object measureServicePerformance(ProceedingJoinPoint joinPoint) throws Throwable{
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
         String methodName = joinPoint.getSignature().getName();
         long startTime = System.currentTimeMillis();
+        ServiceMethodEvent event = new ServiceMethodEvent();
+        event.begin();
 
         try {
             Object result = joinPoint.proceed();
@@ -32,12 +36,39 @@ public class PerformanceMetrics {
                 log.debug("성능 측정 - Service Method.{}: {}ms", methodName, executionTime);
             }
 
+            commit(event, className, methodName, false);
             return result;
         } catch (Exception e) {
             long executionTime = System.currentTimeMillis() - startTime;
-            log.error("예외 발생 - CategoryService.{}: {}ms, error: {}",
-                    methodName, executionTime, e.getMessage());
+            log.error("예외 발생 - {}.{}: {}ms, error: {}",
+                    className, methodName, executionTime, e.getMessage());
+            commit(event, className, methodName, true);
             throw e;
         }
     }
+
+    /**
+     * 캐시 미스 기록 (프로파일링 중일 때만 JFR 이벤트로 저장)
+     *
+     * @param cacheName 캐시 이름
+     * @param key       캐시 키
+     */
+    public static void recordCacheMiss(String cacheName, Object key) {
+        CacheMissEvent event = new CacheMissEvent();
+        if (event.shouldCommit()) {
+            event.cacheName = cacheName;
+            event.key = String.valueOf(key);
+            event.commit();
+        }
+    }
+
+    private static void commit(ServiceMethodEvent event, String className, String methodName, boolean failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.className = className;
+            event.methodName = methodName;
+            event.failed = failed;
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.beboard.util;
+
+import jdk.jfr.*;
+
+/**
+ * 서비스 메서드 실행 JFR 이벤트 (PerformanceMetrics 에서 기록)
+ *
+ * 프로파일링 중이 아니면 비활성 상태이므로 commit 되지 않습니다.
+ */
+@Name("com.beboard.ServiceMethod")
+@Label("Service Method")
+@Category({"BeBoard", "Service"})
+@Description("서비스 메서드 실행 시간")
+@StackTrace(false)
+class ServiceMethodEvent extends Event {
+
+    @Label("Class")
+    String className;
+
+    @Label("Method")
+    String methodName;
+
+    @Label("Failed")
+    boolean failed;
+}
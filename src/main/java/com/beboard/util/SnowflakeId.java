@@ -0,0 +1,17 @@
+package com.beboard.util;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID 를 SnowflakeIdGenerator 로 발급 (persist 시점에 ID 확정 -> INSERT 배치 가능)
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,116 @@
+package com.beboard.util;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시간 순 정렬 ID 생성기 (Snowflake / TSID 방식)
+ *
+ * IDENTITY 전략은 INSERT 후 생성된 키를 받아야 하므로 Hibernate 가 JDBC 배치를 끄고 행마다 왕복합니다.
+ * 애플리케이션에서 ID 를 미리 만들면 persist 시점에 ID 가 확정되어 INSERT 를 배치로 보낼 수 있습니다.
+ *
+ * 구성 (53비트, 프론트엔드 JavaScript Number 로 손실 없이 표현 가능한 범위)
+ * - 41비트: 기준 시각(2024-01-01 UTC) 이후 밀리초 (약 69년)
+ * - 4비트: 노드 ID (0 ~ 15, id.node-id 설정) -> ID 를 발급하는 노드는 최대 16개
+ * - 8비트: 같은 밀리초 안의 순번 (노드당 밀리초마다 256개)
+ *
+ * 기존 AUTO_INCREMENT 로 만들어진 행은 ID 를 그대로 유지합니다.
+ * 새 ID 는 기준 시각 이후 경과 시간이 상위 비트에 있어 항상 기존 ID 보다 크므로 정렬 순서와 충돌 없이 이어집니다.
+ *
+ * 두 노드가 같은 노드 ID 를 쓰면 같은 밀리초에 같은 ID 를 발급하므로, 노드 ID 는 기본값 없이 노드마다 명시해야 합니다.
+ * (local 프로필만 0 으로 기본 설정)
+ */
+public final class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    public static final int NODE_BITS = 4;
+    public static final int SEQUENCE_BITS = 8;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static volatile SnowflakeIdGenerator instance;
+
+    private final long nodeId;
+    // 요청 스레드마다 호출되므로 synchronized 대신 ReentrantLock (가상 스레드 대기 시 캐리어 스레드를 고정하지 않음)
+    private final ReentrantLock lock = new ReentrantLock();
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    private SnowflakeIdGenerator(int nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 노드 ID 로 생성기 초기화 (JVM 당 하나, 같은 노드 ID 로는 여러 번 호출 가능)
+     *
+     * @param nodeId 노드 ID (0 ~ 15, 노드마다 달라야 함)
+     * @return 공유 생성기
+     */
+    public static synchronized SnowflakeIdGenerator initialize(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        if (instance == null) {
+            instance = new SnowflakeIdGenerator(nodeId);
+        } else if (instance.nodeId != nodeId) {
+            throw new IllegalStateException("ID 생성기가 이미 다른 노드 ID 로 초기화되었습니다: " + instance.nodeId);
+        }
+        return instance;
+    }
+
+    /**
+     * 설정값(id.node-id)을 노드 ID 로 변환
+     * 값이 없으면 모든 노드가 같은 ID 를 발급하게 되므로 기본값으로 대신하지 않고 시작을 중단합니다.
+     *
+     * @param value 설정값 (null / 빈 문자열 가능)
+     * @return 노드 ID
+     */
+    public static int parseNodeId(Object value) {
+        String text = value != null ? value.toString().trim() : "";
+        if (text.isEmpty()) {
+            throw new IllegalStateException(
+                    "노드 ID(id.node-id / ID_NODE_ID)가 설정되지 않았습니다. 노드마다 0 ~ " + MAX_NODE_ID + " 중 서로 다른 값을 지정해야 합니다");
+        }
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("노드 ID 는 숫자여야 합니다: " + text, e);
+        }
+    }
+
+    /**
+     * 다음 ID 발급
+     * 시계가 뒤로 가거나 같은 밀리초의 순번을 모두 쓰면 마지막 시각을 1ms 씩 앞당겨 단조 증가를 유지합니다.
+     *
+     * @return 새 ID
+     */
+    public long nextId() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                sequence = 0L;
+            } else {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0L) {
+                    lastTimestamp++;
+                }
+            }
+            return (lastTimestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * ID 에 담긴 생성 시각 (epoch 밀리초)
+     *
+     * @param id 생성기로 만든 ID
+     * @return 생성 시각
+     */
+    public static long extractTimestamp(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+}
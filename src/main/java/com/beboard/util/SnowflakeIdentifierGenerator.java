@@ -0,0 +1,32 @@
+package com.beboard.util;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.lang.reflect.Member;
+
+/**
+ * Hibernate 용 @SnowflakeId 생성기
+ * 노드 ID 는 spring.jpa.properties 의 beboard.id.node-id 에서 읽습니다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "beboard.id.node-id";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId annotation, Member member, GeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+        this.generator = SnowflakeIdGenerator.initialize(SnowflakeIdGenerator.parseNodeId(nodeId));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,44 @@
+package com.beboard.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 목록용 본문 요약 (태그 제거 + 공백 정리 + 길이 제한)
+ * 목록 조회가 본문(post_contents)을 읽지 않도록 작성 / 수정 시 미리 계산해 posts.excerpt 에 저장합니다.
+ */
+public final class TextExcerpt {
+
+    public static final int MAX_LENGTH = 150;
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextExcerpt() {
+    }
+
+    /**
+     * 본문 요약 생성
+     *
+     * @param content 본문 (HTML 포함 가능)
+     * @return 최대 MAX_LENGTH 자의 일반 텍스트 (본문이 없으면 빈 문자열)
+     */
+    public static String of(String content) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+        String text = TAG.matcher(content).replaceAll(" ")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+
+        if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+            return text;
+        }
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 코드 포인트 기준으로 자름
+        return text.substring(0, text.offsetByCodePoints(0, MAX_LENGTH - 1)).stripTrailing() + "…";
+    }
+}
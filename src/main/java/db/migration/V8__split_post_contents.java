@@ -0,0 +1,117 @@
+package db.migration;
+
+import com.beboard.util.TextExcerpt;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 본문을 posts 에서 post_contents 로 분리
+ *
+ * 1. post_contents 테이블 생성 (본문은 MariaDB 컬럼 압축) + posts.excerpt 컬럼 추가
+ * 2. posts 를 ID 키셋으로 배치 조회하여 본문 복사 + 요약 계산, 배치마다 커밋
+ *    (한 트랜잭션으로 전체를 복사하면 undo 로그와 잠금이 테이블 크기만큼 커짐)
+ * 3. 복사가 끝나면 posts.content 삭제
+ * 중간에 실패해도 INSERT IGNORE 와 컬럼 존재 확인으로 다시 실행할 수 있습니다.
+ */
+public class V8__split_post_contents extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        // 배치마다 커밋하기 위해 Flyway 트랜잭션 밖에서 실행
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS post_contents
+                    (
+                        post_id BIGINT     NOT NULL,
+                        content MEDIUMTEXT COMPRESSED NOT NULL,
+                        PRIMARY KEY (post_id),
+                        CONSTRAINT fk_post_contents_post FOREIGN KEY (post_id) REFERENCES posts (id)
+                    ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4""");
+            statement.execute("ALTER TABLE posts ADD COLUMN IF NOT EXISTS excerpt VARCHAR(300) NOT NULL DEFAULT '' AFTER title");
+        }
+
+        if (!hasContentColumn(connection)) {
+            return;
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            copyContents(connection);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE posts DROP COLUMN content");
+        }
+    }
+
+    private void copyContents(Connection connection) throws SQLException {
+        long cursorId = 0L;
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, content FROM posts WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT IGNORE INTO post_contents (post_id, content) VALUES (?, ?)");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE posts SET excerpt = ? WHERE id = ?")) {
+
+            while (true) {
+                List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+                select.setLong(1, cursorId);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.add(new Object[]{resultSet.getLong(1), resultSet.getString(2)});
+                    }
+                }
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                for (Object[] row : rows) {
+                    String content = row[1] != null ? (String) row[1] : "";
+                    insert.setLong(1, (Long) row[0]);
+                    insert.setString(2, content);
+                    insert.addBatch();
+                    update.setString(1, TextExcerpt.of(content));
+                    update.setLong(2, (Long) row[0]);
+                    update.addBatch();
+                }
+                insert.executeBatch();
+                update.executeBatch();
+                connection.commit();
+
+                cursorId = (Long) rows.get(rows.size() - 1)[0];
+                if (rows.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    private boolean hasContentColumn(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'posts' AND COLUMN_NAME = 'content'");
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getLong(1) > 0;
+        }
+    }
+}
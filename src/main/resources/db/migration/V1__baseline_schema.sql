@@ -0,0 +1,100 @@
+-- 기준 스키마 (엔티티 매핑과 동일)
+-- 기존 운영 DB 는 baseline-on-migrate 로 V1 이 기준점이 되므로 이 파일은 신규 DB 에서만 실행됩니다.
+
+CREATE TABLE IF NOT EXISTS users
+(
+    id                    BIGINT       NOT NULL AUTO_INCREMENT,
+    email                 VARCHAR(100) NOT NULL,
+    nickname              VARCHAR(100) NOT NULL,
+    password              VARCHAR(255) NOT NULL,
+    profile_image         VARCHAR(255),
+    role                  VARCHAR(20)  NOT NULL,
+    status                VARCHAR(20)  NOT NULL,
+    active                BIT(1)       NOT NULL,
+    deleted               BIT(1)       NOT NULL,
+    failed_login_attempts INT,
+    last_login_at         DATETIME(6),
+    last_activity_at      DATETIME(6),
+    deleted_at            DATETIME(6),
+    account_locked_until  DATETIME(6),
+    created_at            DATETIME(6)  NOT NULL,
+    updated_at            DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname),
+    INDEX idx_user_email (email),
+    INDEX idx_user_nickname (nickname),
+    INDEX idx_user_status (status),
+    INDEX idx_user_last_login (last_login_at),
+    INDEX idx_user_created (created_at),
+    INDEX idx_user_active_status (deleted, status, last_login_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS user_profiles
+(
+    user_id    BIGINT      NOT NULL,
+    real_name  VARCHAR(100),
+    bio        VARCHAR(200),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_user_profiles_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS categories
+(
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(50) NOT NULL,
+    description   VARCHAR(255),
+    active        BIT(1)      NOT NULL,
+    display_order INT         NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS posts
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(200) NOT NULL,
+    content     TEXT         NOT NULL,
+    view_count  INT          NOT NULL,
+    category_id BIGINT       NOT NULL,
+    author_id   BIGINT       NOT NULL,
+    deleted     BIT(1)       NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_posts_author FOREIGN KEY (author_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS comments
+(
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    content      TEXT        NOT NULL,
+    post_id      BIGINT      NOT NULL,
+    commenter_id BIGINT      NOT NULL,
+    parent_id    BIGINT,
+    deleted      BIT(1)      NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_commenter FOREIGN KEY (commenter_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_parent FOREIGN KEY (parent_id) REFERENCES comments (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS bookmarks
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    post_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_bookmarks_user_post UNIQUE (user_id, post_id),
+    CONSTRAINT fk_bookmarks_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_bookmarks_post FOREIGN KEY (post_id) REFERENCES posts (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
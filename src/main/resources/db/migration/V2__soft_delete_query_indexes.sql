@@ -0,0 +1,46 @@
+-- 소프트 삭제(deleted = false) 조건과 함께 쓰이는 조회 패턴별 복합 인덱스
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 COUNT / id 조회는 인덱스만으로 처리(커버링)됩니다.
+-- 기존 DB 에 같은 이름의 인덱스가 있어도 실패하지 않도록 IF NOT EXISTS 사용 (MariaDB 10.1.4+)
+
+-- ===================== posts =====================
+
+-- PostRepository.findByDeletedFalse (최신순), countPostsSince
+CREATE INDEX IF NOT EXISTS idx_posts_deleted_created ON posts (deleted, created_at);
+
+-- PostRepository.findByDeletedFalse (인기순), findPopularPosts
+CREATE INDEX IF NOT EXISTS idx_posts_deleted_views ON posts (deleted, view_count, created_at);
+
+-- PostRepository.findByCategoryIdAndNotDeleted (최신순), CategoryRepository.countPostsByCategoryId / countPostsByCategories
+CREATE INDEX IF NOT EXISTS idx_posts_category_deleted_created ON posts (category_id, deleted, created_at);
+
+-- PostRepository.findByCategoryIdAndNotDeleted (인기순)
+CREATE INDEX IF NOT EXISTS idx_posts_category_deleted_views ON posts (category_id, deleted, view_count, created_at);
+
+-- PostRepository.findByAuthorIdAndNotDeleted
+CREATE INDEX IF NOT EXISTS idx_posts_author_deleted_created ON posts (author_id, deleted, created_at);
+
+-- ===================== comments =====================
+
+-- CommentRepository.findByPostIdAndParentIsNullAndNotDeleted (상위 댓글 최신순), findByPostId
+CREATE INDEX IF NOT EXISTS idx_comments_post_parent_deleted_created ON comments (post_id, parent_id, deleted, created_at);
+
+-- Post.commentCount(@Formula), CommentRepository.countByPostIdAndNotDeleted
+CREATE INDEX IF NOT EXISTS idx_comments_post_deleted ON comments (post_id, deleted);
+
+-- CommentRepository.findByCommenterIdAndNotDeleted
+CREATE INDEX IF NOT EXISTS idx_comments_commenter_deleted_created ON comments (commenter_id, deleted, created_at);
+
+-- CommentRepository.countCommentsSince
+CREATE INDEX IF NOT EXISTS idx_comments_deleted_created ON comments (deleted, created_at);
+
+-- ===================== bookmarks =====================
+-- (user_id, post_id) 유니크 인덱스: findByUserIdAndPostId, existsByUserIdAndPostId, deleteByUserIdAndPostId,
+--                                 countByUserId, PostRepository.findBookmarkedByUserIdAndNotDeleted
+
+-- BookmarkRepository.countByPostId, deleteByPostId, PostRepository.isBookmarkedByUser
+CREATE INDEX IF NOT EXISTS idx_bookmarks_post_user ON bookmarks (post_id, user_id);
+
+-- ===================== categories =====================
+
+-- CategoryRepository.findByActiveOrderByDisplayOrderAsc
+CREATE INDEX IF NOT EXISTS idx_categories_active_order ON categories (active, display_order);
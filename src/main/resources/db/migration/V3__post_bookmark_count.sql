@@ -0,0 +1,6 @@
+-- 게시글별 북마크 수 컬럼 (북마크 추가/제거 시 함께 갱신)
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS bookmark_count INT NOT NULL DEFAULT 0;
+
+-- 기존 북마크 수로 초기화
+UPDATE posts p
+SET p.bookmark_count = (SELECT COUNT(*) FROM bookmarks b WHERE b.post_id = p.id);
@@ -0,0 +1,2 @@
+-- 북마크 랭킹 재계산 / Redis 미사용 시 fallback 조회용 (PostRepository.findBookmarkRanking)
+CREATE INDEX IF NOT EXISTS idx_posts_deleted_bookmarks ON posts (deleted, bookmark_count);
@@ -0,0 +1,47 @@
+-- 오래된 게시글 / 삭제된 게시글 보관 테이블 (PostArchiveService 가 배치로 이동)
+-- 원본 ID 를 그대로 유지하므로 AUTO_INCREMENT 없이 생성하고, 조회에 필요한 인덱스만 둡니다.
+-- 보관 대상은 변경되지 않으므로 외래 키는 두지 않습니다.
+
+CREATE TABLE IF NOT EXISTS posts_archive
+(
+    id             BIGINT       NOT NULL,
+    title          VARCHAR(200) NOT NULL,
+    content        TEXT         NOT NULL,
+    view_count     INT          NOT NULL,
+    bookmark_count INT          NOT NULL,
+    comment_count  INT          NOT NULL,
+    category_id    BIGINT       NOT NULL,
+    author_id      BIGINT       NOT NULL,
+    deleted        BIT(1)       NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6),
+    archived_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_posts_archive_author (author_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS comments_archive
+(
+    id           BIGINT      NOT NULL,
+    content      TEXT        NOT NULL,
+    post_id      BIGINT      NOT NULL,
+    commenter_id BIGINT      NOT NULL,
+    parent_id    BIGINT,
+    deleted      BIT(1)      NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    updated_at   DATETIME(6),
+    archived_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_comments_archive_post (post_id, created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS bookmarks_archive
+(
+    id          BIGINT      NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    post_id     BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_bookmarks_archive_post_user UNIQUE (post_id, user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
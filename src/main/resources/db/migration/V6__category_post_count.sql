@@ -0,0 +1,6 @@
+-- 카테고리별 게시글 수 컬럼 (게시글 생성/삭제/복구/카테고리 이동 시 함께 갱신)
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS post_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 게시글 수로 초기화 (삭제되지 않은 게시글만)
+UPDATE categories c
+SET c.post_count = (SELECT COUNT(*) FROM posts p WHERE p.category_id = c.id AND p.deleted = false);
@@ -0,0 +1,26 @@
+-- 카테고리 통계용 누적 카운터 (CategoryStatisticsService 가 활동 롤업을 반영할 때 함께 갱신)
+ALTER TABLE categories
+    ADD COLUMN IF NOT EXISTS comment_count  BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS view_count     BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS bookmark_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터로 초기화 (삭제되지 않은 게시글 / 댓글 기준)
+UPDATE categories c
+SET c.comment_count  = (SELECT COUNT(*)
+                        FROM comments cm
+                                 JOIN posts p ON p.id = cm.post_id
+                        WHERE p.category_id = c.id AND p.deleted = false AND cm.deleted = false),
+    c.view_count     = (SELECT COALESCE(SUM(p.view_count), 0) FROM posts p WHERE p.category_id = c.id AND p.deleted = false),
+    c.bookmark_count = (SELECT COALESCE(SUM(p.bookmark_count), 0) FROM posts p WHERE p.category_id = c.id AND p.deleted = false);
+
+-- 카테고리별 시간 단위 활동 롤업 (최근 24시간 / 7일 통계용, 오래된 버킷은 주기적으로 삭제)
+CREATE TABLE IF NOT EXISTS category_activity_rollups
+(
+    bucket_hour DATETIME NOT NULL,
+    category_id BIGINT   NOT NULL,
+    posts       INT      NOT NULL DEFAULT 0,
+    comments    INT      NOT NULL DEFAULT 0,
+    views       INT      NOT NULL DEFAULT 0,
+    bookmarks   INT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (bucket_hour, category_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,7 @@
+-- 휴면 전환 기준 시각 (DormantUserBatchService)
+-- 한 번도 로그인하지 않은 사용자(last_login_at NULL)는 가입 시각을 기준으로 판정
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS inactive_since DATETIME(6) AS (COALESCE(last_login_at, created_at)) PERSISTENT;
+
+-- 휴면 전환 대상 키셋 조회용 (UserRepository.findDormantCandidatesAfter)
+CREATE INDEX IF NOT EXISTS idx_user_dormancy ON users (deleted, status, inactive_since);
@@ -3,7 +3,7 @@ package com.beboard;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "id.node-id=0")
 class BeBoardApplicationTests {
 
     @Test
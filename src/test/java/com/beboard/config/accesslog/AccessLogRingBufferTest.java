@@ -0,0 +1,77 @@
+package com.beboard.config.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AccessLogRingBuffer 테스트")
+class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣어도 성공한 값은 빠짐없이 한 번씩 꺼내짐")
+    void concurrentProducers() throws Exception {
+        // given
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(1024);
+        int producers = 8;
+        int perProducer = 20_000;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    // 소비자가 따라올 때까지 재시도
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                    accepted.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        Set<Integer> consumed = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (consumed.size() < producers * perProducer && System.nanoTime() < deadline) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertThat(consumed.add(value)).as("중복 값: %d", value).isTrue();
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(accepted.get()).isEqualTo(producers * perProducer);
+        assertThat(consumed).hasSize(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("가득 차면 기다리지 않고 거절, 꺼낸 만큼 다시 넣을 수 있음")
+    void rejectWhenFull() {
+        // given
+        AccessLogRingBuffer<String> buffer = new AccessLogRingBuffer<>(4);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertThat(buffer.offer("entry-" + i)).isTrue();
+        }
+
+        // when & then
+        assertThat(buffer.offer("overflow")).isFalse();
+        assertThat(buffer.poll()).isEqualTo("entry-0");
+        assertThat(buffer.offer("next")).isTrue();
+    }
+}
@@ -0,0 +1,151 @@
+package com.beboard.config.datasource;
+
+import com.beboard.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 읽기/쓰기 분리 라우팅 규칙 테스트
+ * 실제 DB 대신 Mock 데이터소스로 라우팅 결과만 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection connection;
+
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReplicaHealthChecker healthChecker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofSeconds(3));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        healthChecker = new ReplicaHealthChecker(replicas, 5, readYourWritesTracker);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+        routingDataSource = new ReplicaRoutingDataSource(healthChecker, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary 로 라우팅")
+    void writeTransaction_RoutesToPrimary() throws SQLException {
+        // given
+        given(primary.getConnection()).willReturn(connection);
+
+        // when
+        routingDataSource.getConnection();
+
+        // then
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 라우팅")
+    void readOnlyTransaction_RoutesToReplica() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replica.getConnection()).willReturn(connection);
+
+        // when
+        routingDataSource.getConnection();
+
+        // then
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("본인 쓰기 직후의 읽기는 primary 로 라우팅")
+    void readOnlyAfterOwnWrite_RoutesToPrimary() throws SQLException {
+        // given
+        User user = User.builder().email("user@test.com").nickname("tester").password("password").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+        readYourWritesTracker.markWrite(1L);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(primary.getConnection()).willReturn(connection);
+
+        // when
+        routingDataSource.getConnection();
+
+        // then
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("정상 레플리카가 없으면 primary 로 fallback")
+    void noHealthyReplica_FallsBackToPrimary() throws SQLException {
+        // given
+        healthChecker.markDown("replica-1");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(primary.getConnection()).willReturn(connection);
+
+        // when
+        routingDataSource.getConnection();
+
+        // then
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("레플리카 접속 실패 시 primary 로 fallback 하고 레플리카 제외")
+    void replicaConnectionFailure_FallsBackToPrimary() throws SQLException {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replica.getConnection()).willThrow(new SQLException("connection refused"));
+        given(primary.getConnection()).willReturn(connection);
+
+        // when
+        Connection result = routingDataSource.getConnection();
+
+        // then
+        assertThat(result).isSameAs(connection);
+        assertThat(healthChecker.getHealthyReplicas()).isEmpty();
+    }
+}
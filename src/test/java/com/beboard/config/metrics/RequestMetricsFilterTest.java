@@ -0,0 +1,117 @@
+package com.beboard.config.metrics;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 요청 단위 측정 필터 테스트
+ * 실제 DB / Redis 대신 StatementInspector 를 직접 호출하여 헤더와 MDC 만 검증
+ */
+@DisplayName("RequestMetricsFilter 테스트")
+class RequestMetricsFilterTest {
+
+    private RequestMetricsProperties properties;
+    private RequestMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestMetricsProperties();
+        properties.setQueryThreshold(2);
+        filter = new RequestMetricsFilter(properties);
+    }
+
+    @Test
+    @DisplayName("본문을 쓰기 전에 SQL 실행 수가 담긴 Server-Timing 헤더 기록")
+    void serverTimingHeader() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                SqlStatementCounter counter = new SqlStatementCounter();
+                counter.inspect("select 1");
+                counter.inspect("select 2");
+                resp.getWriter().write("[]");
+                resp.flushBuffer();
+                // 본문을 쓴 뒤의 SQL 은 헤더에 반영되지 않음
+                counter.inspect("select 3");
+            }
+        });
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getHeader("Server-Timing"))
+                .startsWith("db;dur=")
+                .contains("desc=\"SQL 2\"", "redis;dur=", "ser;dur=", "total;dur=");
+        assertThat(response.getHeaders("Server-Timing")).hasSize(1);
+        assertThat(RequestMetrics.current()).isNull();
+        assertThat(MDC.get(RequestMetricsFilter.MDC_SQL_COUNT)).isNull();
+    }
+
+    @Test
+    @DisplayName("본문 없는 응답도 요청 종료 시 헤더 기록, 비활성화하면 생략")
+    void serverTimingWithoutBody() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/posts/1"), response, new MockFilterChain());
+        properties.setServerTiming(false);
+        MockHttpServletResponse disabled = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/posts/1"), disabled, new MockFilterChain());
+
+        // then
+        assertThat(response.getHeader("Server-Timing")).contains("desc=\"SQL 0\"");
+        assertThat(disabled.getHeader("Server-Timing")).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 처리 중 로그에도 그 시점까지의 측정값이 MDC 에 담김")
+    void mdcDuringRequest() throws Exception {
+        // given
+        String[] seen = new String[2];
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                seen[0] = MDC.get(RequestMetricsFilter.MDC_SQL_COUNT);
+                SqlStatementCounter counter = new SqlStatementCounter();
+                counter.inspect("select 1");
+                counter.inspect("select 2");
+                seen[1] = MDC.get(RequestMetricsFilter.MDC_SQL_COUNT);
+            }
+        });
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts"), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(seen).containsExactly("0", "2");
+        assertThat(MDC.get(RequestMetricsFilter.MDC_SQL_COUNT)).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 SQL 은 집계하지 않음")
+    void outsideRequest() {
+        // when
+        String sql = new SqlStatementCounter().inspect("select 1");
+
+        // then
+        assertThat(sql).isEqualTo("select 1");
+        assertThat(RequestMetrics.current()).isNull();
+    }
+}
@@ -0,0 +1,279 @@
+package com.beboard.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP 부하 테스트 스위트
+ *
+ * 로컬에서 띄운 애플리케이션(SyntheticDataGenerator 로 데이터를 채운 상태)에 실제 트래픽 비율로 요청을 섞어 보내고
+ * 엔드포인트별 처리량, p50/p90/p99/최대 지연, 오류 수, 요청당 SQL 수(Server-Timing)를 출력합니다.
+ * 1. 생성된 계정으로 로그인해 토큰 확보, 목록 앞쪽 페이지에서 게시글 ID 수집
+ * 2. 워밍업 후 고정 동시성으로 측정, 요청 종류는 loadtest.mix 가중치로 선택
+ * 3. 게시글 / 목록 페이지는 앞쪽(최신, 인기)에 몰리도록 Zipf 로 선택
+ *
+ * ./gradlew loadTest -Dloadtest.base-url=http://localhost:8080 -Dloadtest.concurrency=64 -Dloadtest.seconds=60
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("HTTP 부하 테스트")
+class HttpLoadSuite {
+
+    private static final String BASE_URL = System.getProperty("loadtest.base-url", "http://localhost:8080");
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 60);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final int ACCOUNTS = Integer.getInteger("loadtest.accounts", 50);
+    private static final int LIST_PAGES = Integer.getInteger("loadtest.list-pages", 20);
+    private static final String MIX = System.getProperty("loadtest.mix",
+            "list:40,detail:25,comments:10,view:15,comment-write:5,notification:5");
+
+    private static final Pattern SQL_COUNT = Pattern.compile("desc=\"SQL (\\d+)\"");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final List<String[]> accounts = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private String[] operations;
+    private int[] cumulativeWeights;
+    private ZipfDistribution postPopularity;
+    private ZipfDistribution pagePopularity;
+
+    @Test
+    @DisplayName("요청 혼합 부하 - 엔드포인트별 처리량과 지연")
+    void runMixedLoad() throws Exception {
+        parseMix();
+        login();
+        collectPostIds();
+        assertThat(postIds).as("목록에서 게시글을 찾지 못했습니다. 먼저 seedData 를 실행하세요.").isNotEmpty();
+        postPopularity = new ZipfDistribution(postIds.size(), 1.0);
+        pagePopularity = new ZipfDistribution(LIST_PAGES, 1.2);
+
+        run(WARMUP_SECONDS);
+        stats.values().forEach(Stats::reset);
+        run(SECONDS);
+
+        System.out.printf("%-14s %9s %10s %9s %9s %9s %9s %7s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "errors", "sql/req");
+        Stats total = new Stats();
+        stats.forEach((operation, stat) -> {
+            System.out.println(stat.format(operation));
+            total.merge(stat);
+        });
+        System.out.println(total.format("total"));
+    }
+
+    // =========================== 준비 ===========================
+
+    private void parseMix() {
+        List<String> names = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String entry : MIX.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                names.add(parts[0].trim());
+                weights.add(weight);
+                stats.put(parts[0].trim(), new Stats());
+            }
+        }
+        operations = names.toArray(String[]::new);
+        cumulativeWeights = new int[weights.size()];
+        int sum = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            sum += weights.get(i);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * 생성된 계정 로그인 ([액세스 토큰, 사용자 ID])
+     */
+    private void login() throws Exception {
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "email", String.format(SyntheticDataGenerator.EMAIL_FORMAT, i),
+                    "password", SyntheticDataGenerator.ACCOUNT_PASSWORD));
+            HttpResponse<String> response = client.send(jsonRequest("/api/auth/login", body, null),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                continue;
+            }
+            JsonNode json = objectMapper.readTree(response.body());
+            accounts.add(new String[]{json.path("accessToken").asText(), json.path("user").path("id").asText()});
+        }
+        System.out.printf("로그인 계정: %d / %d%n", accounts.size(), ACCOUNTS);
+    }
+
+    private void collectPostIds() throws Exception {
+        for (int page = 0; page < LIST_PAGES; page++) {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(BASE_URL + "/api/posts?size=50&page=" + page)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                break;
+            }
+            for (JsonNode post : objectMapper.readTree(response.body()).path("content")) {
+                postIds.add(post.path("id").asLong());
+            }
+        }
+    }
+
+    // =========================== 부하 ===========================
+
+    private void run(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long startTime = System.nanoTime();
+
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    String operation = pickOperation(random);
+                    Stats stat = stats.get(operation);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(buildRequest(operation, random),
+                                HttpResponse.BodyHandlers.discarding());
+                        stat.record(System.nanoTime() - start, response.statusCode() >= 400,
+                                response.headers().firstValue("Server-Timing").orElse(null));
+                    } catch (Exception e) {
+                        stat.record(System.nanoTime() - start, true, null);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 30L, TimeUnit.SECONDS);
+
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+        stats.values().forEach(stat -> stat.elapsedSeconds = elapsedSeconds);
+    }
+
+    private String pickOperation(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest buildRequest(String operation, Random random) throws Exception {
+        long postId = postIds.get(postPopularity.sample(random));
+        String[] account = accounts.isEmpty() ? null : accounts.get(random.nextInt(accounts.size()));
+
+        return switch (operation) {
+            case "list" -> HttpRequest.newBuilder(URI.create(BASE_URL + "/api/posts?size=20&page="
+                    + pagePopularity.sample(random) + "&sort=" + (random.nextInt(5) == 0 ? "popular" : "newest"))).build();
+            case "detail" -> HttpRequest.newBuilder(URI.create(BASE_URL + "/api/posts/" + postId)).build();
+            case "comments" -> HttpRequest.newBuilder(URI.create(BASE_URL + "/api/posts/" + postId + "/comments")).build();
+            case "view" -> HttpRequest.newBuilder(URI.create(BASE_URL + "/api/posts/" + postId + "/views"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            case "comment-write" -> jsonRequest("/api/comments", objectMapper.writeValueAsString(Map.of(
+                    "postId", postId,
+                    "content", KoreanText.sentence(random))), account != null ? account[0] : null);
+            case "notification" -> jsonRequest("/api/notifications", objectMapper.writeValueAsString(Map.of(
+                    "recipientId", account != null ? Long.parseLong(account[1]) : 0L,
+                    "content", "부하 테스트 알림",
+                    "url", "/posts/" + postId,
+                    "type", "COMMENT")), null);
+            default -> throw new IllegalArgumentException("알 수 없는 요청 종류: " + operation);
+        };
+    }
+
+    private HttpRequest jsonRequest(String path, String body, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder.build();
+    }
+
+    // =========================== 집계 ===========================
+
+    private static class Stats {
+
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger errors = new AtomicInteger();
+        private final AtomicLong sqlStatements = new AtomicLong();
+        private final AtomicLong sqlSamples = new AtomicLong();
+        private double elapsedSeconds;
+
+        void record(long nanos, boolean error, String serverTiming) {
+            latencies.add(nanos);
+            if (error) {
+                errors.incrementAndGet();
+            }
+            if (serverTiming != null) {
+                Matcher matcher = SQL_COUNT.matcher(serverTiming);
+                if (matcher.find()) {
+                    sqlStatements.addAndGet(Long.parseLong(matcher.group(1)));
+                    sqlSamples.incrementAndGet();
+                }
+            }
+        }
+
+        void reset() {
+            latencies.clear();
+            errors.set(0);
+            sqlStatements.set(0);
+            sqlSamples.set(0);
+        }
+
+        void merge(Stats other) {
+            latencies.addAll(other.latencies);
+            errors.addAndGet(other.errors.get());
+            sqlStatements.addAndGet(other.sqlStatements.get());
+            sqlSamples.addAndGet(other.sqlSamples.get());
+            elapsedSeconds = other.elapsedSeconds;
+        }
+
+        String format(String name) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return String.format("%-14s %9d %8.1f/s %9.2f %9.2f %9.2f %9.2f %7d %8s",
+                    name,
+                    sorted.size(),
+                    elapsedSeconds > 0 ? sorted.size() / elapsedSeconds : 0,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.90),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 1.0),
+                    errors.get(),
+                    sqlSamples.get() > 0 ? String.format("%.1f", (double) sqlStatements.get() / sqlSamples.get()) : "-");
+        }
+
+        private static double percentile(List<Long> sortedNanos, double percentile) {
+            if (sortedNanos.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+            return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
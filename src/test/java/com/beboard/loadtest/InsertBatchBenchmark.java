@@ -0,0 +1,138 @@
+package com.beboard.loadtest;
+
+import com.beboard.entity.Category;
+import com.beboard.entity.Post;
+import com.beboard.entity.User;
+import com.beboard.repository.CategoryRepository;
+import com.beboard.repository.UserRepository;
+import com.beboard.support.DatabaseCleaner;
+import com.beboard.support.MariaDbJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 INSERT 처리량 벤치마크 (IDENTITY vs 애플리케이션 발급 ID + JDBC 배치)
+ *
+ * 1. IDENTITY: Hibernate 가 IDENTITY 전략에서 하는 것처럼 행마다 INSERT 후 생성된 키를 받아옴
+ * 2. @SnowflakeId: 엔티티 persist -> hibernate.jdbc.batch_size 단위로 배치 전송 (order_inserts)
+ * 같은 MariaDB 컨테이너에서 같은 행 수로 실행하여 rows/s 를 비교합니다.
+ *
+ * ./gradlew insertBatchBenchmark -Dbenchmark.rows=20000
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestPropertySource(properties = "logging.level.org.hibernate.SQL=WARN")
+@DisplayName("게시글 INSERT 처리량 벤치마크")
+class InsertBatchBenchmark extends MariaDbJpaTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("행마다 왕복 vs 배치 INSERT")
+    void compareInsertRates() {
+        DatabaseCleaner.clear(jdbcTemplate);
+        User author = userRepository.save(User.builder()
+                .email("bench@test.com")
+                .nickname("벤치마크")
+                .password("password")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("벤치마크")
+                .displayOrder(1)
+                .build());
+
+        double identityRate = measure(() -> insertWithIdentity(author.getId(), category.getId()));
+        double batchRate = measure(() -> insertWithBatch(author.getId(), category.getId()));
+
+        System.out.printf("%-28s %12s%n", "strategy", "rows/s");
+        System.out.printf("%-28s %12.0f%n", "IDENTITY (row by row)", identityRate);
+        System.out.printf("%-28s %12.0f%n", "@SnowflakeId + JDBC batch", batchRate);
+        System.out.printf("speedup: %.1fx%n", batchRate / identityRate);
+    }
+
+    private double measure(Runnable insert) {
+        jdbcTemplate.update("DELETE FROM posts");
+        long start = System.nanoTime();
+        insert.run();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return ROWS / seconds;
+    }
+
+    // 기존 방식: ID 를 DB 가 만들어 INSERT 마다 생성된 키를 돌려받아야 하므로 배치 불가
+    private void insertWithIdentity(Long authorId, Long categoryId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.execute((java.sql.Connection connection) -> {
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            "INSERT INTO posts (title, excerpt, view_count, bookmark_count, category_id, author_id, deleted, created_at, updated_at) " +
+                                    "VALUES (?, ?, 0, 0, ?, ?, false, ?, ?)",
+                            Statement.RETURN_GENERATED_KEYS)) {
+                        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                        for (int i = 0; i < ROWS; i++) {
+                            statement.setString(1, "제목 " + i);
+                            statement.setString(2, "본문 " + i);
+                            statement.setLong(3, categoryId);
+                            statement.setLong(4, authorId);
+                            statement.setTimestamp(5, now);
+                            statement.setTimestamp(6, now);
+                            statement.executeUpdate();
+                            try (ResultSet keys = statement.getGeneratedKeys()) {
+                                keys.next();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+    }
+
+    // 변경 후: persist 시점에 ID 가 정해지므로 Hibernate 가 batch_size 단위로 묶어 전송
+    private void insertWithBatch(Long authorId, Long categoryId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User author = entityManager.getReference(User.class, authorId);
+            Category category = entityManager.getReference(Category.class, categoryId);
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(Post.builder()
+                        .author(author)
+                        .category(category)
+                        .title("제목 " + i)
+                        .content("본문 " + i)
+                        .build());
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    author = entityManager.getReference(User.class, authorId);
+                    category = entityManager.getReference(Category.class, categoryId);
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+}
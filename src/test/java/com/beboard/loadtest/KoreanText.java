@@ -0,0 +1,89 @@
+package com.beboard.loadtest;
+
+import java.util.Random;
+
+/**
+ * 부하 테스트용 한국어 문장 생성
+ *
+ * 실제 게시판 글과 비슷한 길이 / 문자 구성(UTF-8 3바이트 한글 + 공백 + 문장부호)을 만들기 위해
+ * 자주 쓰이는 명사 / 수식어 / 서술어를 조합합니다. 의미보다는 크기와 검색(LIKE) 분포가 목적입니다.
+ */
+class KoreanText {
+
+    private static final String[] NOUNS = {
+            "회사", "개발자", "프로젝트", "서버", "데이터베이스", "점심", "주말", "여행", "카페", "커피",
+            "면접", "이직", "연봉", "코드 리뷰", "배포", "장애", "로그", "캐시", "인덱스", "쿼리",
+            "운동", "헬스장", "러닝", "등산", "영화", "드라마", "음악", "공연", "게임", "책",
+            "맛집", "김치찌개", "떡볶이", "치킨", "라면", "날씨", "출근길", "퇴근길", "지하철", "버스",
+            "강아지", "고양이", "친구", "가족", "부모님", "동생", "선배", "후배", "팀장님", "신입",
+            "스프링", "자바", "리액트", "도커", "쿠버네티스", "레디스", "트래픽", "성능", "테스트", "알림"
+    };
+
+    private static final String[] MODIFIERS = {
+            "오늘", "어제", "이번 주", "요즘", "드디어", "갑자기", "생각보다", "정말", "너무", "조금",
+            "다들", "혹시", "역시", "벌써", "아직도", "새로 산", "처음 가본", "오래된", "유명한", "근처"
+    };
+
+    private static final String[] PREDICATES = {
+            "좋았어요", "힘들었어요", "괜찮네요", "추천합니다", "궁금합니다", "어떻게 하나요",
+            "해결했습니다", "공유합니다", "후기 남깁니다", "고민입니다", "실패했어요", "성공했습니다",
+            "다녀왔어요", "시작했어요", "정리해봤어요", "질문 있습니다", "느려졌어요", "빨라졌어요"
+    };
+
+    private static final String[] NICKNAME_PREFIXES = {
+            "행복한", "졸린", "배고픈", "용감한", "조용한", "부지런한", "느긋한", "씩씩한", "수줍은", "명랑한"
+    };
+
+    private static final String[] NICKNAME_NOUNS = {
+            "고양이", "강아지", "개발자", "다람쥐", "펭귄", "여우", "곰", "토끼", "부엉이", "거북이"
+    };
+
+    private KoreanText() {
+    }
+
+    static String title(Random random) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(pick(MODIFIERS, random)).append(' ').append(pick(NOUNS, random));
+        if (random.nextBoolean()) {
+            builder.append(' ').append(pick(NOUNS, random));
+        }
+        return builder.append(' ').append(pick(PREDICATES, random)).toString();
+    }
+
+    static String sentence(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int words = 2 + random.nextInt(4);
+        for (int i = 0; i < words; i++) {
+            builder.append(random.nextInt(3) == 0 ? pick(MODIFIERS, random) : pick(NOUNS, random));
+            builder.append(i == 0 ? "은 " : random.nextBoolean() ? "에서 " : "도 ");
+        }
+        builder.append(pick(PREDICATES, random));
+        return builder.append(random.nextInt(5) == 0 ? "!" : ".").toString();
+    }
+
+    /**
+     * 문단 (문장 수 범위 안에서 무작위, 두세 문장마다 줄바꿈)
+     */
+    static String paragraph(Random random, int minSentences, int maxSentences) {
+        int sentences = minSentences + random.nextInt(maxSentences - minSentences + 1);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                builder.append(i % 3 == 0 ? "\n\n" : " ");
+            }
+            builder.append(sentence(random));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 고유 닉네임 (순번을 붙여 uk_users_nickname 충돌 방지)
+     */
+    static String nickname(int index, Random random) {
+        return pick(NICKNAME_PREFIXES, random) + pick(NICKNAME_NOUNS, random) + index;
+    }
+
+    private static String pick(String[] words, Random random) {
+        return words[random.nextInt(words.length)];
+    }
+}
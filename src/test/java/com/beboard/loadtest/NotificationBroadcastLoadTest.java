@@ -0,0 +1,116 @@
+package com.beboard.loadtest;
+
+import com.beboard.dto.BroadcastResult;
+import com.beboard.dto.NotificationMessage;
+import com.beboard.service.NotificationBroadcaster;
+import com.beboard.util.NotificationSessionRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 공지 브로드캐스트 부하 테스트 하네스
+ *
+ * 로컬 MariaDB/Redis 가 떠 있는 상태에서 수천 개의 STOMP 클라이언트를 연결한 뒤
+ * 브로드캐스트 완료 시간과 전체 수신 완료 시간을 측정합니다.
+ * 일반 빌드에서는 실행되지 않으며, 아래와 같이 명시적으로 실행합니다.
+ *
+ * ./gradlew test --tests '*NotificationBroadcastLoadTest' -Dloadtest=true -Dloadtest.clients=5000 -Dspring.profiles.active=local
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("브로드캐스트 부하 테스트")
+class NotificationBroadcastLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private NotificationBroadcaster notificationBroadcaster;
+
+    @Autowired
+    private NotificationSessionRegistry notificationSessionRegistry;
+
+    private final List<StompSession> stompSessions = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        stompSessions.forEach(StompSession::disconnect);
+    }
+
+    @Test
+    @DisplayName("수천 개의 STOMP 클라이언트에 전체 공지 브로드캐스트")
+    void broadcastToThousandsOfClients() throws Exception {
+        // given
+        int clientCount = Integer.getInteger("loadtest.clients", 2000);
+        String url = "ws://localhost:" + port + "/wss/websocket";
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        CountDownLatch received = new CountDownLatch(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            StompSession session = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+            }).get(10, TimeUnit.SECONDS);
+            session.subscribe("/topic/notifications", new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    received.countDown();
+                }
+            });
+            stompSessions.add(session);
+        }
+
+        // 모든 SUBSCRIBE 프레임이 서버에 반영될 때까지 대기
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (notificationSessionRegistry.getSubscriberCount() < clientCount
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        NotificationMessage notice = NotificationMessage.builder()
+                .content("시스템 점검 안내")
+                .url("/notices/1")
+                .type("SYSTEM_NOTICE")
+                .build();
+
+        // when
+        long startTime = System.nanoTime();
+        BroadcastResult result = notificationBroadcaster.broadcast(notice);
+        boolean allReceived = received.await(60, TimeUnit.SECONDS);
+        long receiveMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        // then
+        System.out.printf("clients=%d, delivered=%d, disconnected=%d, failed=%d, broadcast=%dms, allReceived=%dms%n",
+                clientCount, result.getDelivered(), result.getDisconnected(), result.getFailed(),
+                result.getElapsedMillis(), receiveMillis);
+
+        assertThat(allReceived).isTrue();
+        assertThat(result.getDelivered()).isEqualTo(clientCount);
+    }
+}
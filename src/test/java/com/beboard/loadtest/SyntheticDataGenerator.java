@@ -0,0 +1,424 @@
+package com.beboard.loadtest;
+
+import com.beboard.util.SnowflakeIdGenerator;
+import com.beboard.util.TextExcerpt;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합성 데이터 생성기
+ *
+ * 로컬에서 운영 규모의 동작(목록 / 검색 쿼리 계획, 캐시 적중률, 배치 처리 시간)을 재현하기 위해
+ * 사용자 / 게시글(본문 포함) / 중첩 댓글 / 북마크를 수백만 건 단위로 만듭니다.
+ * - 쏠림: 게시글 인기(조회수, 댓글, 북마크)와 사용자 활동량(작성, 댓글, 북마크)은 Zipf 분포
+ * - 본문: 한국어 문장 (KoreanText), 목록 요약은 애플리케이션과 같은 TextExcerpt 로 계산
+ * - 댓글: 게시글마다 시간순, 일부는 앞선 댓글의 답글 (최대 3단계)
+ * - 적재: ID 를 미리 발급(SnowflakeIdGenerator, 운영 노드와 겹치지 않는 노드 번호)하고 JDBC 배치 INSERT, 배치마다 커밋
+ * - 마지막에 게시글 북마크 수 / 카테고리 누적 카운터를 집계 쿼리로 맞추고 인덱스 통계 갱신
+ *
+ * Flyway 마이그레이션이 끝난 빈 스키마에서 실행합니다. 생성된 계정은 loadtest{n}@beboard.test / seed.account-password 로
+ * 로그인할 수 있어 HttpLoadSuite 가 그대로 사용합니다. 실행 중인 애플리케이션의 Redis 캐시(카테고리 게시글 수, 랭킹 등)는
+ * 각 보정 주기 후에 맞춰집니다.
+ *
+ * ./gradlew seedData -Dseed.users=1000000 -Dseed.posts=2000000 -Dseed.comments=6000000 -Dseed.bookmarks=3000000
+ */
+@EnabledIfSystemProperty(named = "seed", matches = "true")
+@DisplayName("합성 데이터 생성")
+class SyntheticDataGenerator {
+
+    static final String EMAIL_FORMAT = "loadtest%d@beboard.test";
+    static final String ACCOUNT_PASSWORD = System.getProperty("seed.account-password", "loadtest1234!");
+
+    private static final String URL = System.getProperty("seed.url",
+            "jdbc:mariadb://localhost:3306/board?useSSL=false&characterEncoding=UTF-8&allowPublicKeyRetrieval=true");
+    private static final String USERNAME = System.getProperty("seed.username", "root");
+    private static final String PASSWORD = System.getProperty("seed.password", "1234");
+
+    private static final int USERS = Integer.getInteger("seed.users", 100_000);
+    private static final int POSTS = Integer.getInteger("seed.posts", 500_000);
+    private static final int COMMENTS = Integer.getInteger("seed.comments", 1_500_000);
+    private static final int BOOKMARKS = Integer.getInteger("seed.bookmarks", 800_000);
+    private static final int DAYS = Integer.getInteger("seed.days", 365);
+    private static final int BATCH_SIZE = Integer.getInteger("seed.batch-size", 1000);
+    private static final int MAX_VIEWS = Integer.getInteger("seed.max-views", 200_000);
+    private static final double SKEW = Double.parseDouble(System.getProperty("seed.skew", "1.0"));
+    private static final double REPLY_RATIO = Double.parseDouble(System.getProperty("seed.reply-ratio", "0.35"));
+    private static final long RANDOM_SEED = Long.getLong("seed.random-seed", 20240101L);
+    private static final int NODE_ID = Integer.getInteger("seed.node-id", SnowflakeIdGenerator.MAX_NODE_ID);
+    private static final int MAX_COMMENT_DEPTH = 2;
+
+    private static final String[] CATEGORY_NAMES = {
+            "자유게시판", "질문답변", "개발", "취업/이직", "여행", "맛집", "게임", "영화/드라마", "음악", "운동"
+    };
+
+    private static final String INSERT_CATEGORY = "INSERT IGNORE INTO categories " +
+            "(id, name, description, active, display_order, created_at, updated_at) VALUES (?, ?, ?, true, ?, NOW(6), NOW(6))";
+    private static final String INSERT_USER = "INSERT INTO users " +
+            "(id, email, nickname, password, role, status, active, deleted, failed_login_attempts, " +
+            "last_login_at, last_activity_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'USER', 'ACTIVE', true, false, 0, ?, ?, ?, ?)";
+    private static final String INSERT_POST = "INSERT INTO posts " +
+            "(id, title, excerpt, view_count, bookmark_count, category_id, author_id, deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 0, ?, ?, false, ?, ?)";
+    private static final String INSERT_POST_CONTENT = "INSERT INTO post_contents (post_id, content) VALUES (?, ?)";
+    private static final String INSERT_COMMENT = "INSERT INTO comments " +
+            "(id, content, post_id, commenter_id, parent_id, deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, false, ?, ?)";
+    private static final String INSERT_BOOKMARK = "INSERT IGNORE INTO bookmarks " +
+            "(id, user_id, post_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final Random random = new Random(RANDOM_SEED);
+    private final SnowflakeIdGenerator ids = SnowflakeIdGenerator.initialize(NODE_ID);
+    private final long now = System.currentTimeMillis();
+    private final long from = now - TimeUnit.DAYS.toMillis(DAYS);
+    private final List<String> report = new ArrayList<>();
+
+    @Test
+    @DisplayName("사용자 / 게시글 / 댓글 / 북마크 생성")
+    void generate() throws Exception {
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD)) {
+            ensureEmpty(connection);
+            connection.setAutoCommit(false);
+
+            long[] categoryIds = insertCategories(connection);
+
+            long[] userCreatedAt = sortedTimes(USERS, from);
+            long[] userIds = insertUsers(connection, userCreatedAt);
+            ZipfDistribution userActivity = new ZipfDistribution(USERS, SKEW);
+            int[] userByRank = ZipfDistribution.shuffledRanks(USERS, random);
+
+            long[] postCreatedAt = sortedTimes(POSTS, from);
+            ZipfDistribution postPopularity = new ZipfDistribution(POSTS, SKEW);
+            int[] postByRank = ZipfDistribution.shuffledRanks(POSTS, random);
+            long[] postIds = insertPosts(connection, postCreatedAt, categoryIds, userIds,
+                    userActivity, userByRank, postPopularity, postByRank);
+
+            insertComments(connection, postIds, postCreatedAt, userIds, userActivity, userByRank, postPopularity, postByRank);
+            insertBookmarks(connection, postIds, postCreatedAt, userIds, userCreatedAt,
+                    userActivity, userByRank, postPopularity, postByRank);
+
+            connection.setAutoCommit(true);
+            rebuildDerivedData(connection);
+        }
+
+        System.out.printf("%-14s %12s %10s %12s%n", "table", "rows", "time(s)", "rows/s");
+        report.forEach(System.out::println);
+        System.out.printf("로그인 계정: %s ~ %s / %s%n",
+                String.format(EMAIL_FORMAT, 0), String.format(EMAIL_FORMAT, USERS - 1), ACCOUNT_PASSWORD);
+    }
+
+    private void ensureEmpty(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM users WHERE email = ?")) {
+            statement.setString(1, String.format(EMAIL_FORMAT, 0));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next() && resultSet.getLong(1) > 0) {
+                    throw new IllegalStateException("이미 생성된 부하 테스트 데이터가 있습니다. 빈 스키마에서 실행하세요.");
+                }
+            }
+        }
+    }
+
+    /**
+     * 카테고리 (이미 같은 이름이 있으면 그대로 사용)
+     */
+    private long[] insertCategories(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_CATEGORY)) {
+            for (int i = 0; i < CATEGORY_NAMES.length; i++) {
+                insert.setLong(1, ids.nextId());
+                insert.setString(2, CATEGORY_NAMES[i]);
+                insert.setString(3, CATEGORY_NAMES[i] + " 게시판입니다.");
+                insert.setInt(4, i + 1);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        long[] categoryIds = new long[CATEGORY_NAMES.length];
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM categories WHERE name = ?")) {
+            for (int i = 0; i < CATEGORY_NAMES.length; i++) {
+                select.setString(1, CATEGORY_NAMES[i]);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    resultSet.next();
+                    categoryIds[i] = resultSet.getLong(1);
+                }
+            }
+        }
+        return categoryIds;
+    }
+
+    private long[] insertUsers(Connection connection, long[] createdAt) throws SQLException {
+        // 모든 계정이 같은 비밀번호 (BCrypt 는 한 번만 계산)
+        String passwordHash = new BCryptPasswordEncoder().encode(ACCOUNT_PASSWORD);
+        long[] userIds = new long[USERS];
+
+        try (BatchWriter writer = new BatchWriter(connection, "users", INSERT_USER)) {
+            PreparedStatement statement = writer.statement(0);
+            for (int i = 0; i < USERS; i++) {
+                userIds[i] = ids.nextId();
+                LocalDateTime lastLoginAt = toDateTime(between(createdAt[i], now));
+                statement.setLong(1, userIds[i]);
+                statement.setString(2, String.format(EMAIL_FORMAT, i));
+                statement.setString(3, KoreanText.nickname(i, random));
+                statement.setString(4, passwordHash);
+                statement.setObject(5, lastLoginAt);
+                statement.setObject(6, lastLoginAt);
+                statement.setObject(7, toDateTime(createdAt[i]));
+                statement.setObject(8, toDateTime(createdAt[i]));
+                writer.add(0);
+                writer.endRow();
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 게시글 + 본문 (작성자 / 카테고리는 Zipf, 조회수는 인기 순위에 반비례)
+     */
+    private long[] insertPosts(Connection connection, long[] createdAt, long[] categoryIds, long[] userIds,
+                               ZipfDistribution userActivity, int[] userByRank,
+                               ZipfDistribution postPopularity, int[] postByRank) throws SQLException {
+        ZipfDistribution categoryPopularity = new ZipfDistribution(categoryIds.length, 0.8);
+        int[] rankOfPost = invert(postByRank);
+        long[] postIds = new long[POSTS];
+
+        try (BatchWriter writer = new BatchWriter(connection, "posts", INSERT_POST, INSERT_POST_CONTENT)) {
+            PreparedStatement post = writer.statement(0);
+            PreparedStatement content = writer.statement(1);
+            for (int i = 0; i < POSTS; i++) {
+                postIds[i] = ids.nextId();
+                String body = KoreanText.paragraph(random, 3, 12);
+                int viewCount = (int) Math.round(MAX_VIEWS * postPopularity.weight(rankOfPost[i])) + random.nextInt(20);
+                LocalDateTime postedAt = toDateTime(createdAt[i]);
+
+                post.setLong(1, postIds[i]);
+                post.setString(2, KoreanText.title(random));
+                post.setString(3, TextExcerpt.of(body));
+                post.setInt(4, viewCount);
+                post.setLong(5, categoryIds[categoryPopularity.sample(random)]);
+                post.setLong(6, userIds[userByRank[userActivity.sample(random)]]);
+                post.setObject(7, postedAt);
+                post.setObject(8, postedAt);
+                writer.add(0);
+
+                content.setLong(1, postIds[i]);
+                content.setString(2, body);
+                writer.add(1);
+                writer.endRow();
+            }
+        }
+        return postIds;
+    }
+
+    /**
+     * 댓글 (인기 게시글에 몰리도록 Zipf 로 게시글별 개수를 정한 뒤 게시글 순서대로 적재)
+     */
+    private void insertComments(Connection connection, long[] postIds, long[] postCreatedAt, long[] userIds,
+                                ZipfDistribution userActivity, int[] userByRank,
+                                ZipfDistribution postPopularity, int[] postByRank) throws SQLException {
+        int[] commentCounts = new int[POSTS];
+        for (int i = 0; i < COMMENTS; i++) {
+            commentCounts[postByRank[postPopularity.sample(random)]]++;
+        }
+
+        try (BatchWriter writer = new BatchWriter(connection, "comments", INSERT_COMMENT)) {
+            PreparedStatement statement = writer.statement(0);
+            for (int p = 0; p < POSTS; p++) {
+                int count = commentCounts[p];
+                if (count == 0) {
+                    continue;
+                }
+                long[] times = sortedTimes(count, postCreatedAt[p]);
+                long[] commentIds = new long[count];
+                int[] depths = new int[count];
+
+                for (int j = 0; j < count; j++) {
+                    commentIds[j] = ids.nextId();
+                    Long parentId = null;
+                    if (j > 0 && random.nextDouble() < REPLY_RATIO) {
+                        int parent = random.nextInt(j);
+                        if (depths[parent] < MAX_COMMENT_DEPTH) {
+                            parentId = commentIds[parent];
+                            depths[j] = depths[parent] + 1;
+                        }
+                    }
+                    LocalDateTime writtenAt = toDateTime(times[j]);
+
+                    statement.setLong(1, commentIds[j]);
+                    statement.setString(2, KoreanText.paragraph(random, 1, 2));
+                    statement.setLong(3, postIds[p]);
+                    statement.setLong(4, userIds[userByRank[userActivity.sample(random)]]);
+                    statement.setObject(5, parentId, Types.BIGINT);
+                    statement.setObject(6, writtenAt);
+                    statement.setObject(7, writtenAt);
+                    writer.add(0);
+                    writer.endRow();
+                }
+            }
+        }
+    }
+
+    /**
+     * 북마크 (활동량이 많은 사용자가 인기 게시글을 주로 북마크, 사용자 안에서 중복 제거)
+     */
+    private void insertBookmarks(Connection connection, long[] postIds, long[] postCreatedAt,
+                                 long[] userIds, long[] userCreatedAt,
+                                 ZipfDistribution userActivity, int[] userByRank,
+                                 ZipfDistribution postPopularity, int[] postByRank) throws SQLException {
+        int[] bookmarkCounts = new int[USERS];
+        for (int i = 0; i < BOOKMARKS; i++) {
+            bookmarkCounts[userByRank[userActivity.sample(random)]]++;
+        }
+
+        try (BatchWriter writer = new BatchWriter(connection, "bookmarks", INSERT_BOOKMARK)) {
+            PreparedStatement statement = writer.statement(0);
+            Set<Integer> chosen = new HashSet<>();
+            for (int u = 0; u < USERS; u++) {
+                int count = Math.min(bookmarkCounts[u], POSTS);
+                chosen.clear();
+                // 상위 게시글에 몰려 중복이 많으면 시도 횟수 안에서 가능한 만큼만
+                for (int attempt = 0; chosen.size() < count && attempt < count * 5; attempt++) {
+                    int p = postByRank[postPopularity.sample(random)];
+                    if (!chosen.add(p)) {
+                        continue;
+                    }
+                    LocalDateTime bookmarkedAt = toDateTime(between(Math.max(postCreatedAt[p], userCreatedAt[u]), now));
+                    statement.setLong(1, ids.nextId());
+                    statement.setLong(2, userIds[u]);
+                    statement.setLong(3, postIds[p]);
+                    statement.setObject(4, bookmarkedAt);
+                    statement.setObject(5, bookmarkedAt);
+                    writer.add(0);
+                    writer.endRow();
+                }
+            }
+        }
+    }
+
+    /**
+     * 북마크 수 / 카테고리 누적 카운터를 실제 데이터로 맞추고 인덱스 통계 갱신
+     */
+    private void rebuildDerivedData(Connection connection) throws SQLException {
+        long startTime = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("""
+                    UPDATE posts p
+                        JOIN (SELECT post_id, COUNT(*) AS cnt FROM bookmarks GROUP BY post_id) b ON b.post_id = p.id
+                    SET p.bookmark_count = b.cnt""");
+            statement.executeUpdate("""
+                    UPDATE categories c
+                    SET c.post_count     = (SELECT COUNT(*) FROM posts p WHERE p.category_id = c.id AND p.deleted = false),
+                        c.comment_count  = (SELECT COUNT(*)
+                                            FROM comments cm
+                                                     JOIN posts p ON p.id = cm.post_id
+                                            WHERE p.category_id = c.id AND p.deleted = false AND cm.deleted = false),
+                        c.view_count     = (SELECT COALESCE(SUM(p.view_count), 0) FROM posts p WHERE p.category_id = c.id AND p.deleted = false),
+                        c.bookmark_count = (SELECT COALESCE(SUM(p.bookmark_count), 0) FROM posts p WHERE p.category_id = c.id AND p.deleted = false)""");
+            statement.execute("ANALYZE TABLE users, posts, post_contents, comments, bookmarks");
+        }
+        report.add(String.format("%-14s %12s %10.1f %12s", "derived", "-", (System.nanoTime() - startTime) / 1e9, "-"));
+    }
+
+    /**
+     * 구간 [start, now) 안의 시각을 정렬해서 반환 (ID 발급 순서와 작성 시각 순서를 맞추기 위함)
+     */
+    private long[] sortedTimes(int count, long start) {
+        long[] times = new long[count];
+        for (int i = 0; i < count; i++) {
+            times[i] = between(start, now);
+        }
+        Arrays.sort(times);
+        return times;
+    }
+
+    private long between(long start, long end) {
+        return start + (long) (random.nextDouble() * Math.max(1, end - start));
+    }
+
+    private static int[] invert(int[] permutation) {
+        int[] inverse = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            inverse[permutation[i]] = i;
+        }
+        return inverse;
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 여러 INSERT 문을 같은 행 단위로 모아 순서대로 배치 실행 + 커밋 (부모 테이블이 먼저 실행됨)
+     */
+    private class BatchWriter implements AutoCloseable {
+
+        private final Connection connection;
+        private final String table;
+        private final PreparedStatement[] statements;
+        private final long startTime = System.nanoTime();
+        private int pending;
+        private long rows;
+
+        BatchWriter(Connection connection, String table, String... sqls) throws SQLException {
+            this.connection = connection;
+            this.table = table;
+            this.statements = new PreparedStatement[sqls.length];
+            for (int i = 0; i < sqls.length; i++) {
+                statements[i] = connection.prepareStatement(sqls[i]);
+            }
+        }
+
+        PreparedStatement statement(int index) {
+            return statements[index];
+        }
+
+        void add(int index) throws SQLException {
+            statements[index].addBatch();
+        }
+
+        void endRow() throws SQLException {
+            rows++;
+            if (++pending >= BATCH_SIZE) {
+                flush();
+            }
+            if (rows % 100_000 == 0) {
+                System.out.printf("%s: %,d rows (%.0f rows/s)%n", table, rows, rows / elapsedSeconds());
+            }
+        }
+
+        private void flush() throws SQLException {
+            for (PreparedStatement statement : statements) {
+                statement.executeBatch();
+            }
+            connection.commit();
+            pending = 0;
+        }
+
+        private double elapsedSeconds() {
+            return Math.max(1e-9, (System.nanoTime() - startTime) / 1e9);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (pending > 0) {
+                    flush();
+                }
+            } finally {
+                for (PreparedStatement statement : statements) {
+                    statement.close();
+                }
+            }
+            report.add(String.format("%-14s %,12d %10.1f %,12.0f", table, rows, elapsedSeconds(), rows / elapsedSeconds()));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.beboard.loadtest;
+
+import com.beboard.BeBoardApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플랫폼 스레드 모드 vs 가상 스레드 모드 벤치마크
+ *
+ * 같은 애플리케이션을 두 모드로 차례대로 띄운 뒤 동일한 동시 요청 부하를 걸어
+ * 처리량(req/s)과 p50/p99 지연을 비교합니다. 로컬 MariaDB/Redis 가 필요하며
+ * 가상 스레드 모드는 Java 21 툴체인에서만 의미가 있습니다.
+ *
+ * ./gradlew threadModeBenchmark -PjavaVersion=21 -Dbenchmark.concurrency=400 -Dbenchmark.seconds=30
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("스레드 모드 벤치마크")
+class ThreadModeBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 20);
+    private static final String PATH = System.getProperty("benchmark.path", "/api/posts?page=0&size=20&sort=newest");
+
+    @Test
+    @DisplayName("처리량과 p99 지연 비교")
+    void compareThreadModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%-10s %12s %10s %10s %8s%n", "mode", "throughput", "p50(ms)", "p99(ms)", "errors");
+        System.out.println(platform);
+        System.out.println(virtual);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BeBoardApplication.class)
+                .profiles(System.getProperty("benchmark.profile", "local"))
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "logging.level.com.beboard=WARN")
+                .run()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + PATH);
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+            // 워밍업
+            for (int i = 0; i < 200; i++) {
+                client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+            }
+
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger errors = new AtomicInteger();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+
+            ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                });
+            }
+            workers.shutdown();
+            workers.awaitTermination(SECONDS + 30L, TimeUnit.SECONDS);
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return new Result(virtualThreads ? "virtual" : "platform",
+                    (double) sorted.size() / SECONDS,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    errors.get());
+        }
+    }
+
+    private static double percentile(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private record Result(String mode, double throughput, double p50, double p99, int errors) {
+        @Override
+        public String toString() {
+            return String.format("%-10s %10.1f/s %10.2f %10.2f %8d", mode, throughput, p50, p99, errors);
+        }
+    }
+}
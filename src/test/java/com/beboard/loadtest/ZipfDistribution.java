@@ -0,0 +1,69 @@
+package com.beboard.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf 분포 표본 추출 (순위 k 의 확률이 1 / k^s 에 비례)
+ *
+ * 게시글 조회 / 댓글 / 북마크, 사용자 작성량처럼 소수가 대부분을 차지하는 쏠림을 재현합니다.
+ * 누적 분포를 미리 계산해 두고 이진 탐색하므로 원소 수만큼의 double 배열을 사용합니다 (200만 개 약 16MB).
+ */
+class ZipfDistribution {
+
+    private final double exponent;
+    private final double[] cumulative;
+
+    ZipfDistribution(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("원소 수는 1 이상이어야 합니다: " + size);
+        }
+        this.exponent = exponent;
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += weight(rank);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    /**
+     * 순위 표본 (0 이 가장 많이 뽑힘)
+     */
+    int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    /**
+     * 순위의 상대 가중치 (1위 = 1.0)
+     */
+    double weight(int rank) {
+        return 1.0 / Math.pow(rank + 1, exponent);
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+
+    /**
+     * 순위 -> 원소 위치 무작위 배정 (인기 순위가 생성 순서와 겹치지 않도록)
+     */
+    static int[] shuffledRanks(int size, Random random) {
+        int[] ranks = new int[size];
+        for (int i = 0; i < size; i++) {
+            ranks[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = swap;
+        }
+        return ranks;
+    }
+}
@@ -19,7 +19,7 @@ import static org.assertj.core.api.Assertions.*;
  * 실제 데이터베이스 없이 JPA 기능을 테스트합니다.
  * 커스텀 쿼리 메서드들의 정확성을 검증합니다.
  */
-@DataJpaTest
+@DataJpaTest(properties = "id.node-id=0")
 @DisplayName("CategoryRepository 테스트")
 class CategoryRepositoryTest {
 
@@ -0,0 +1,202 @@
+package com.beboard.repository;
+
+import com.beboard.support.DatabaseCleaner;
+import com.beboard.support.MariaDbJpaTest;
+import com.beboard.support.QueryCount;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Flyway 인덱스 마이그레이션 검증
+ *
+ * 실제 MariaDB 컨테이너에 전체 Flyway 마이그레이션(V1~V9)을 적용하고 데이터를 채운 뒤,
+ * 리포지토리 메서드를 실행해 Hibernate 가 만든 SQL 을 SqlStatementCapture 로 캡처하고
+ * 그 SQL 을 그대로 EXPLAIN 하여 의도한 인덱스를 사용하는지 확인합니다.
+ * JPQL / 정렬 / 페이징이 바뀌어 생성 SQL 이 인덱스를 벗어나면 이 테스트가 실패합니다.
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.beboard.support.SqlStatementCapture")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("쿼리 인덱스 사용 테스트")
+class QueryIndexUsageTest extends MariaDbJpaTest {
+
+    private static final Sort NEWEST = Sort.by(Sort.Order.desc("createdAt"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @BeforeAll
+    void seed() {
+        DatabaseCleaner.clear(jdbcTemplate);
+        // MariaDB 시퀀스 엔진(seq_1_to_N)으로 대량 데이터 생성
+        jdbcTemplate.update("""
+                INSERT INTO users (email, nickname, password, role, status, active, deleted, failed_login_attempts, created_at)
+                SELECT CONCAT('user', seq, '@test.com'), CONCAT('user', seq), 'password', 'USER', 'ACTIVE', 1, 0, 0, NOW(6)
+                FROM seq_1_to_200""");
+        jdbcTemplate.update("""
+                INSERT INTO categories (name, active, display_order, created_at)
+                SELECT CONCAT('카테고리', seq), seq % 5 <> 0, seq, NOW(6)
+                FROM seq_1_to_10""");
+        jdbcTemplate.update("""
+                INSERT INTO posts (title, excerpt, view_count, category_id, author_id, deleted, created_at)
+                SELECT CONCAT('제목', seq), '본문', seq % 1000, seq % 10 + 1, seq % 200 + 1, seq % 10 = 0,
+                       NOW(6) - INTERVAL seq MINUTE
+                FROM seq_1_to_20000""");
+        jdbcTemplate.update("""
+                INSERT INTO comments (content, post_id, commenter_id, parent_id, deleted, created_at)
+                SELECT '댓글', seq % 20000 + 1, seq % 200 + 1, NULL, seq % 20 = 0, NOW(6) - INTERVAL seq SECOND
+                FROM seq_1_to_40000""");
+        jdbcTemplate.update("""
+                INSERT INTO bookmarks (user_id, post_id, created_at)
+                SELECT seq % 200 + 1, seq, NOW(6)
+                FROM seq_1_to_20000""");
+        jdbcTemplate.execute("ANALYZE TABLE users, categories, posts, comments, bookmarks");
+    }
+
+    @Test
+    @DisplayName("전체 게시글 최신순 조회 - (deleted, created_at)")
+    void latestPosts() {
+        String sql = capture(() -> postRepository.findByDeletedFalse(PageRequest.of(0, 20, NEWEST)), this::isDataQuery);
+
+        assertThat(indexUsedBy(sql, 20))
+                .isEqualTo("idx_posts_deleted_created");
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 - (deleted, view_count, created_at)")
+    void popularPosts() {
+        String sql = capture(() -> postRepository.findPopularPosts(PageRequest.of(0, 10)), this::isDataQuery);
+
+        assertThat(indexUsedBy(sql, 10))
+                .isEqualTo("idx_posts_deleted_views");
+    }
+
+    @Test
+    @DisplayName("카테고리별 게시글 최신순 조회 - (category_id, deleted, created_at)")
+    void postsByCategory() {
+        String sql = capture(() -> postRepository.findByCategoryIdAndNotDeleted(3L, PageRequest.of(0, 20, NEWEST)),
+                this::isDataQuery);
+
+        assertThat(indexUsedBy(sql, 3L, 20))
+                .isEqualTo("idx_posts_category_deleted_created");
+    }
+
+    @Test
+    @DisplayName("카테고리별 게시글 수 - 커버링 인덱스")
+    void countPostsByCategory() {
+        // 페이지가 가득 차야 Spring Data 가 개수 쿼리를 실행함
+        String sql = capture(() -> postRepository.findByCategoryIdAndNotDeleted(3L, PageRequest.of(0, 20, NEWEST)),
+                this::isCountQuery);
+
+        Map<String, Object> plan = explain(sql, 3L).get(0);
+
+        assertThat(plan.get("key")).asString().startsWith("idx_posts_category_deleted");
+        assertThat(plan.get("Extra")).asString().contains("Using index");
+    }
+
+    @Test
+    @DisplayName("작성자별 게시글 조회 - (author_id, deleted, created_at)")
+    void postsByAuthor() {
+        String sql = capture(() -> postRepository.findByAuthorIdAndNotDeleted(7L, PageRequest.of(0, 20, NEWEST)),
+                this::isDataQuery);
+
+        assertThat(indexUsedBy(sql, 7L, 20))
+                .isEqualTo("idx_posts_author_deleted_created");
+    }
+
+    @Test
+    @DisplayName("게시글의 상위 댓글 조회 - (post_id, parent_id, deleted, created_at)")
+    void rootCommentsOfPost() {
+        String sql = capture(() -> commentRepository.findByPostIdAndParentIsNullAndNotDeleted(42L, PageRequest.of(0, 20)),
+                this::isDataQuery);
+
+        assertThat(indexUsedBy(sql, 42L, 20))
+                .isEqualTo("idx_comments_post_parent_deleted_created");
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 수(@Formula) - (post_id, deleted)")
+    void commentCountFormula() {
+        // 게시글 조회 SQL 에 포함된 @Formula 서브쿼리의 실행 계획
+        String sql = capture(() -> postRepository.findByIdAndNotDeleted(42L), this::isDataQuery);
+
+        Map<String, Object> plan = explain(sql, 42L).stream()
+                .filter(row -> String.valueOf(row.get("select_type")).contains("SUBQUERY"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("@Formula 서브쿼리가 실행 계획에 없습니다.\n" + sql));
+
+        assertThat(plan.get("key")).isEqualTo("idx_comments_post_deleted");
+        assertThat(plan.get("Extra")).asString().contains("Using index");
+    }
+
+    @Test
+    @DisplayName("게시글 북마크 여부 / 북마크 수 - 북마크 인덱스")
+    void bookmarkLookups() {
+        String bookmarkedSql = capture(() -> bookmarkRepository.findPostIdsByUserIdAndPostIdIn(43L, List.of(42L, 43L, 243L)),
+                this::isDataQuery);
+        String countSql = capture(() -> bookmarkRepository.countByPostId(42L), this::isCountQuery);
+
+        assertThat(indexUsedBy(bookmarkedSql, 43L, 42L, 43L, 243L))
+                .isIn("uk_bookmarks_user_post", "idx_bookmarks_post_user");
+        assertThat(indexUsedBy(countSql, 42L))
+                .isEqualTo("idx_bookmarks_post_user");
+    }
+
+    /**
+     * 리포지토리 호출 중 Hibernate 가 실행한 SQL 중 조건에 맞는 첫 SQL
+     */
+    private String capture(Runnable query, Predicate<String> filter) {
+        List<String> statements = QueryCount.capture(query).getStatements();
+        return statements.stream()
+                .filter(filter)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("캡처된 SQL 중 대상 쿼리가 없습니다.\n" + statements));
+    }
+
+    private boolean isDataQuery(String sql) {
+        return !isCountQuery(sql);
+    }
+
+    private boolean isCountQuery(String sql) {
+        return sql.toLowerCase(Locale.ROOT).startsWith("select count(");
+    }
+
+    /**
+     * 첫 번째 실행 계획 행의 인덱스 (바인딩 값은 SQL 의 ? 순서대로, LIMIT 포함)
+     */
+    private String indexUsedBy(String sql, Object... args) {
+        return (String) explain(sql, args).get(0).get("key");
+    }
+
+    private List<Map<String, Object>> explain(String sql, Object... args) {
+        assertThat(sql.chars().filter(ch -> ch == '?').count())
+                .as("바인딩 값 수%n%s", sql)
+                .isEqualTo(args.length);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        assertThat(plan).isNotEmpty();
+        return plan;
+    }
+}
@@ -0,0 +1,137 @@
+package com.beboard.service;
+
+import com.beboard.entity.Category;
+import com.beboard.entity.Post;
+import com.beboard.entity.User;
+import com.beboard.repository.BookmarkRepository;
+import com.beboard.repository.CategoryRepository;
+import com.beboard.repository.PostRepository;
+import com.beboard.repository.UserRepository;
+import com.beboard.support.BoardServiceJpaTest;
+import com.beboard.support.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 북마크 동시 요청 테스트
+ *
+ * 같은 사용자가 같은 게시글에 북마크 요청을 동시에 여러 번 보내도
+ * 북마크 행과 게시글 북마크 수가 정확히 1이 되는지 실제 MariaDB 에서 검증합니다.
+ */
+@DisplayName("북마크 동시성 테스트")
+class BookmarkConcurrencyTest extends BoardServiceJpaTest {
+
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseCleaner.clear(jdbcTemplate);
+
+        user = userRepository.save(User.builder()
+                .email("bookmark@test.com")
+                .nickname("북마크유저")
+                .password("password")
+                .build());
+        Category category = categoryRepository.save(Category.builder()
+                .name("자유게시판")
+                .displayOrder(1)
+                .build());
+        post = postRepository.save(Post.builder()
+                .author(user)
+                .category(category)
+                .title("동시성 테스트")
+                .content("본문")
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 북마크 요청을 동시에 보내면 한 번만 추가된다")
+    void addBookmark_ConcurrentDuplicates() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return postService.addBookmark(post.getId(), user.getId());
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        int added = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                added++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(added).isEqualTo(1);
+        assertThat(bookmarkRepository.countByPostId(post.getId())).isEqualTo(1);
+        assertThat(bookmarkCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("북마크 추가/제거 시 게시글 북마크 수가 함께 갱신된다")
+    void bookmarkCount_KeptInStep() {
+        // when & then
+        assertThat(postService.addBookmark(post.getId(), user.getId())).isTrue();
+        assertThat(postService.addBookmark(post.getId(), user.getId())).isFalse();
+        assertThat(bookmarkCount()).isEqualTo(1);
+
+        assertThat(postService.removeBookmark(post.getId(), user.getId())).isTrue();
+        assertThat(postService.removeBookmark(post.getId(), user.getId())).isFalse();
+        assertThat(bookmarkCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글 북마크 시 예외 발생")
+    void addBookmark_PostNotFound() {
+        // when & then
+        assertThatThrownBy(() -> postService.addBookmark(Long.MAX_VALUE, user.getId()))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    private int bookmarkCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT bookmark_count FROM posts WHERE id = ?", Integer.class, post.getId());
+    }
+}
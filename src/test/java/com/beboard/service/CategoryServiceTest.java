@@ -31,6 +31,15 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private CategoryPostCountService categoryPostCountService;
+
+    @Mock
+    private CategoryStatisticsService categoryStatisticsService;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -72,6 +81,8 @@ class CategoryServiceTest {
         List<Category> categories = Arrays.asList(testCategory);
         given(categoryRepository.findByActiveOrderByDisplayOrderAsc(true))
                 .willReturn(categories);
+        given(categoryPostCountService.getCounts(List.of(1L)))
+                .willReturn(Map.of(1L, 7L));
 
         // when
         List<CategoryDto.Response> result = categoryService.getAllCategories();
@@ -79,9 +90,10 @@ class CategoryServiceTest {
         // then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("자유게시판");
+        assertThat(result.get(0).getPostCount()).isEqualTo(7L);
 
         verify(categoryRepository).findByActiveOrderByDisplayOrderAsc(true);
-        verify(categoryRepository).countPostsByCategories();
+        verify(categoryPostCountService).getCounts(List.of(1L));
     }
 
     @Test
@@ -92,7 +104,7 @@ class CategoryServiceTest {
         Long categoryId = 1L;
         given(categoryRepository.findById(categoryId))
                 .willReturn(Optional.of(testCategory));
-        given(categoryRepository.countPostsByCategoryId(categoryId))
+        given(categoryPostCountService.getCount(categoryId))
                 .willReturn(5L);
 
         // when
@@ -104,7 +116,7 @@ class CategoryServiceTest {
         assertThat(result.getPostCount()).isEqualTo(5L);
 
         verify(categoryRepository).findById(categoryId);
-        verify(categoryRepository).countPostsByCategoryId(categoryId);
+        verify(categoryPostCountService).getCount(categoryId);
     }
 
     @Test
@@ -122,7 +134,7 @@ class CategoryServiceTest {
                 .hasMessageContaining("카테고리를 찾을 수 없습니다. ID: " + categoryId);
 
         verify(categoryRepository).findById(categoryId);
-        verify(categoryRepository, never()).countPostsByCategoryId(categoryId);
+        verify(categoryPostCountService, never()).getCount(categoryId);
     }
 
     @Test
@@ -175,7 +187,7 @@ class CategoryServiceTest {
                 .willReturn(false);
         given(categoryRepository.save(testCategory))
                 .willReturn(testCategory);
-        given(categoryRepository.countPostsByCategoryId(categoryId))
+        given(categoryPostCountService.getCount(categoryId))
                 .willReturn(3L);
 
         // when
@@ -197,8 +209,6 @@ class CategoryServiceTest {
         Long categoryId = 1L;
         given(categoryRepository.findById(categoryId))
                 .willReturn(Optional.of(testCategory));
-        given(categoryRepository.countPostsByCategoryId(categoryId))
-                .willReturn(0L);
 
         // when
         assertThatCode(() -> categoryService.deleteCategory(categoryId))
@@ -206,8 +216,8 @@ class CategoryServiceTest {
 
         // then
         verify(categoryRepository).findById(categoryId);
-        verify(categoryRepository).countPostsByCategoryId(categoryId);
         verify(categoryRepository).delete(testCategory);
+        verify(categoryPostCountService).remove(categoryId);
     }
 
     @Test
@@ -217,8 +227,8 @@ class CategoryServiceTest {
         Long categoryId = 1L;
         given(categoryRepository.findById(categoryId))
                 .willReturn(Optional.of(testCategory));
-        given(categoryRepository.countPostsByCategoryId(categoryId))
-                .willReturn(5L);
+        given(categoryRepository.findPostCountById(categoryId))
+                .willReturn(Optional.of(5L));
 
         // when & then
         assertThatThrownBy(() -> categoryService.deleteCategory(categoryId))
@@ -226,7 +236,6 @@ class CategoryServiceTest {
                 .hasMessageContaining("게시글이 존재하여 삭제할 수 없습니다");
 
         verify(categoryRepository).findById(categoryId);
-        verify(categoryRepository).countPostsByCategoryId(categoryId);
         verify(categoryRepository, never()).delete(any());
     }
 
@@ -237,7 +246,7 @@ class CategoryServiceTest {
         Long categoryId = 1L;
         given(categoryRepository.existsById(categoryId))
                 .willReturn(true);
-        given(categoryRepository.countPostsByCategoryId(categoryId))
+        given(categoryPostCountService.getCount(categoryId))
                 .willReturn(15L);
 
         // when
@@ -247,7 +256,7 @@ class CategoryServiceTest {
         assertThat(result).isEqualTo(15L);
 
         verify(categoryRepository).existsById(categoryId);
-        verify(categoryRepository).countPostsByCategoryId(categoryId);
+        verify(categoryPostCountService).getCount(categoryId);
     }
 
     @Test
@@ -264,6 +273,6 @@ class CategoryServiceTest {
                 .hasMessageContaining("카테고리를 찾을 수 없습니다");
 
         verify(categoryRepository).existsById(categoryId);
-        verify(categoryRepository, never()).countPostsByCategoryId(any());
+        verify(categoryPostCountService, never()).getCount(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.beboard.service;
+
+import com.beboard.util.PerformanceMetrics;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FlightRecorderService 테스트")
+class FlightRecorderServiceTest {
+
+    private final FlightRecorderService flightRecorderService = new FlightRecorderService(1, 50);
+
+    @Test
+    @DisplayName("녹화 중 기록된 캐시 미스 이벤트가 .jfr 파일에 포함됨")
+    void recordIncludesApplicationEvents(@TempDir Path tempDir) throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AtomicBoolean done = new AtomicBoolean();
+        // 녹화 시작 시점과 관계없이 녹화 구간 안에 이벤트가 생기도록 끝날 때까지 반복
+        CompletableFuture<Void> emitter = CompletableFuture.runAsync(() -> {
+            for (int i = 0; !done.get(); i++) {
+                PerformanceMetrics.recordCacheMiss("category", i);
+                sleepQuietly(10);
+            }
+        });
+
+        // when (최대 녹화 시간 1초로 보정됨)
+        flightRecorderService.record(FlightRecorderService.Preset.CPU, 5, out);
+        done.set(true);
+        emitter.join();
+
+        // then
+        Path file = Files.write(tempDir.resolve("recording.jfr"), out.toByteArray());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.beboard.CacheMiss"))
+                .isNotEmpty()
+                .allSatisfy(event -> assertThat(event.getString("cacheName")).isEqualTo("category"));
+    }
+
+    @Test
+    @DisplayName("환경 변수 / 시스템 속성 / JVM 인자 이벤트는 .jfr 파일에 포함되지 않음")
+    void recordExcludesSensitiveEvents(@TempDir Path tempDir) throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        flightRecorderService.record(FlightRecorderService.Preset.CPU, 1, out);
+
+        // then
+        Path file = Files.write(tempDir.resolve("recording.jfr"), out.toByteArray());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).isNotEmpty();
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+    }
+
+    @Test
+    @DisplayName("이미 녹화 중이면 출력 없이 예외 발생")
+    void rejectConcurrentRecording() throws Exception {
+        // given - 첫 녹화가 결과를 복사하는 동안(녹화 중 상태 유지) 멈춰 둠
+        CountDownLatch copying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream blocking = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                copying.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+        };
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                flightRecorderService.record(FlightRecorderService.Preset.LOCKS, 1, blocking);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(copying.await(10, TimeUnit.SECONDS)).isTrue();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> flightRecorderService.record(FlightRecorderService.Preset.CPU, 1, out))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(out.size()).isZero();
+        } finally {
+            release.countDown();
+        }
+        first.get(10, TimeUnit.SECONDS);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
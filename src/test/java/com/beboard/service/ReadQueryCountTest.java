@@ -0,0 +1,250 @@
+package com.beboard.service;
+
+import com.beboard.dto.CommentDto;
+import com.beboard.dto.PostDto;
+import com.beboard.entity.Post;
+import com.beboard.repository.*;
+import com.beboard.support.BoardFixture;
+import com.beboard.support.BoardServiceJpaTest;
+import com.beboard.support.QueryCount;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 게시글 / 댓글 조회 SQL 수 회귀 테스트
+ *
+ * 결과 검증만으로는 DTO 변환 중 지연 로딩(PostDto.ListResponse.from, CommentDto.Response.from)이
+ * 행마다 쿼리를 만드는 N+1 을 잡을 수 없으므로, 조회 메서드별 SELECT 수 상한을 고정합니다.
+ * 상한은 2차 캐시를 비운 상태(가장 많은 SQL 이 나가는 경우) 기준이며 데이터 양과 무관해야 합니다.
+ * - 사용자 / 카테고리 / 자식 댓글(단계별)은 default_batch_fetch_size 로 IN 쿼리 한 번씩
+ * - 작성자 수가 다른 두 데이터에서 SQL 수가 같은지도 확인 (작성자마다 나가는 쿼리 검출)
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.beboard.support.SqlStatementCapture")
+@DisplayName("조회 SQL 수 테스트")
+class ReadQueryCountTest extends BoardServiceJpaTest {
+
+    // 사용자 IN 조회
+    private static final int USER_SELECTS = 1;
+    // 한 페이지(20건)의 작성자가 모두 다르도록 하는 사용자 수
+    private static final int MANY_AUTHORS = 20;
+    // 게시글 목록 + 전체 개수 + 작성자 + 카테고리
+    private static final int LIST_SELECTS = 2 + USER_SELECTS + 1;
+    // 댓글 목록 + 전체 개수 + 작성자 + 단계(3)마다 자식 댓글
+    private static final int COMMENT_TREE_SELECTS = 2 + USER_SELECTS + 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostContentRepository postContentRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private BoardFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new BoardFixture(userRepository, categoryRepository, postRepository, postContentRepository,
+                commentRepository, bookmarkRepository, jdbcTemplate).seed();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 필터 없음")
+    void getPosts() {
+        AtomicReference<Page<PostDto.ListResponse>> result = new AtomicReference<>();
+
+        measure(() -> result.set(postService.getPosts(PageRequest.of(0, 20), null, "newest", null, null)))
+                .assertSelectCountAtMost(LIST_SELECTS)
+                .assertNoWrites();
+
+        assertThat(result.get().getContent()).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 카테고리 / 검색어 필터")
+    void getPosts_Filtered() {
+        Long categoryId = fixture.getCategories().get(0).getId();
+
+        measure(() -> assertThat(postService.getPosts(PageRequest.of(0, 10), categoryId, "popular", null, null)
+                .getContent()).hasSize(10))
+                .assertSelectCountAtMost(LIST_SELECTS)
+                .assertNoWrites();
+        measure(() -> assertThat(postService.getPosts(PageRequest.of(0, 10), null, "newest", BoardFixture.SEARCH_TERM, null)
+                .getContent()).isNotEmpty())
+                .assertSelectCountAtMost(LIST_SELECTS)
+                .assertNoWrites();
+        measure(() -> assertThat(postService.getPosts(PageRequest.of(0, 10), categoryId, "newest", BoardFixture.SEARCH_TERM, null)
+                .getContent()).isNotEmpty())
+                .assertSelectCountAtMost(LIST_SELECTS)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("작성자별 게시글 목록 조회")
+    void getPostsByAuthor() {
+        Long authorId = fixture.getReader().getId();
+
+        // 사용자 존재 확인 + 보관된 게시글 수 2건 추가
+        measure(() -> assertThat(postService.getPostsByAuthor(authorId, "newest", PageRequest.of(0, 5))
+                .getContent()).hasSize(5))
+                .assertSelectCountAtMost(LIST_SELECTS + 2)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("북마크한 게시글 목록 조회")
+    void getBookmarkedPosts() {
+        Long readerId = fixture.getReader().getId();
+
+        // 사용자 존재 확인 1건 추가
+        measure(() -> assertThat(postService.getBookmarkedPosts(readerId, "newest", PageRequest.of(0, 10))
+                .getContent()).hasSize(10))
+                .assertSelectCountAtMost(LIST_SELECTS + 1)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회")
+    void getPost() {
+        Long postId = fixture.getCommentedPost().getId();
+        AtomicReference<PostDto.DetailResponse> result = new AtomicReference<>();
+
+        // 게시글 + 본문 + 카테고리 + 작성자
+        measure(() -> result.set(postService.getPost(postId, null)))
+                .assertSelectCountAtMost(4)
+                .assertNoWrites();
+
+        assertThat(result.get().getContent()).isNotBlank();
+        assertThat(result.get().getCommentCount()).isEqualTo(BoardFixture.ROOT_COMMENT_COUNT * 5);
+    }
+
+    @Test
+    @DisplayName("인기 / 북마크 상위 게시글 조회")
+    void getRankedPosts() {
+        List<Long> rankedIds = fixture.getPosts().stream().limit(10).map(Post::getId).toList();
+        given(bookmarkRankingService.getTopPostIds(10)).willReturn(rankedIds);
+
+        measure(() -> assertThat(postService.getPopularPosts(10).getContent()).hasSize(10))
+                .assertSelectCountAtMost(LIST_SELECTS)
+                .assertNoWrites();
+        // 개수 조회 없음
+        measure(() -> assertThat(postService.getMostBookmarkedPosts(10, null)).hasSize(10))
+                .assertSelectCountAtMost(LIST_SELECTS - 1)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("최근 게시글 수 조회")
+    void countRecentPosts() {
+        measure(() -> assertThat(postService.countRecentPosts(LocalDateTime.now().minusDays(1)))
+                .isEqualTo(BoardFixture.POST_COUNT))
+                .assertSelectCount(1)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 트리 조회")
+    void getCommentsByPostId() {
+        Long postId = fixture.getCommentedPost().getId();
+        AtomicReference<Page<CommentDto.Response>> result = new AtomicReference<>();
+
+        // 게시글 존재 확인 1건 추가
+        measure(() -> result.set(commentService.getCommentsByPostId(postId, PageRequest.of(0, 20))))
+                .assertSelectCountAtMost(COMMENT_TREE_SELECTS + 1)
+                .assertNoWrites();
+
+        List<CommentDto.Response> roots = result.get().getContent();
+        assertThat(roots).hasSize(BoardFixture.ROOT_COMMENT_COUNT);
+        assertThat(roots).allSatisfy(root -> {
+            assertThat(root.getChildren()).hasSize(2);
+            assertThat(root.getChildren()).allSatisfy(reply -> assertThat(reply.getChildren()).hasSize(1));
+        });
+    }
+
+    @Test
+    @DisplayName("내 댓글 목록 조회")
+    void getMyComments() {
+        Long userId = fixture.getReader().getId();
+
+        measure(() -> assertThat(commentService.getMyComments(PageRequest.of(0, 10), userId).getContent())
+                .hasSize(10))
+                .assertSelectCountAtMost(COMMENT_TREE_SELECTS)
+                .assertNoWrites();
+    }
+
+    @Test
+    @DisplayName("SQL 수는 작성자 수와 무관")
+    void selectCountIndependentOfAuthors() {
+        given(bookmarkRankingService.getTopPostIds(10))
+                .willAnswer(invocation -> fixture.getPosts().stream().limit(10).map(Post::getId).toList());
+        // 데이터 모양(페이지 / 댓글 트리)이 사용자 수와 무관한 조회만 비교
+        Map<String, Runnable> reads = new LinkedHashMap<>();
+        reads.put("getPosts", () -> postService.getPosts(PageRequest.of(0, 20), null, "newest", null, null));
+        reads.put("getPostsByAuthor", () -> postService.getPostsByAuthor(fixture.getReader().getId(), "newest", PageRequest.of(0, 20)));
+        reads.put("getBookmarkedPosts", () -> postService.getBookmarkedPosts(fixture.getReader().getId(), "newest", PageRequest.of(0, 20)));
+        reads.put("getPopularPosts", () -> postService.getPopularPosts(10));
+        reads.put("getPost", () -> postService.getPost(fixture.getCommentedPost().getId(), null));
+        reads.put("getCommentsByPostId", () -> commentService.getCommentsByPostId(fixture.getCommentedPost().getId(), PageRequest.of(0, 20)));
+
+        // given - 작성자 3명
+        Map<String, Long> fewAuthors = selectCounts(reads);
+
+        // when - 한 페이지의 작성자가 모두 다른 데이터
+        fixture.seed(MANY_AUTHORS);
+        Map<String, Long> manyAuthors = selectCounts(reads);
+
+        // then
+        assertThat(manyAuthors).isEqualTo(fewAuthors);
+    }
+
+    private Map<String, Long> selectCounts(Map<String, Runnable> reads) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        reads.forEach((name, read) -> counts.put(name, measure(read).getSelectCount()));
+        return counts;
+    }
+
+    private QueryCount measure(Runnable action) {
+        // 2차 캐시에 남은 사용자 / 카테고리 없이 측정
+        entityManagerFactory.getCache().evictAll();
+        return QueryCount.capture(action);
+    }
+}
@@ -0,0 +1,157 @@
+package com.beboard.support;
+
+import com.beboard.entity.*;
+import com.beboard.repository.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회 쿼리 수 테스트용 게시판 데이터
+ *
+ * - 사용자 3명(기본값, seed(int) 로 변경 가능), 카테고리 2개
+ * - 게시글 30건 (작성자 / 카테고리 순환, 5건마다 제목에 "검색" 포함, 본문은 post_contents)
+ * - 첫 게시글에 댓글 10건, 댓글마다 답글 2건, 답글마다 답글 1건 (3단계, 총 50건)
+ * - 첫 사용자가 게시글 12건 북마크
+ * 게시글 / 댓글 수를 한 페이지보다 많게 두어 N+1 이면 SQL 수가 눈에 띄게 늘어나도록 합니다.
+ */
+public class BoardFixture {
+
+    public static final int USER_COUNT = 3;
+    public static final int POST_COUNT = 30;
+    public static final int ROOT_COMMENT_COUNT = 10;
+    public static final int BOOKMARK_COUNT = 12;
+    public static final String SEARCH_TERM = "검색";
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
+    private final CommentRepository commentRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Category> categories = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+
+    public BoardFixture(UserRepository userRepository,
+                        CategoryRepository categoryRepository,
+                        PostRepository postRepository,
+                        PostContentRepository postContentRepository,
+                        CommentRepository commentRepository,
+                        BookmarkRepository bookmarkRepository,
+                        JdbcTemplate jdbcTemplate) {
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.postRepository = postRepository;
+        this.postContentRepository = postContentRepository;
+        this.commentRepository = commentRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 기존 데이터를 지우고 다시 생성
+     */
+    public BoardFixture seed() {
+        return seed(USER_COUNT);
+    }
+
+    /**
+     * 사용자 수를 지정해 다시 생성
+     * 게시글 / 댓글 작성자가 사용자를 순환하므로 사용자 수가 곧 한 페이지의 서로 다른 작성자 수입니다.
+     *
+     * @param userCount 사용자 수
+     */
+    public BoardFixture seed(int userCount) {
+        clear();
+
+        for (int i = 0; i < userCount; i++) {
+            users.add(userRepository.save(User.builder()
+                    .email("fixture" + i + "@test.com")
+                    .nickname("작성자" + i)
+                    .password("password")
+                    .build()));
+        }
+        for (int i = 0; i < 2; i++) {
+            categories.add(categoryRepository.save(Category.builder()
+                    .name("카테고리" + i)
+                    .displayOrder(i + 1)
+                    .build()));
+        }
+        for (int i = 0; i < POST_COUNT; i++) {
+            String title = (i % 5 == 0 ? SEARCH_TERM + " 대상 게시글 " : "게시글 ") + i;
+            String content = "게시글 " + i + " 본문입니다.";
+            Post post = postRepository.save(Post.builder()
+                    .author(users.get(i % users.size()))
+                    .category(categories.get(i % categories.size()))
+                    .title(title)
+                    .content(content)
+                    .build());
+            postContentRepository.save(new PostContent(post, content));
+            posts.add(post);
+        }
+
+        Post commented = getCommentedPost();
+        int sequence = 0;
+        for (int i = 0; i < ROOT_COMMENT_COUNT; i++) {
+            Comment root = saveComment(commented, null, sequence++);
+            for (int j = 0; j < 2; j++) {
+                Comment reply = saveComment(commented, root, sequence++);
+                saveComment(commented, reply, sequence++);
+            }
+        }
+
+        for (int i = 0; i < BOOKMARK_COUNT; i++) {
+            bookmarkRepository.save(Bookmark.builder()
+                    .user(getReader())
+                    .post(posts.get(i))
+                    .build());
+        }
+        return this;
+    }
+
+    public void clear() {
+        DatabaseCleaner.clear(jdbcTemplate);
+        users.clear();
+        categories.clear();
+        posts.clear();
+    }
+
+    private Comment saveComment(Post post, Comment parent, int sequence) {
+        return commentRepository.save(Comment.builder()
+                .content("댓글 " + sequence)
+                .post(post)
+                .commenter(users.get(sequence % users.size()))
+                .parent(parent)
+                .build());
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    public List<Post> getPosts() {
+        return posts;
+    }
+
+    /**
+     * 댓글 트리가 달린 게시글
+     */
+    public Post getCommentedPost() {
+        return posts.get(0);
+    }
+
+    /**
+     * 북마크를 가진 사용자
+     */
+    public User getReader() {
+        return users.get(0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.beboard.support;
+
+import com.beboard.service.*;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * PostService / CommentService 를 실제 MariaDB 위에서 검증하는 테스트 공통 설정
+ *
+ * Redis / 캐시 / 알림 등 DB 밖의 협력 객체는 모두 mock 으로 대체합니다.
+ * 두 서비스에 의존성이 추가되면 여기에만 mock 을 추가합니다.
+ */
+@Import({PostService.class, CommentService.class})
+public abstract class BoardServiceJpaTest extends MariaDbJpaTest {
+
+    @MockitoBean
+    protected BookmarkStateService bookmarkStateService;
+
+    @MockitoBean
+    protected BookmarkRankingService bookmarkRankingService;
+
+    @MockitoBean
+    protected ResourceVersionService resourceVersionService;
+
+    @MockitoBean
+    protected PostListingCache postListingCache;
+
+    @MockitoBean
+    protected PostArchiveService postArchiveService;
+
+    @MockitoBean
+    protected CategoryPostCountService categoryPostCountService;
+
+    @MockitoBean
+    protected CategoryActivityRecorder categoryActivityRecorder;
+
+    @MockitoBean
+    protected NotificationPublisher notificationPublisher;
+
+    @MockitoBean
+    protected NotificationRecipientResolver notificationRecipientResolver;
+}
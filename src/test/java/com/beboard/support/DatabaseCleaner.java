@@ -0,0 +1,46 @@
+package com.beboard.support;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공유 MariaDB 컨테이너의 데이터 초기화
+ *
+ * Flyway 이력을 제외한 모든 테이블을 TRUNCATE 하여 AUTO_INCREMENT 까지 되돌립니다.
+ * 외래 키 검사 해제는 세션 단위이므로 한 커넥션 안에서 실행합니다.
+ */
+public final class DatabaseCleaner {
+
+    private DatabaseCleaner() {
+    }
+
+    public static void clear(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                List<String> tables = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery("""
+                        SELECT table_name FROM information_schema.tables
+                        WHERE table_schema = DATABASE() AND table_type = 'BASE TABLE'
+                          AND table_name <> 'flyway_schema_history'""")) {
+                    while (rs.next()) {
+                        tables.add(rs.getString(1));
+                    }
+                }
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+                try {
+                    for (String table : tables) {
+                        statement.execute("TRUNCATE TABLE `" + table + "`");
+                    }
+                } finally {
+                    statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.beboard.support;
+
+import com.beboard.config.IdGeneratorConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 실제 MariaDB 컨테이너를 쓰는 JPA 슬라이스 테스트 공통 설정
+ *
+ * - Flyway 마이그레이션으로 스키마 생성 (ddl-auto=none), 내장 DB 로 바꾸지 않음
+ * - 테스트 메서드를 트랜잭션으로 감싸지 않음 (동시성 / 커밋 후 동작 검증)
+ * - 컨테이너는 JVM 에서 한 번만 띄워 하위 테스트 클래스가 공유하므로,
+ *   각 테스트는 시작할 때 {@link DatabaseCleaner} 로 데이터를 비웁니다.
+ * 추가 속성은 하위 클래스에 @TestPropertySource 로 선언합니다.
+ * Docker 가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "id.node-id=0"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(IdGeneratorConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MariaDbJpaTest {
+
+    protected static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    static {
+        MARIADB.start();
+    }
+
+    @DynamicPropertySource
+    static void mariaDbProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+        registry.add("spring.datasource.driver-class-name", MARIADB::getDriverClassName);
+    }
+}
@@ -0,0 +1,94 @@
+package com.beboard.support;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행된 SQL 수 검증
+ *
+ * 목록 / 상세 조회의 DTO 변환 중 지연 로딩이 게시글 / 댓글마다 쿼리를 만들면(N+1)
+ * 결과는 같아도 SQL 수가 데이터 양에 비례해 늘어나므로, 조회 메서드별로 상한을 고정해 둡니다.
+ * <pre>
+ * QueryCount.capture(() -> postService.getPosts(...))
+ *         .assertSelectCountAtMost(5)
+ *         .assertNoWrites();
+ * </pre>
+ */
+public class QueryCount {
+
+    private final List<String> statements;
+
+    private QueryCount(List<String> statements) {
+        this.statements = statements;
+    }
+
+    /**
+     * 작업 중 실행된 SQL 캡처 (SqlStatementCapture 가 등록되어 있어야 함)
+     */
+    public static QueryCount capture(Runnable action) {
+        SqlStatementCapture.start();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            SqlStatementCapture.stop();
+            throw e;
+        }
+        return new QueryCount(SqlStatementCapture.stop());
+    }
+
+    public QueryCount assertSelectCountAtMost(int max) {
+        assertThat(count("select"))
+                .as("SELECT 수 (최대 %d건)%n%s", max, describe())
+                .isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public QueryCount assertSelectCount(int expected) {
+        assertThat(count("select"))
+                .as("SELECT 수%n%s", describe())
+                .isEqualTo(expected);
+        return this;
+    }
+
+    /**
+     * 조회 메서드가 INSERT / UPDATE / DELETE 를 실행하지 않았는지 확인
+     */
+    public QueryCount assertNoWrites() {
+        assertThat(count("insert") + count("update") + count("delete") + count("merge"))
+                .as("쓰기 SQL 수%n%s", describe())
+                .isZero();
+        return this;
+    }
+
+    public long getSelectCount() {
+        return count("select");
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    private long count(String type) {
+        return statements.stream().filter(sql -> type.equals(typeOf(sql))).count();
+    }
+
+    private static String typeOf(String sql) {
+        String normalized = sql.strip();
+        // Hibernate 주석(/* ... */) 제거
+        while (normalized.startsWith("/*") && normalized.contains("*/")) {
+            normalized = normalized.substring(normalized.indexOf("*/") + 2).strip();
+        }
+        String keyword = normalized.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+        return keyword.equals("with") || keyword.equals("(") ? "select" : keyword;
+    }
+
+    private String describe() {
+        StringBuilder builder = new StringBuilder("실행된 SQL ").append(statements.size()).append("건");
+        for (int i = 0; i < statements.size(); i++) {
+            builder.append(System.lineSeparator()).append(i + 1).append(". ").append(statements.get(i));
+        }
+        return builder.toString();
+    }
+}
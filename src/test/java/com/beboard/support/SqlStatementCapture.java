@@ -0,0 +1,39 @@
+package com.beboard.support;
+
+import com.beboard.config.metrics.SqlStatementCounter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 SQL 캡처 (StatementInspector)
+ *
+ * 테스트 속성으로 Hibernate 에 등록합니다.
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector=com.beboard.support.SqlStatementCapture
+ * Hibernate 가 인스턴스를 직접 만들므로 캡처 내용은 정적 필드에 보관하고, QueryCount 로만 읽습니다.
+ */
+public class SqlStatementCapture extends SqlStatementCounter {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+    private static volatile boolean recording;
+
+    @Override
+    public String inspect(String sql) {
+        if (recording) {
+            STATEMENTS.add(sql);
+        }
+        return super.inspect(sql);
+    }
+
+    static void start() {
+        STATEMENTS.clear();
+        recording = true;
+    }
+
+    static List<String> stop() {
+        recording = false;
+        List<String> captured = List.copyOf(STATEMENTS);
+        STATEMENTS.clear();
+        return captured;
+    }
+}